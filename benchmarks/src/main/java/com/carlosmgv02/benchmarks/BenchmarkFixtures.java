@@ -0,0 +1,56 @@
+package com.carlosmgv02.benchmarks;
+
+import com.carlosmgv02.logginglibrary.CustomLogger;
+import com.carlosmgv02.logginglibrary.application.service.LoggingApplicationService;
+import com.carlosmgv02.logginglibrary.domain.port.LogFilter;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.MicrometerMetricsCollector;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.OpenTelemetryTraceContextProvider;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+
+/**
+ * Wires the library by hand, without a Spring context, so benchmarks measure the library alone.
+ *
+ * <p>Benchmarks live outside the {@code com.carlosmgv02.logginglibrary} package on purpose:
+ * caller resolution skips every frame in that package, so benchmark classes inside it would
+ * make the stack walk run to the bottom of the JMH stack.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String SERVICE_NAME = "benchmark-service";
+
+    private BenchmarkFixtures() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static LoggingProperties properties() {
+        LoggingProperties properties = new LoggingProperties();
+        properties.setServiceName(SERVICE_NAME);
+        properties.setLogLevel("INFO");
+        properties.getValidation().setEnabled(false);
+        return properties;
+    }
+
+    public static MicrometerMetricsCollector metricsCollector() {
+        MicrometerMetricsCollector collector = new MicrometerMetricsCollector(new SimpleMeterRegistry(), properties());
+        collector.init();
+        return collector;
+    }
+
+    public static LoggingApplicationService loggingService(LoggingProperties properties,
+                                                           List<LogProcessor> processors,
+                                                           List<LogFilter> filters) {
+        LoggingApplicationService service = new LoggingApplicationService(
+                processors,
+                filters,
+                new OpenTelemetryTraceContextProvider(),
+                metricsCollector(),
+                properties);
+        service.start();
+        new CustomLogger().setLoggingService(service);
+        return service;
+    }
+}
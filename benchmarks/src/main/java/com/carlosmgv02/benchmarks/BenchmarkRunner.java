@@ -0,0 +1,47 @@
+package com.carlosmgv02.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.stream.IntStream;
+
+/**
+ * Runs the selected benchmarks once per thread count (1, 4 and one per available processor)
+ * with the GC profiler attached, writing one JSON result file per thread count so runs can be
+ * compared release over release.
+ *
+ * <p>Accepts the usual JMH command line, e.g. a benchmark regex to narrow the selection:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.carlosmgv02.benchmarks.BenchmarkRunner Pipeline
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options commandLine = new CommandLineOptions(args);
+        int[] threadCounts = IntStream.of(1, 4, Runtime.getRuntime().availableProcessors())
+                .distinct()
+                .toArray();
+
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("jmh-result-" + threads + "-threads.json")
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
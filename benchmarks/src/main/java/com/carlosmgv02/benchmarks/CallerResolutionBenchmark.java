@@ -0,0 +1,82 @@
+package com.carlosmgv02.benchmarks;
+
+import com.carlosmgv02.logginglibrary.ClassLogger;
+import com.carlosmgv02.logginglibrary.CustomLogger;
+import com.carlosmgv02.logginglibrary.application.service.CallerResolver;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the three ways a log call can learn its caller:
+ * <ul>
+ *   <li>{@code stackTrace}: the previous {@code Thread.getStackTrace()} scan, kept here as a baseline</li>
+ *   <li>{@code stackWalker}: {@link CallerResolver}, which stops at the first non-library frame</li>
+ *   <li>{@code explicit}: a {@link ClassLogger} handle that carries its name and never walks the stack</li>
+ * </ul>
+ * The {@code customLogger*} methods measure the same three modes end to end through the library
+ * with no processors or filters registered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CallerResolutionBenchmark {
+
+    private static final String LIBRARY_PACKAGE = "com.carlosmgv02.logginglibrary";
+    private static final ClassLogger CLASS_LOGGER = CustomLogger.forClass(CallerResolutionBenchmark.class);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggingProperties properties = BenchmarkFixtures.properties();
+        properties.setMetricsEnabled(false);
+        properties.setTraceEnabled(false);
+        BenchmarkFixtures.loggingService(properties, List.of(), List.of());
+    }
+
+    @Benchmark
+    public String stackTrace() {
+        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+        for (int i = 1; i < stackTrace.length; i++) {
+            String className = stackTrace[i].getClassName();
+            if (!className.startsWith(LIBRARY_PACKAGE)) {
+                return className;
+            }
+        }
+        return CallerResolver.UNKNOWN_CALLER;
+    }
+
+    @Benchmark
+    public String stackWalker() {
+        return CallerResolver.resolve();
+    }
+
+    @Benchmark
+    public String explicit() {
+        return CLASS_LOGGER.getName();
+    }
+
+    @Benchmark
+    public void customLoggerStackWalker() {
+        CustomLogger.info("caller resolution benchmark");
+    }
+
+    @Benchmark
+    public void customLoggerExplicit() {
+        CLASS_LOGGER.info("caller resolution benchmark");
+    }
+}
@@ -0,0 +1,78 @@
+package com.carlosmgv02.benchmarks;
+
+import com.carlosmgv02.logginglibrary.ClassLogger;
+import com.carlosmgv02.logginglibrary.CustomLogger;
+import com.carlosmgv02.logginglibrary.application.service.LoggingApplicationService;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of building entries with and without {@code garbage-free}, through a
+ * {@link ClassLogger} into a processor that only consumes the message. Run with the GC
+ * profiler ({@code -prof gc}) to compare {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GarbageFreeBenchmark {
+
+    private static final ClassLogger LOG = CustomLogger.forClass(GarbageFreeBenchmark.class);
+
+    @Param({"false", "true"})
+    public boolean garbageFree;
+
+    private LoggingApplicationService loggingService;
+    private long messageChars;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggingProperties properties = BenchmarkFixtures.properties();
+        properties.setMetricsEnabled(false);
+        properties.setTraceEnabled(false);
+        properties.setGarbageFree(garbageFree);
+
+        LogProcessor consumingProcessor = new LogProcessor() {
+            @Override
+            public void process(LogEntry logEntry) {
+                messageChars += logEntry.getMessage().length();
+            }
+
+            @Override
+            public boolean isEnabled(LogEntry logEntry) {
+                return true;
+            }
+        };
+        loggingService = BenchmarkFixtures.loggingService(properties, List.of(consumingProcessor), List.of());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loggingService.stop();
+    }
+
+    @Benchmark
+    public long classLoggerInfo() {
+        LOG.info("Order created for customer");
+        return messageChars;
+    }
+}
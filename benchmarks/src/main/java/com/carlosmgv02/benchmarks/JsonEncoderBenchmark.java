@@ -0,0 +1,100 @@
+package com.carlosmgv02.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.JsonLinesEncoder;
+import net.logstash.logback.encoder.LogstashEncoder;
+import net.logstash.logback.fieldnames.LogstashFieldNames;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one entry into a Logstash {@code json_lines} document: {@link LogstashEncoder}
+ * (configured as in {@code logback-spring.xml}) on the equivalent logback event versus
+ * {@link JsonLinesEncoder} on the {@link LogEntry}. Run with {@code -prof gc} to compare allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonEncoderBenchmark {
+
+    @Param({"plain", "metadata", "unicode"})
+    public String shape;
+
+    private LogstashEncoder logstashEncoder;
+    private JsonLinesEncoder jsonLinesEncoder;
+    private LoggingEvent event;
+    private LogEntry entry;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = new LoggerContext();
+        LogstashFieldNames fieldNames = new LogstashFieldNames();
+        fieldNames.setLogger("logger");
+        fieldNames.setThread("thread");
+        logstashEncoder = new LogstashEncoder();
+        logstashEncoder.setContext(context);
+        logstashEncoder.setFieldNames(fieldNames);
+        logstashEncoder.setCustomFields("{\"service\":\"" + BenchmarkFixtures.SERVICE_NAME + "\"}");
+        logstashEncoder.start();
+        jsonLinesEncoder = new JsonLinesEncoder();
+
+        String message = shape.equals("unicode")
+                ? "Pedido 42 enviado a Se\u00f1ora Garc\u00eda \u2014 total 19,99 \u20ac"
+                : "Order 42 created for customer 7";
+        Map<String, Object> metadata = shape.equals("plain")
+                ? Map.of()
+                : Map.of("userId", "user123", "requestId", "req456", "duration", 1250L);
+
+        entry = LogEntry.builder()
+                .message(message)
+                .level(LogLevel.INFO)
+                .logger(JsonEncoderBenchmark.class.getName())
+                .serviceName(BenchmarkFixtures.SERVICE_NAME)
+                .traceId("4bf92f3577b34da6a3ce929d0e0e4736")
+                .spanId("00f067aa0ba902b7")
+                .metadata(metadata)
+                .build();
+
+        Logger logger = context.getLogger(JsonEncoderBenchmark.class);
+        event = new LoggingEvent(Logger.class.getName(), logger, Level.INFO, message, null, null);
+        event.setTimeStamp(entry.getTimestampMillis());
+        Map<String, String> mdc = new HashMap<>();
+        mdc.put("traceId", entry.getTraceId());
+        mdc.put("spanId", entry.getSpanId());
+        mdc.put("serviceName", entry.getServiceName());
+        metadata.forEach((key, value) -> mdc.put(key, value.toString()));
+        event.setMDCPropertyMap(mdc);
+        event.setThreadName(Thread.currentThread().getName());
+    }
+
+    @Benchmark
+    public byte[] logstashEncoder() {
+        return logstashEncoder.encode(event);
+    }
+
+    @Benchmark
+    public int jsonLinesEncoder() {
+        return jsonLinesEncoder.encode(entry);
+    }
+}
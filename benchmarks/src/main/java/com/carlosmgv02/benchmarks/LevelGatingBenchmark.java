@@ -0,0 +1,65 @@
+package com.carlosmgv02.benchmarks;
+
+import com.carlosmgv02.logginglibrary.CustomLogger;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a {@code debug} call while the configured level is {@code INFO}, for each way of
+ * passing the message: eager concatenation, {@code "{}"} arguments, a supplier and an explicit
+ * {@code isDebugEnabled()} guard.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LevelGatingBenchmark {
+
+    private long orderId = 42L;
+    private String customer = "customer-7";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggingProperties properties = BenchmarkFixtures.properties();
+        properties.setMetricsEnabled(false);
+        properties.setTraceEnabled(false);
+        BenchmarkFixtures.loggingService(properties, List.of(), List.of());
+    }
+
+    @Benchmark
+    public void disabledConcatenation() {
+        CustomLogger.debug("Order " + orderId + " placed by " + customer);
+    }
+
+    @Benchmark
+    public void disabledParameterised() {
+        CustomLogger.debug("Order {} placed by {}", orderId, customer);
+    }
+
+    @Benchmark
+    public void disabledSupplier() {
+        CustomLogger.debug(() -> "Order " + orderId + " placed by " + customer);
+    }
+
+    @Benchmark
+    public void disabledGuarded() {
+        if (CustomLogger.isDebugEnabled()) {
+            CustomLogger.debug("Order " + orderId + " placed by " + customer);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.carlosmgv02.benchmarks;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.model.ProcessingStage;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.MicrometerMetricsCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-entry cost of {@link MicrometerMetricsCollector} against a {@code SimpleMeterRegistry}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsCollectorBenchmark {
+
+    private MicrometerMetricsCollector metricsCollector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        metricsCollector = BenchmarkFixtures.metricsCollector();
+    }
+
+    @Benchmark
+    public void incrementLogCount() {
+        metricsCollector.incrementLogCount(LogLevel.INFO, BenchmarkFixtures.SERVICE_NAME);
+    }
+
+    @Benchmark
+    public void recordLogProcessingTimeNanos() {
+        metricsCollector.recordLogProcessingTimeNanos(1_500);
+    }
+
+    @Benchmark
+    public void recordProcessorStageTime() {
+        metricsCollector.recordStageTime(ProcessingStage.PROCESSOR, "Slf4jLogProcessor", 1_500);
+    }
+
+    @Benchmark
+    public void recordLogSize() {
+        metricsCollector.recordLogSize(256);
+    }
+}
@@ -0,0 +1,90 @@
+package com.carlosmgv02.benchmarks;
+
+import com.carlosmgv02.logginglibrary.CustomLogger;
+import com.carlosmgv02.logginglibrary.application.service.LoggingApplicationService;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.SensitiveDataLogFilter;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.SensitiveDataProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.Slf4jLogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of a log call through the default pipeline: caller resolution, trace lookup,
+ * {@link SensitiveDataLogFilter}, {@link Slf4jLogProcessor} into a no-op logback appender, and metrics.
+ * In the asynchronous modes only the hand-off is on the measured thread.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+    private static final Map<String, Object> METADATA = Map.of(
+            "userId", "user123",
+            "requestId", "req456",
+            "duration", 1250L);
+
+    @Param({"SYNC", "ASYNC", "RING_BUFFER"})
+    public LoggingProperties.ProcessingMode processingMode;
+
+    private LoggingApplicationService loggingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggingProperties properties = BenchmarkFixtures.properties();
+        properties.setProcessingMode(processingMode);
+        loggingService = BenchmarkFixtures.loggingService(
+                properties,
+                List.of(new Slf4jLogProcessor()),
+                List.of(new SensitiveDataLogFilter(new SensitiveDataProperties())));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loggingService.stop();
+    }
+
+    @Benchmark
+    public void customLoggerInfo() {
+        CustomLogger.info("Order created for customer");
+    }
+
+    @Benchmark
+    public void customLoggerInfoParameterised() {
+        CustomLogger.info("Order {} created for customer {}", 42L, "customer-7");
+    }
+
+    @Benchmark
+    public void customLoggerInfoSensitive() {
+        CustomLogger.info("User login with password=secret123");
+    }
+
+    @Benchmark
+    public void customLoggerDebugDisabled() {
+        CustomLogger.debug("Debug message below the configured level");
+    }
+
+    @Benchmark
+    public void logWithMetadata() {
+        loggingService.logWithMetadata("User creation completed successfully", LogLevel.INFO, METADATA);
+    }
+}
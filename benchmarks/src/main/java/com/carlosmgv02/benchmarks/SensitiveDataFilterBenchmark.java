@@ -0,0 +1,59 @@
+package com.carlosmgv02.benchmarks;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.SensitiveDataLogFilter;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.SensitiveDataProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link SensitiveDataLogFilter} with the default patterns, for a message with nothing
+ * to redact and for one with a secret in it. Detection and redaction are measured together,
+ * the way the pipeline calls them.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SensitiveDataFilterBenchmark {
+
+    @Param({
+            "Order 8812 shipped to warehouse 3 after 125 ms",
+            "User login with password=secret123 from 10.0.0.1"
+    })
+    public String message;
+
+    private SensitiveDataLogFilter filter;
+    private LogEntry logEntry;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filter = new SensitiveDataLogFilter(new SensitiveDataProperties());
+        logEntry = LogEntry.builder()
+                .message(message)
+                .level(LogLevel.INFO)
+                .logger(SensitiveDataFilterBenchmark.class.getName())
+                .serviceName(BenchmarkFixtures.SERVICE_NAME)
+                .build();
+    }
+
+    @Benchmark
+    public LogEntry filter() {
+        return filter.apply(logEntry);
+    }
+}
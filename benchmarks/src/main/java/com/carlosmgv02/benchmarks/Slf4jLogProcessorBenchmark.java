@@ -0,0 +1,62 @@
+package com.carlosmgv02.benchmarks;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.Slf4jLogProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of handing a {@link LogEntry} to logback through {@link Slf4jLogProcessor}, with and
+ * without metadata. Logback is configured with a no-op appender.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Slf4jLogProcessorBenchmark {
+
+    private Slf4jLogProcessor processor;
+    private LogEntry plainEntry;
+    private LogEntry metadataEntry;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        processor = new Slf4jLogProcessor();
+        plainEntry = LogEntry.builder()
+                .message("Order created for customer")
+                .level(LogLevel.INFO)
+                .logger(Slf4jLogProcessorBenchmark.class.getName())
+                .serviceName(BenchmarkFixtures.SERVICE_NAME)
+                .traceId("4bf92f3577b34da6a3ce929d0e0e4736")
+                .spanId("00f067aa0ba902b7")
+                .build();
+        metadataEntry = plainEntry.toBuilder()
+                .metadata(Map.of("userId", "user123", "requestId", "req456", "duration", 1250L))
+                .build();
+    }
+
+    @Benchmark
+    public void process() {
+        processor.process(plainEntry);
+    }
+
+    @Benchmark
+    public void processWithMetadata() {
+        processor.process(metadataEntry);
+    }
+}
@@ -0,0 +1,100 @@
+package com.carlosmgv02.benchmarks;
+
+import com.carlosmgv02.logginglibrary.domain.model.TraceContext;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.OpenTelemetryTraceContextProvider;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the trace id and span id lookups {@link OpenTelemetryTraceContextProvider} performs
+ * for every log entry, with and without an active span on the benchmark thread.
+ *
+ * <p>{@code lookup*} use the {@code Optional} getters, {@code orNull*} the two separate
+ * null-returning lookups the logging path used before, and {@code snapshot*} the single
+ * {@code getCurrentTraceContext()} call it uses now.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class TraceContextBenchmark {
+
+    private OpenTelemetryTraceContextProvider provider;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provider = new OpenTelemetryTraceContextProvider();
+    }
+
+    @Benchmark
+    public void lookupWithoutSpan(Blackhole blackhole) {
+        blackhole.consume(provider.getCurrentTraceId());
+        blackhole.consume(provider.getCurrentSpanId());
+    }
+
+    @Benchmark
+    public void lookupWithActiveSpan(ActiveSpan activeSpan, Blackhole blackhole) {
+        blackhole.consume(provider.getCurrentTraceId());
+        blackhole.consume(provider.getCurrentSpanId());
+    }
+
+    @Benchmark
+    public void orNullWithActiveSpan(ActiveSpan activeSpan, Blackhole blackhole) {
+        blackhole.consume(provider.getCurrentTraceIdOrNull());
+        blackhole.consume(provider.getCurrentSpanIdOrNull());
+    }
+
+    @Benchmark
+    public void snapshotWithoutSpan(Blackhole blackhole) {
+        blackhole.consume(provider.getCurrentTraceContext());
+    }
+
+    @Benchmark
+    public void snapshotWithActiveSpan(ActiveSpan activeSpan, Blackhole blackhole) {
+        TraceContext traceContext = provider.getCurrentTraceContext();
+        blackhole.consume(traceContext.getTraceId());
+        blackhole.consume(traceContext.getSpanId());
+    }
+
+    /**
+     * Makes a sampled span current on the owning benchmark thread for the whole trial.
+     */
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class ActiveSpan {
+        private Scope scope;
+
+        @Setup(Level.Trial)
+        public void activate() {
+            SpanContext spanContext = SpanContext.create(
+                    "4bf92f3577b34da6a3ce929d0e0e4736",
+                    "00f067aa0ba902b7",
+                    TraceFlags.getSampled(),
+                    TraceState.getDefault());
+            scope = Span.wrap(spanContext).makeCurrent();
+        }
+
+        @TearDown(Level.Trial)
+        public void deactivate() {
+            scope.close();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.carlosmgv02.logginglibrary;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+
+import java.util.function.Supplier;
+
+/**
+ * Logger handle bound to a class, obtained through {@link CustomLogger#forClass(Class)}.
+ *
+ * <p>The logger name is fixed when the handle is created, so log calls made through it never
+ * walk the stack to find the caller. Handles can be created before the library is initialised
+ * and kept in static fields; calls made before then are ignored, as with {@link CustomLogger}.
+ * Supplier and {@code "{}"} format overloads behave as they do on {@link CustomLogger}.
+ */
+public final class ClassLogger {
+
+    private final String name;
+
+    ClassLogger(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isTraceEnabled() {
+        return CustomLogger.isEnabled(LogLevel.TRACE);
+    }
+
+    public void trace(String message) {
+        CustomLogger.log(name, LogLevel.TRACE, message, null);
+    }
+
+    public void trace(String message, Throwable throwable) {
+        CustomLogger.log(name, LogLevel.TRACE, message, throwable);
+    }
+
+    public void trace(Supplier<String> messageSupplier) {
+        if (CustomLogger.isEnabled(LogLevel.TRACE)) {
+            CustomLogger.log(name, LogLevel.TRACE, messageSupplier.get(), null);
+        }
+    }
+
+    public void trace(String format, Object arg) {
+        if (CustomLogger.isEnabled(LogLevel.TRACE)) {
+            CustomLogger.logFormatted(name, LogLevel.TRACE, format, new Object[]{arg});
+        }
+    }
+
+    public void trace(String format, Object arg1, Object arg2) {
+        if (CustomLogger.isEnabled(LogLevel.TRACE)) {
+            CustomLogger.logFormatted(name, LogLevel.TRACE, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void trace(String format, Object... args) {
+        if (CustomLogger.isEnabled(LogLevel.TRACE)) {
+            CustomLogger.logFormatted(name, LogLevel.TRACE, format, args);
+        }
+    }
+
+    public boolean isDebugEnabled() {
+        return CustomLogger.isEnabled(LogLevel.DEBUG);
+    }
+
+    public void debug(String message) {
+        CustomLogger.log(name, LogLevel.DEBUG, message, null);
+    }
+
+    public void debug(String message, Throwable throwable) {
+        CustomLogger.log(name, LogLevel.DEBUG, message, throwable);
+    }
+
+    public void debug(Supplier<String> messageSupplier) {
+        if (CustomLogger.isEnabled(LogLevel.DEBUG)) {
+            CustomLogger.log(name, LogLevel.DEBUG, messageSupplier.get(), null);
+        }
+    }
+
+    public void debug(String format, Object arg) {
+        if (CustomLogger.isEnabled(LogLevel.DEBUG)) {
+            CustomLogger.logFormatted(name, LogLevel.DEBUG, format, new Object[]{arg});
+        }
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        if (CustomLogger.isEnabled(LogLevel.DEBUG)) {
+            CustomLogger.logFormatted(name, LogLevel.DEBUG, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void debug(String format, Object... args) {
+        if (CustomLogger.isEnabled(LogLevel.DEBUG)) {
+            CustomLogger.logFormatted(name, LogLevel.DEBUG, format, args);
+        }
+    }
+
+    public boolean isInfoEnabled() {
+        return CustomLogger.isEnabled(LogLevel.INFO);
+    }
+
+    public void info(String message) {
+        CustomLogger.log(name, LogLevel.INFO, message, null);
+    }
+
+    public void info(String message, Throwable throwable) {
+        CustomLogger.log(name, LogLevel.INFO, message, throwable);
+    }
+
+    public void info(Supplier<String> messageSupplier) {
+        if (CustomLogger.isEnabled(LogLevel.INFO)) {
+            CustomLogger.log(name, LogLevel.INFO, messageSupplier.get(), null);
+        }
+    }
+
+    public void info(String format, Object arg) {
+        if (CustomLogger.isEnabled(LogLevel.INFO)) {
+            CustomLogger.logFormatted(name, LogLevel.INFO, format, new Object[]{arg});
+        }
+    }
+
+    public void info(String format, Object arg1, Object arg2) {
+        if (CustomLogger.isEnabled(LogLevel.INFO)) {
+            CustomLogger.logFormatted(name, LogLevel.INFO, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void info(String format, Object... args) {
+        if (CustomLogger.isEnabled(LogLevel.INFO)) {
+            CustomLogger.logFormatted(name, LogLevel.INFO, format, args);
+        }
+    }
+
+    public boolean isWarnEnabled() {
+        return CustomLogger.isEnabled(LogLevel.WARN);
+    }
+
+    public void warn(String message) {
+        CustomLogger.log(name, LogLevel.WARN, message, null);
+    }
+
+    public void warn(String message, Throwable throwable) {
+        CustomLogger.log(name, LogLevel.WARN, message, throwable);
+    }
+
+    public void warn(Supplier<String> messageSupplier) {
+        if (CustomLogger.isEnabled(LogLevel.WARN)) {
+            CustomLogger.log(name, LogLevel.WARN, messageSupplier.get(), null);
+        }
+    }
+
+    public void warn(String format, Object arg) {
+        if (CustomLogger.isEnabled(LogLevel.WARN)) {
+            CustomLogger.logFormatted(name, LogLevel.WARN, format, new Object[]{arg});
+        }
+    }
+
+    public void warn(String format, Object arg1, Object arg2) {
+        if (CustomLogger.isEnabled(LogLevel.WARN)) {
+            CustomLogger.logFormatted(name, LogLevel.WARN, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void warn(String format, Object... args) {
+        if (CustomLogger.isEnabled(LogLevel.WARN)) {
+            CustomLogger.logFormatted(name, LogLevel.WARN, format, args);
+        }
+    }
+
+    public boolean isErrorEnabled() {
+        return CustomLogger.isEnabled(LogLevel.ERROR);
+    }
+
+    public void error(String message) {
+        CustomLogger.log(name, LogLevel.ERROR, message, null);
+    }
+
+    public void error(String message, Throwable throwable) {
+        CustomLogger.log(name, LogLevel.ERROR, message, throwable);
+    }
+
+    public void error(Supplier<String> messageSupplier) {
+        if (CustomLogger.isEnabled(LogLevel.ERROR)) {
+            CustomLogger.log(name, LogLevel.ERROR, messageSupplier.get(), null);
+        }
+    }
+
+    public void error(String format, Object arg) {
+        if (CustomLogger.isEnabled(LogLevel.ERROR)) {
+            CustomLogger.logFormatted(name, LogLevel.ERROR, format, new Object[]{arg});
+        }
+    }
+
+    public void error(String format, Object arg1, Object arg2) {
+        if (CustomLogger.isEnabled(LogLevel.ERROR)) {
+            CustomLogger.logFormatted(name, LogLevel.ERROR, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void error(String format, Object... args) {
+        if (CustomLogger.isEnabled(LogLevel.ERROR)) {
+            CustomLogger.logFormatted(name, LogLevel.ERROR, format, args);
+        }
+    }
+}
@@ -1,9 +1,22 @@
 package com.carlosmgv02.logginglibrary;
 
 import com.carlosmgv02.logginglibrary.application.service.LoggingApplicationService;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Supplier;
+
+/**
+ * Static entry point to the logging library.
+ *
+ * <p>Besides plain messages, every level takes a {@link Supplier} or an SLF4J style
+ * {@code "{}"} format with arguments. A disabled call costs a single level compare and never
+ * touches either. A {@link Throwable} passed as the last argument is logged as the entry's
+ * throwable. Format arguments travel with the entry and are rendered only when a filter or
+ * processor reads the message, possibly on another thread in {@code ASYNC} mode, so they
+ * should not be mutated after the call.
+ */
 @Component
 public class CustomLogger {
 
@@ -14,6 +27,17 @@ public class CustomLogger {
         CustomLogger.loggingService = loggingService;
     }
 
+    /**
+     * Returns a handle that logs as {@code type} without resolving the caller from the stack.
+     */
+    public static ClassLogger forClass(Class<?> type) {
+        return new ClassLogger(type.getName());
+    }
+
+    public static boolean isTraceEnabled() {
+        return isEnabled(LogLevel.TRACE);
+    }
+
     public static void trace(String message) {
         if (loggingService != null) {
             loggingService.trace(message);
@@ -26,6 +50,34 @@ public class CustomLogger {
         }
     }
 
+    public static void trace(Supplier<String> messageSupplier) {
+        if (isEnabled(LogLevel.TRACE)) {
+            log(null, LogLevel.TRACE, messageSupplier.get(), null);
+        }
+    }
+
+    public static void trace(String format, Object arg) {
+        if (isEnabled(LogLevel.TRACE)) {
+            logFormatted(null, LogLevel.TRACE, format, new Object[]{arg});
+        }
+    }
+
+    public static void trace(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.TRACE)) {
+            logFormatted(null, LogLevel.TRACE, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public static void trace(String format, Object... args) {
+        if (isEnabled(LogLevel.TRACE)) {
+            logFormatted(null, LogLevel.TRACE, format, args);
+        }
+    }
+
+    public static boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
     public static void debug(String message) {
         if (loggingService != null) {
             loggingService.debug(message);
@@ -38,6 +90,34 @@ public class CustomLogger {
         }
     }
 
+    public static void debug(Supplier<String> messageSupplier) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(null, LogLevel.DEBUG, messageSupplier.get(), null);
+        }
+    }
+
+    public static void debug(String format, Object arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            logFormatted(null, LogLevel.DEBUG, format, new Object[]{arg});
+        }
+    }
+
+    public static void debug(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            logFormatted(null, LogLevel.DEBUG, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public static void debug(String format, Object... args) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            logFormatted(null, LogLevel.DEBUG, format, args);
+        }
+    }
+
+    public static boolean isInfoEnabled() {
+        return isEnabled(LogLevel.INFO);
+    }
+
     public static void info(String message) {
         if (loggingService != null) {
             loggingService.info(message);
@@ -50,6 +130,34 @@ public class CustomLogger {
         }
     }
 
+    public static void info(Supplier<String> messageSupplier) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(null, LogLevel.INFO, messageSupplier.get(), null);
+        }
+    }
+
+    public static void info(String format, Object arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            logFormatted(null, LogLevel.INFO, format, new Object[]{arg});
+        }
+    }
+
+    public static void info(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.INFO)) {
+            logFormatted(null, LogLevel.INFO, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public static void info(String format, Object... args) {
+        if (isEnabled(LogLevel.INFO)) {
+            logFormatted(null, LogLevel.INFO, format, args);
+        }
+    }
+
+    public static boolean isWarnEnabled() {
+        return isEnabled(LogLevel.WARN);
+    }
+
     public static void warn(String message) {
         if (loggingService != null) {
             loggingService.warn(message);
@@ -62,6 +170,34 @@ public class CustomLogger {
         }
     }
 
+    public static void warn(Supplier<String> messageSupplier) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(null, LogLevel.WARN, messageSupplier.get(), null);
+        }
+    }
+
+    public static void warn(String format, Object arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            logFormatted(null, LogLevel.WARN, format, new Object[]{arg});
+        }
+    }
+
+    public static void warn(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.WARN)) {
+            logFormatted(null, LogLevel.WARN, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public static void warn(String format, Object... args) {
+        if (isEnabled(LogLevel.WARN)) {
+            logFormatted(null, LogLevel.WARN, format, args);
+        }
+    }
+
+    public static boolean isErrorEnabled() {
+        return isEnabled(LogLevel.ERROR);
+    }
+
     public static void error(String message) {
         if (loggingService != null) {
             loggingService.error(message);
@@ -73,4 +209,45 @@ public class CustomLogger {
             loggingService.error(message, throwable);
         }
     }
-}
\ No newline at end of file
+
+    public static void error(Supplier<String> messageSupplier) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(null, LogLevel.ERROR, messageSupplier.get(), null);
+        }
+    }
+
+    public static void error(String format, Object arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            logFormatted(null, LogLevel.ERROR, format, new Object[]{arg});
+        }
+    }
+
+    public static void error(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.ERROR)) {
+            logFormatted(null, LogLevel.ERROR, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public static void error(String format, Object... args) {
+        if (isEnabled(LogLevel.ERROR)) {
+            logFormatted(null, LogLevel.ERROR, format, args);
+        }
+    }
+
+    static boolean isEnabled(LogLevel level) {
+        LoggingApplicationService service = loggingService;
+        return service != null && service.isLevelEnabled(level);
+    }
+
+    static void logFormatted(String loggerName, LogLevel level, String format, Object[] args) {
+        if (loggingService != null) {
+            loggingService.logFormatted(loggerName, level, format, args);
+        }
+    }
+
+    static void log(String loggerName, LogLevel level, String message, Throwable throwable) {
+        if (loggingService != null) {
+            loggingService.log(loggerName, level, message, throwable);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.carlosmgv02.logginglibrary.application.service;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties.OverflowPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Bounded buffer that takes log entries off the calling thread and hands them, in batches,
+ * to a single drainer thread.
+ *
+ * <p>A batch is flushed as soon as it reaches {@code batchSize} entries or once
+ * {@code flushInterval} has elapsed since its first entry was taken, whichever comes first.
+ * When the buffer is full the configured {@link OverflowPolicy} decides whether the caller
+ * waits or an entry is dropped.
+ */
+@Slf4j
+public class AsyncLogDispatcher implements LogDispatcher {
+
+    private static final String DRAINER_THREAD_NAME = "logging-library-drainer";
+
+    /** Wakes the drainer up on shutdown; never handed to the batch handler. */
+    private static final LogEntry STOP_SIGNAL = LogEntry.builder().build();
+
+    private final BlockingQueue<LogEntry> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer<List<LogEntry>> batchHandler;
+    private final Consumer<LogEntry> dropHandler;
+    private final Thread drainer;
+
+    private volatile boolean running;
+
+    public AsyncLogDispatcher(int bufferSize,
+                              int batchSize,
+                              Duration flushInterval,
+                              OverflowPolicy overflowPolicy,
+                              Consumer<List<LogEntry>> batchHandler,
+                              Consumer<LogEntry> dropHandler) {
+        if (bufferSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Buffer size and batch size must be positive");
+        }
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = Math.min(batchSize, bufferSize);
+        this.flushIntervalNanos = Math.max(1L, flushInterval.toNanos());
+        this.overflowPolicy = overflowPolicy;
+        this.batchHandler = batchHandler;
+        this.dropHandler = dropHandler;
+        this.drainer = new Thread(this::drainLoop, DRAINER_THREAD_NAME);
+        this.drainer.setDaemon(true);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        drainer.start();
+    }
+
+    /**
+     * Hands an entry to the drainer thread. Entries logged from the drainer thread itself (a
+     * processor that logs) are handed back to the caller.
+     */
+    @Override
+    public boolean submit(LogEntry logEntry) {
+        if (!running || Thread.currentThread() == drainer) {
+            return false;
+        }
+
+        boolean enqueued = buffer.offer(logEntry);
+        if (!enqueued) {
+            switch (overflowPolicy) {
+                case BLOCK -> {
+                    try {
+                        buffer.put(logEntry);
+                        enqueued = true;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropHandler.accept(logEntry);
+                    }
+                }
+                case DROP_LOWEST_LEVEL -> {
+                    if (evictLowerLevelEntry(logEntry.getLevel()) && buffer.offer(logEntry)) {
+                        enqueued = true;
+                    } else {
+                        dropHandler.accept(logEntry);
+                    }
+                }
+                case DROP_NEWEST -> dropHandler.accept(logEntry);
+            }
+        }
+
+        // Shut down while enqueueing: the drainer may already have exited, so take the entry
+        // back unless it got to it first
+        if (enqueued && !running && buffer.remove(logEntry)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void shutdown(Duration timeout) {
+        if (!running) {
+            return;
+        }
+        running = false;
+        buffer.offer(STOP_SIGNAL);
+
+        try {
+            drainer.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (drainer.isAlive()) {
+            log.warn("Async log drainer did not finish within {} ms, {} entries pending",
+                    timeout.toMillis(), buffer.size());
+            return;
+        }
+
+        // Entries enqueued after the drainer exited and not yet taken back by their producer
+        LogEntry leftover;
+        while ((leftover = buffer.poll()) != null) {
+            if (leftover != STOP_SIGNAL) {
+                dropHandler.accept(leftover);
+            }
+        }
+    }
+
+    @Override
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    private boolean evictLowerLevelEntry(LogLevel incomingLevel) {
+        LogLevel lowest = null;
+        for (LogEntry queued : buffer) {
+            LogLevel queuedLevel = queued.getLevel();
+            if (queued != STOP_SIGNAL && queuedLevel != null
+                    && queuedLevel.getLevel() < incomingLevel.getLevel()
+                    && (lowest == null || queuedLevel.getLevel() < lowest.getLevel())) {
+                lowest = queuedLevel;
+            }
+        }
+        if (lowest == null) {
+            return false;
+        }
+
+        Iterator<LogEntry> iterator = buffer.iterator();
+        while (iterator.hasNext()) {
+            LogEntry queued = iterator.next();
+            if (queued != STOP_SIGNAL && queued.getLevel() == lowest) {
+                iterator.remove();
+                dropHandler.accept(queued);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        List<LogEntry> batch = new ArrayList<>(batchSize);
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            flush(batch);
+        }
+    }
+
+    private void fillBatch(List<LogEntry> batch) throws InterruptedException {
+        LogEntry first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null || first == STOP_SIGNAL) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                return;
+            }
+            LogEntry next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null || next == STOP_SIGNAL) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<LogEntry> batch) {
+        batch.removeIf(entry -> entry == STOP_SIGNAL);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            batchHandler.accept(batch);
+        } catch (Exception e) {
+            log.error("Error flushing batch of {} log entries", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+}
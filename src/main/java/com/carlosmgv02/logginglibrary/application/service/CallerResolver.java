@@ -0,0 +1,47 @@
+package com.carlosmgv02.logginglibrary.application.service;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the name of the class that issued a log call.
+ *
+ * <p>Uses a {@link StackWalker} that stops at the first frame outside the library, so no
+ * {@link StackTraceElement}s are materialised and only the library frames on top of the stack
+ * are visited. Whether a class belongs to the library is computed once per class.
+ */
+public final class CallerResolver {
+
+    public static final String UNKNOWN_CALLER = "UnknownCaller";
+
+    private static final String LIBRARY_PACKAGE = "com.carlosmgv02.logginglibrary";
+
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final ClassValue<Boolean> LIBRARY_CLASSES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.getName().startsWith(LIBRARY_PACKAGE);
+        }
+    };
+
+    private static final Function<Stream<StackFrame>, String> FIRST_FOREIGN_FRAME = frames -> frames
+            .map(StackFrame::getDeclaringClass)
+            .filter(type -> !LIBRARY_CLASSES.get(type))
+            .findFirst()
+            .map(Class::getName)
+            .orElse(UNKNOWN_CALLER);
+
+    private CallerResolver() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Returns the fully qualified name of the first class on the current stack that does not
+     * belong to the library, or {@link #UNKNOWN_CALLER} if there is none.
+     */
+    public static String resolve() {
+        return WALKER.walk(FIRST_FOREIGN_FRAME);
+    }
+}
@@ -0,0 +1,29 @@
+package com.carlosmgv02.logginglibrary.application.service;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+
+import java.time.Duration;
+
+/**
+ * Takes log entries off the calling thread and runs filters and processors elsewhere.
+ */
+public interface LogDispatcher {
+
+    void start();
+
+    /**
+     * Hands an entry over for processing.
+     *
+     * @return {@code false} if the caller must process the entry itself, for example because the
+     * dispatcher is not running or the call comes from one of its own threads; {@code true} if
+     * the entry was accepted or dropped by the overflow policy
+     */
+    boolean submit(LogEntry logEntry);
+
+    /**
+     * Stops accepting entries and waits up to {@code timeout} for the accepted ones to be processed.
+     */
+    void shutdown(Duration timeout);
+
+    int getPendingCount();
+}
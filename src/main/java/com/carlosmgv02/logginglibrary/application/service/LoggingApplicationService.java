@@ -1,18 +1,29 @@
 package com.carlosmgv02.logginglibrary.application.service;
 
 import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntryPool;
 import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.model.MessageTemplate;
+import com.carlosmgv02.logginglibrary.domain.model.ProcessingStage;
+import com.carlosmgv02.logginglibrary.domain.model.TraceContext;
 import com.carlosmgv02.logginglibrary.domain.port.LogFilter;
 import com.carlosmgv02.logginglibrary.domain.port.LogMetricsCollector;
 import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
 import com.carlosmgv02.logginglibrary.domain.port.TraceContextProvider;
 import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
@@ -24,12 +35,99 @@ public class LoggingApplicationService {
     private final LogMetricsCollector metricsCollector;
     private final LoggingProperties properties;
 
+    /** {@link #logProcessors}, with those configured to run on virtual threads wrapped; set up in {@link #start()}. */
+    private List<LogProcessor> activeProcessors;
+    private LogDispatcher asyncDispatcher;
+    private LogEntryPool entryPool;
+
+    @PostConstruct
+    public void start() {
+        activeProcessors = offloadConfiguredProcessors();
+
+        LoggingProperties.ProcessingMode processingMode = properties.getProcessingMode();
+        if (properties.isGarbageFree()) {
+            if (processingMode == LoggingProperties.ProcessingMode.SYNC) {
+                entryPool = new LogEntryPool();
+            } else {
+                log.warn("logging.library.garbage-free is ignored in {} processing mode: entries outlive the log call",
+                        processingMode);
+            }
+        }
+
+        switch (processingMode) {
+            case SYNC -> {
+                return;
+            }
+            case ASYNC -> asyncDispatcher = new AsyncLogDispatcher(
+                    properties.getBufferSize(),
+                    properties.getBatchSize(),
+                    Duration.ofMillis(properties.getFlushIntervalMs()),
+                    properties.getOverflowPolicy(),
+                    this::dispatchBatch,
+                    this::onEntryDropped);
+            case RING_BUFFER -> {
+                RingBufferLogDispatcher ringBuffer = new RingBufferLogDispatcher(
+                        properties.getBufferSize(),
+                        properties.getWaitStrategy(),
+                        properties.getOverflowPolicy(),
+                        this::filterForRingBuffer,
+                        activeProcessors,
+                        (processor, logEntry) -> processWith(processor, logEntry, shouldSampleTiming()),
+                        this::onEntryDropped);
+                if (properties.isMetricsEnabled()) {
+                    ringBuffer.getConsumerLag().forEach(metricsCollector::registerConsumerLag);
+                }
+                asyncDispatcher = ringBuffer;
+            }
+        }
+        asyncDispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Duration timeout = Duration.ofMillis(Math.max(properties.getFlushIntervalMs(), 1000L));
+        if (asyncDispatcher != null) {
+            asyncDispatcher.shutdown(timeout);
+        }
+        if (activeProcessors != null) {
+            for (LogProcessor processor : activeProcessors) {
+                if (processor instanceof OffloadedLogProcessor offloaded) {
+                    offloaded.shutdown(timeout);
+                }
+            }
+        }
+    }
+
+    private List<LogProcessor> offloadConfiguredProcessors() {
+        List<LogProcessor> processors = new ArrayList<>(logProcessors.size());
+        for (LogProcessor processor : logProcessors) {
+            String processorName = processor.getClass().getSimpleName();
+            LoggingProperties.ProcessorProperties execution = properties.getProcessorProperties(processorName);
+            if (execution.getExecution() != LoggingProperties.ProcessorExecution.VIRTUAL_THREADS) {
+                processors.add(processor);
+                continue;
+            }
+
+            OffloadedLogProcessor offloaded = new OffloadedLogProcessor(
+                    processor,
+                    execution.getMaxConcurrency(),
+                    execution.getOverflowPolicy(),
+                    (delegate, logEntry) -> processWith(delegate, logEntry, shouldSampleTiming()),
+                    this::onEntryDropped);
+            log.info("Log processor {} runs on {} with at most {} entries in flight", processorName,
+                    offloaded.usesVirtualThreads() ? "virtual threads" : "a platform thread pool",
+                    execution.getMaxConcurrency());
+            processors.add(offloaded);
+        }
+        return processors;
+    }
+
     public void trace(String message) {
         trace(message, null);
     }
 
     public void trace(String message, Throwable throwable) {
-        processLog(message, LogLevel.TRACE, throwable, Map.of());
+        processLog(null, message, null, null, LogLevel.TRACE, throwable, Map.of());
     }
 
     public void debug(String message) {
@@ -37,7 +135,7 @@ public class LoggingApplicationService {
     }
 
     public void debug(String message, Throwable throwable) {
-        processLog(message, LogLevel.DEBUG, throwable, Map.of());
+        processLog(null, message, null, null, LogLevel.DEBUG, throwable, Map.of());
     }
 
     public void info(String message) {
@@ -45,7 +143,7 @@ public class LoggingApplicationService {
     }
 
     public void info(String message, Throwable throwable) {
-        processLog(message, LogLevel.INFO, throwable, Map.of());
+        processLog(null, message, null, null, LogLevel.INFO, throwable, Map.of());
     }
 
     public void warn(String message) {
@@ -53,7 +151,7 @@ public class LoggingApplicationService {
     }
 
     public void warn(String message, Throwable throwable) {
-        processLog(message, LogLevel.WARN, throwable, Map.of());
+        processLog(null, message, null, null, LogLevel.WARN, throwable, Map.of());
     }
 
     public void error(String message) {
@@ -61,101 +159,245 @@ public class LoggingApplicationService {
     }
 
     public void error(String message, Throwable throwable) {
-        processLog(message, LogLevel.ERROR, throwable, Map.of());
+        processLog(null, message, null, null, LogLevel.ERROR, throwable, Map.of());
     }
 
     public void logWithMetadata(String message, LogLevel level, Map<String, Object> metadata) {
-        processLog(message, level, null, metadata);
+        processLog(null, message, null, null, level, null, metadata);
     }
 
     public void logWithMetadata(String message, LogLevel level, Map<String, Object> metadata, Throwable throwable) {
-        processLog(message, level, throwable, metadata);
+        processLog(null, message, null, null, level, throwable, metadata);
+    }
+
+    /**
+     * Logs on behalf of an explicitly named logger, skipping caller resolution entirely.
+     */
+    public void log(String loggerName, LogLevel level, String message, Throwable throwable) {
+        processLog(loggerName, message, null, null, level, throwable, Map.of());
+    }
+
+    /**
+     * Logs with metadata on behalf of an explicitly named logger, skipping caller resolution.
+     */
+    public void log(String loggerName, LogLevel level, String message, Map<String, Object> metadata) {
+        processLog(loggerName, message, null, null, level, null, metadata);
+    }
+
+    /**
+     * Logs an entry built by the caller as is, keeping its trace id, span id and service name
+     * rather than the current thread's; for entries logged on behalf of an earlier one, such as
+     * a summary of its repeats.
+     */
+    public void log(LogEntry logEntry) {
+        if (!isLevelEnabled(logEntry.getLevel())) {
+            return;
+        }
+
+        try {
+            if (asyncDispatcher == null || !asyncDispatcher.submit(logEntry)) {
+                dispatch(logEntry, false);
+            }
+        } catch (Exception e) {
+            log.error("Error processing log entry", e);
+        }
+    }
+
+    /**
+     * Logs a {@code "{}"} template that is only rendered if a filter or processor reads the
+     * message. A {@link Throwable} in last position is taken as the entry's throwable.
+     *
+     * @param loggerName the logger to log as, or {@code null} to resolve the caller
+     */
+    public void logFormatted(String loggerName, LogLevel level, String messageTemplate, Object[] arguments) {
+        if (!isLevelEnabled(level)) {
+            return;
+        }
+
+        Throwable throwable = MessageTemplate.trailingThrowable(arguments);
+        Object[] templateArguments = throwable != null ? Arrays.copyOf(arguments, arguments.length - 1) : arguments;
+        processLog(loggerName, null, messageTemplate, templateArguments, level, throwable, Map.of());
     }
 
-    private void processLog(String message, LogLevel level, Throwable throwable, Map<String, Object> metadata) {
-        if (!properties.isEnabled() || !isLevelEnabled(level)) {
+    private void processLog(String loggerName,
+                            String message,
+                            String messageTemplate,
+                            Object[] arguments,
+                            LogLevel level,
+                            Throwable throwable,
+                            Map<String, Object> metadata) {
+        if (!isLevelEnabled(level)) {
             return;
         }
 
-        long startTime = System.currentTimeMillis();
+        boolean timed = shouldSampleTiming();
+        long startTime = timed ? System.nanoTime() : 0L;
 
+        LogEntry logEntry = null;
         try {
-            LogEntry.LogEntryBuilder entryBuilder = LogEntry.builder()
-                    .message(message)
-                    .level(level)
-                    .logger(getCallerClass())
-                    .serviceName(properties.getServiceName())
-                    .throwable(throwable)
-                    .metadata(metadata);
+            String logger = loggerName != null ? loggerName : CallerResolver.resolve();
 
+            long traceStartTime = timed ? System.nanoTime() : 0L;
+            String traceId = null;
+            String spanId = null;
             if (properties.isTraceEnabled()) {
-                traceContextProvider.getCurrentTraceId().ifPresent(entryBuilder::traceId);
-                traceContextProvider.getCurrentSpanId().ifPresent(entryBuilder::spanId);
+                TraceContext traceContext = traceContextProvider.getCurrentTraceContext();
+                if (traceContext != null) {
+                    traceId = traceContext.getTraceId();
+                    spanId = traceContext.getSpanId();
+                }
             }
+            long traceEndTime = timed ? System.nanoTime() : 0L;
 
-            LogEntry logEntry = entryBuilder.build();
+            logEntry = entryPool != null
+                    ? entryPool.acquire(message, messageTemplate, arguments, level, logger, traceId, spanId,
+                            properties.getServiceName(), throwable, metadata)
+                    : LogEntry.builder()
+                            .message(message)
+                            .messageTemplate(messageTemplate)
+                            .arguments(arguments)
+                            .level(level)
+                            .logger(logger)
+                            .traceId(traceId)
+                            .spanId(spanId)
+                            .serviceName(properties.getServiceName())
+                            .throwable(throwable)
+                            .metadata(metadata)
+                            // Processed on a library thread, whose MDC and name are not the caller's
+                            .contextMap(asyncDispatcher != null ? MDC.getCopyOfContextMap() : null)
+                            .threadName(asyncDispatcher != null ? Thread.currentThread().getName() : null)
+                            .build();
 
-            LogEntry filteredEntry = applyFilters(logEntry);
-            if (filteredEntry != null) {
-                processWithProcessors(filteredEntry);
-                if (properties.isMetricsEnabled()) {
-                    metricsCollector.incrementLogCount(level, filteredEntry.getServiceName());
-                }
+            if (timed) {
+                long buildEndTime = System.nanoTime();
+                metricsCollector.recordStageTime(ProcessingStage.TRACE_LOOKUP, null, traceEndTime - traceStartTime);
+                metricsCollector.recordStageTime(ProcessingStage.ENTRY_BUILD, null,
+                        (traceStartTime - startTime) + (buildEndTime - traceEndTime));
+            }
+
+            if (asyncDispatcher == null || !asyncDispatcher.submit(logEntry)) {
+                dispatch(logEntry, timed);
             }
 
         } catch (Exception e) {
             log.error("Error processing log entry", e);
         } finally {
-            if (properties.isMetricsEnabled()) {
-                long processingTime = System.currentTimeMillis() - startTime;
-                metricsCollector.recordLogProcessingTime(processingTime);
+            if (entryPool != null && logEntry != null) {
+                entryPool.release(logEntry);
+            }
+            if (timed) {
+                metricsCollector.recordLogProcessingTimeNanos(System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    private void dispatch(LogEntry logEntry, boolean timed) {
+        LogEntry filteredEntry = applyFilters(logEntry, timed);
+        if (filteredEntry != null) {
+            processWithProcessors(filteredEntry, timed);
+            countEntry(filteredEntry);
+        }
+    }
+
+    /**
+     * Filter stage of the ring buffer: the entry that processors will see, or {@code null}.
+     */
+    private LogEntry filterForRingBuffer(LogEntry logEntry) {
+        LogEntry filteredEntry = applyFilters(logEntry, shouldSampleTiming());
+        if (filteredEntry != null) {
+            countEntry(filteredEntry);
+        }
+        return filteredEntry;
+    }
+
+    private void countEntry(LogEntry logEntry) {
+        if (properties.isMetricsEnabled()) {
+            metricsCollector.incrementLogCount(logEntry.getLevel(), logEntry.getServiceName());
+        }
+    }
+
+    /**
+     * Whether this entry's processing time is measured, according to {@code timing-sample-rate}.
+     */
+    private boolean shouldSampleTiming() {
+        if (!properties.isMetricsEnabled()) {
+            return false;
+        }
+        double sampleRate = properties.getTimingSampleRate();
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private void dispatchBatch(List<LogEntry> batch) {
+        for (LogEntry logEntry : batch) {
+            try {
+                dispatch(logEntry, shouldSampleTiming());
+            } catch (Exception e) {
+                log.error("Error processing log entry", e);
             }
         }
     }
 
-    private boolean isLevelEnabled(LogLevel level) {
-        LogLevel configuredLevel = LogLevel.valueOf(properties.getLogLevel().toUpperCase());
-        return level.isEnabledFor(configuredLevel);
+    private void onEntryDropped(LogEntry logEntry) {
+        if (properties.isMetricsEnabled()) {
+            metricsCollector.incrementDroppedCount(logEntry.getLevel());
+        }
+    }
+
+    /**
+     * Whether an entry at {@code level} would be logged; callers can check this before building
+     * an expensive message.
+     */
+    public boolean isLevelEnabled(LogLevel level) {
+        return properties.isEnabled() && level.isEnabledFor(properties.getLevelThreshold());
+    }
+
+    private LogEntry applyFilters(LogEntry logEntry, boolean timed) {
+        long filterStartTime = timed ? System.nanoTime() : 0L;
+        LogEntry filteredEntry = applyFilters(logEntry);
+        if (timed) {
+            metricsCollector.recordStageTime(ProcessingStage.FILTERS, null, System.nanoTime() - filterStartTime);
+        }
+        return filteredEntry;
     }
 
     private LogEntry applyFilters(LogEntry logEntry) {
         LogEntry current = logEntry;
 
         for (LogFilter filter : logFilters) {
-            if (filter.shouldFilter(current)) {
-                current = filter.filter(current);
-                if (current == null) {
-                    return null;
-                }
+            current = filter.apply(current);
+            if (current == null) {
+                return null;
             }
         }
 
         return current;
     }
 
-    private void processWithProcessors(LogEntry logEntry) {
-        logProcessors.stream()
-                .filter(processor -> processor.isEnabled(logEntry))
-                .forEach(processor -> {
-                    try {
-                        processor.process(logEntry);
-                    } catch (Exception e) {
-                        log.error("Error in log processor: {}", processor.getClass().getSimpleName(), e);
-                        if (properties.isMetricsEnabled()) {
-                            metricsCollector.incrementErrorCount(logEntry);
-                        }
-                    }
-                });
-    }
-
-    private String getCallerClass() {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        for (int i = 1; i < stackTrace.length; i++) {
-            String className = stackTrace[i].getClassName();
-            if (!className.startsWith("com.carlosmgv02.logginglibrary")) {
-                return className;
+    private void processWithProcessors(LogEntry logEntry, boolean timed) {
+        List<LogProcessor> processors = activeProcessors != null ? activeProcessors : logProcessors;
+        for (int i = 0, size = processors.size(); i < size; i++) {
+            LogProcessor processor = processors.get(i);
+            if (processor.isEnabled(logEntry)) {
+                processWith(processor, logEntry, timed);
+            }
+        }
+    }
+
+    private void processWith(LogProcessor processor, LogEntry logEntry, boolean timed) {
+        // An offloaded processor only hands the entry over here; its delegate is timed on its own thread
+        timed = timed && !(processor instanceof OffloadedLogProcessor);
+        long processorStartTime = timed ? System.nanoTime() : 0L;
+        try {
+            processor.process(logEntry);
+        } catch (Exception e) {
+            log.error("Error in log processor: {}", processor.getClass().getSimpleName(), e);
+            if (properties.isMetricsEnabled()) {
+                metricsCollector.incrementErrorCount(logEntry);
             }
         }
-        return "UnknownCaller";
+        if (timed) {
+            metricsCollector.recordStageTime(ProcessingStage.PROCESSOR, processor.getClass().getSimpleName(),
+                    System.nanoTime() - processorStartTime);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,155 @@
+package com.carlosmgv02.logginglibrary.application.service;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties.OverflowPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Runs a blocking {@link LogProcessor} off the logging thread.
+ *
+ * <p>Each entry is processed in its own virtual thread when the JVM has them (Java 21+), and
+ * otherwise on a platform thread pool sized to {@code maxConcurrency}. At most
+ * {@code maxConcurrency} entries are in flight at once; once that limit is reached the
+ * {@link OverflowPolicy} decides whether the logging thread waits for a slot ({@code BLOCK})
+ * or the entry is dropped (any other policy).
+ */
+@Slf4j
+public final class OffloadedLogProcessor implements LogProcessor {
+
+    private static final String THREAD_NAME_PREFIX = "logging-library-";
+
+    private final LogProcessor delegate;
+    private final BiConsumer<LogProcessor, LogEntry> processorStage;
+    private final Consumer<LogEntry> dropHandler;
+    private final OverflowPolicy overflowPolicy;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    /**
+     * @param processorStage runs the delegate on an entry, including error handling and timing
+     * @param dropHandler    called for entries dropped because the processor is saturated
+     */
+    public OffloadedLogProcessor(LogProcessor delegate,
+                                 int maxConcurrency,
+                                 OverflowPolicy overflowPolicy,
+                                 BiConsumer<LogProcessor, LogEntry> processorStage,
+                                 Consumer<LogEntry> dropHandler) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        this.delegate = delegate;
+        this.processorStage = processorStage;
+        this.dropHandler = dropHandler;
+        this.overflowPolicy = overflowPolicy;
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = newExecutor(delegate.getClass().getSimpleName(), maxConcurrency);
+    }
+
+    /**
+     * Returns the processor that actually handles entries: the delegate of an offloaded
+     * processor, otherwise the processor itself.
+     */
+    public static LogProcessor unwrap(LogProcessor processor) {
+        return processor instanceof OffloadedLogProcessor offloaded ? offloaded.delegate : processor;
+    }
+
+    @Override
+    public void process(LogEntry logEntry) {
+        LogEntry ownedEntry = logEntry.copy();
+        if (!acquirePermit()) {
+            dropHandler.accept(ownedEntry);
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    processorStage.accept(delegate, ownedEntry);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            dropHandler.accept(ownedEntry);
+        }
+    }
+
+    @Override
+    public boolean isEnabled(LogEntry logEntry) {
+        return delegate.isEnabled(logEntry);
+    }
+
+    public boolean usesVirtualThreads() {
+        return !(executor instanceof ThreadPoolExecutor);
+    }
+
+    /**
+     * Stops accepting entries and waits up to {@code timeout} for those in flight.
+     */
+    public void shutdown(Duration timeout) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Processor {} did not finish within {} ms", delegate.getClass().getSimpleName(), timeout.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean acquirePermit() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (overflowPolicy != OverflowPolicy.BLOCK) {
+            return false;
+        }
+
+        try {
+            permits.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static ExecutorService newExecutor(String processorName, int maxConcurrency) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            log.debug("Virtual threads unavailable, running {} on a pool of {} platform threads",
+                    processorName, maxConcurrency);
+        }
+
+        // The permits already bound the number of queued tasks to maxConcurrency
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrency, maxConcurrency,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), daemonThreads(THREAD_NAME_PREFIX + processorName));
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
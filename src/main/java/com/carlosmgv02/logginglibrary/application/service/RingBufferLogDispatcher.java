@@ -0,0 +1,477 @@
+package com.carlosmgv02.logginglibrary.application.service;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties.OverflowPolicy;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties.WaitStrategy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Multi-producer ring buffer that fans log entries out to one consumer thread per processor.
+ *
+ * <p>Producers claim a slot by advancing a shared cursor with a CAS, write the entry and mark
+ * the slot as published; there is no lock and no shared queue node. A single filter consumer
+ * runs the filters on each published slot and writes the result back in place. Every
+ * {@link LogProcessor} then has its own consumer thread and sequence that trails the filter
+ * consumer, so a slow processor only holds back producers once the whole ring is full, never
+ * the other processors. Each consumer handles every slot available to it in one batch.
+ *
+ * <p>The ring holds {@code bufferSize} entries rounded up to a power of two. When it is full,
+ * {@link OverflowPolicy#BLOCK} makes producers wait using the configured {@link WaitStrategy};
+ * the other policies drop the incoming entry. The last processor to handle a slot clears it,
+ * so the ring does not keep handled entries reachable until producers come round again.
+ *
+ * <p>On shutdown the consumers handle every entry claimed so far and exit. Entries claimed
+ * after that, by producers that passed the running check just before shutdown, are handled
+ * on the producer's or the shutting down thread, whichever gets to them first.
+ */
+@Slf4j
+public class RingBufferLogDispatcher implements LogDispatcher {
+
+    static final String FILTER_CONSUMER = "filters";
+
+    private static final String THREAD_NAME_PREFIX = "logging-library-ring-";
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final LogEntry[] entries;
+    /** Sequence last published into each slot; a slot is readable once it holds the expected sequence. */
+    private final AtomicLongArray published;
+    /** Processors that have yet to handle each slot; the one that takes it to zero clears the slot. */
+    private final AtomicIntegerArray readersLeft;
+    private final int mask;
+    private final OverflowPolicy overflowPolicy;
+    private final WaitStrategy waitStrategy;
+    private final Consumer<LogEntry> dropHandler;
+
+    /** Last claimed sequence. */
+    private final Sequence cursor = new Sequence();
+    private final FilterConsumer filterConsumer;
+    private final List<ProcessorConsumer> processorConsumers;
+    /** Consumers producers must not lap: the processors, or the filter consumer if there are none. */
+    private final Sequence[] gatingSequences;
+    /** Lowest gating sequence seen by any producer; only ever stale on the low side. */
+    private final Sequence gatingCache = new Sequence();
+
+    private volatile boolean running;
+    /** Set once every consumer thread has exited on shutdown; leftovers are then handled inline. */
+    private volatile boolean consumersStopped;
+
+    public RingBufferLogDispatcher(int bufferSize,
+                                   WaitStrategy waitStrategy,
+                                   OverflowPolicy overflowPolicy,
+                                   UnaryOperator<LogEntry> filterStage,
+                                   List<LogProcessor> processors,
+                                   BiConsumer<LogProcessor, LogEntry> processorStage,
+                                   Consumer<LogEntry> dropHandler) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        int capacity = bufferSize <= 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        this.entries = new LogEntry[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.readersLeft = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, Sequence.INITIAL);
+        }
+        this.mask = capacity - 1;
+        this.overflowPolicy = overflowPolicy;
+        this.waitStrategy = waitStrategy;
+        this.dropHandler = dropHandler;
+
+        this.filterConsumer = new FilterConsumer(filterStage);
+        List<ProcessorConsumer> consumers = new ArrayList<>(processors.size());
+        for (LogProcessor processor : processors) {
+            consumers.add(new ProcessorConsumer(processor, processorStage));
+        }
+        this.processorConsumers = Collections.unmodifiableList(consumers);
+
+        if (consumers.isEmpty()) {
+            this.gatingSequences = new Sequence[]{filterConsumer.sequence};
+        } else {
+            this.gatingSequences = new Sequence[consumers.size()];
+            for (int i = 0; i < consumers.size(); i++) {
+                gatingSequences[i] = consumers.get(i).sequence;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        filterConsumer.thread.start();
+        for (ProcessorConsumer consumer : processorConsumers) {
+            consumer.thread.start();
+        }
+    }
+
+    /**
+     * Publishes an entry into the ring. Entries logged from one of the consumer threads (a
+     * filter or processor that logs) are handed back to the caller, as a full ring would
+     * otherwise make that thread wait on itself.
+     */
+    @Override
+    public boolean submit(LogEntry logEntry) {
+        if (!running || Thread.currentThread() instanceof ConsumerThread) {
+            return false;
+        }
+
+        long sequence = claim();
+        if (sequence < 0) {
+            dropHandler.accept(logEntry);
+            return true;
+        }
+
+        int index = (int) sequence & mask;
+        entries[index] = logEntry;
+        published.lazySet(index, sequence);
+        if (consumersStopped) {
+            // Claimed after the consumers exited: nobody else is going to handle it
+            handleLeftovers();
+        }
+        return true;
+    }
+
+    @Override
+    public void shutdown(Duration timeout) {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<ConsumerThread> threads = new ArrayList<>();
+        threads.add(filterConsumer.thread);
+        for (ProcessorConsumer consumer : processorConsumers) {
+            threads.add(consumer.thread);
+        }
+
+        for (ConsumerThread thread : threads) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            try {
+                thread.join(Math.max(1L, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        boolean stopped = true;
+        for (ConsumerThread thread : threads) {
+            if (thread.isAlive()) {
+                stopped = false;
+                log.warn("Ring buffer consumer {} did not finish within {} ms, {} entries pending",
+                        thread.getName(), timeout.toMillis(), getPendingCount());
+            }
+        }
+        if (stopped) {
+            consumersStopped = true;
+            handleLeftovers();
+        }
+    }
+
+    /**
+     * Handles, on the calling thread, entries claimed after the consumer threads exited. A
+     * producer that claimed a slot either sees {@link #consumersStopped} set, or claimed it
+     * before shutdown read the cursor here, so every such entry is handled exactly once.
+     */
+    private synchronized void handleLeftovers() {
+        long last = cursor.get();
+        for (long current = filterConsumer.sequence.get() + 1; current <= last; current++) {
+            int index = (int) current & mask;
+            while (published.get(index) != current) {
+                // Claimed but not published yet; the producer is between two plain writes
+                Thread.onSpinWait();
+            }
+            filterConsumer.handleSafely(index);
+            filterConsumer.sequence.set(current);
+            for (ProcessorConsumer consumer : processorConsumers) {
+                consumer.handleSafely(index);
+                consumer.sequence.set(current);
+            }
+            entries[index] = null;
+        }
+    }
+
+    /**
+     * Entries claimed by producers that the slowest processor has not handled yet.
+     */
+    @Override
+    public int getPendingCount() {
+        long current = cursor.get();
+        return (int) (current - minimumGatingSequence(current));
+    }
+
+    /**
+     * How far each consumer trails the producers, in entries, keyed by consumer name: the
+     * {@value #FILTER_CONSUMER} consumer and each processor's simple class name, suffixed with
+     * {@code -2}, {@code -3}... when several processors share it.
+     */
+    public Map<String, LongSupplier> getConsumerLag() {
+        Map<String, LongSupplier> lag = new LinkedHashMap<>();
+        lag.put(FILTER_CONSUMER, filterConsumer::lag);
+        for (ProcessorConsumer consumer : processorConsumers) {
+            String name = consumer.name;
+            for (int suffix = 2; lag.containsKey(name); suffix++) {
+                name = consumer.name + "-" + suffix;
+            }
+            lag.put(name, consumer::lag);
+        }
+        return lag;
+    }
+
+    /**
+     * @return the claimed sequence, or {@code -1} if the entry must be dropped
+     */
+    private long claim() {
+        int idleCount = 0;
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - entries.length;
+
+            if (wrapPoint > gatingCache.get()) {
+                long minimum = minimumGatingSequence(current);
+                gatingCache.set(minimum);
+                if (wrapPoint > minimum) {
+                    if (overflowPolicy != OverflowPolicy.BLOCK || !running || Thread.currentThread().isInterrupted()) {
+                        return -1;
+                    }
+                    idleCount = idle(idleCount);
+                    continue;
+                }
+            }
+
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long minimumGatingSequence(long defaultSequence) {
+        long minimum = defaultSequence;
+        for (Sequence sequence : gatingSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+
+    private int idle(int idleCount) {
+        if (waitStrategy == WaitStrategy.BUSY_SPIN || idleCount < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (waitStrategy == WaitStrategy.YIELD || idleCount < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return idleCount == Integer.MAX_VALUE ? idleCount : idleCount + 1;
+    }
+
+    /**
+     * A consumer thread with its own sequence: the last slot it has finished with.
+     */
+    private abstract class RingConsumer implements Runnable {
+        final Sequence sequence = new Sequence();
+        final String name;
+        final ConsumerThread thread;
+
+        RingConsumer(String name) {
+            this.name = name;
+            this.thread = new ConsumerThread(this, THREAD_NAME_PREFIX + name);
+        }
+
+        /** Highest sequence this consumer may handle, or less than {@code next} if none is ready. */
+        abstract long available(long next);
+
+        abstract void handle(int index);
+
+        /** Whether, once shut down, this consumer has handled everything it is going to get. */
+        abstract boolean caughtUp();
+
+        void handleSafely(int index) {
+            try {
+                handle(index);
+            } catch (Exception e) {
+                log.error("Error in ring buffer consumer {}", name, e);
+            }
+        }
+
+        long lag() {
+            return cursor.get() - sequence.get();
+        }
+
+        @Override
+        public void run() {
+            int idleCount = 0;
+            while (true) {
+                long next = sequence.get() + 1;
+                long available = available(next);
+
+                if (available >= next) {
+                    for (long current = next; current <= available; current++) {
+                        handleSafely((int) current & mask);
+                    }
+                    sequence.set(available);
+                    idleCount = 0;
+                } else if (!running && caughtUp()) {
+                    return;
+                } else {
+                    idleCount = idle(idleCount);
+                }
+            }
+        }
+    }
+
+    private final class FilterConsumer extends RingConsumer {
+        private final UnaryOperator<LogEntry> filterStage;
+
+        FilterConsumer(UnaryOperator<LogEntry> filterStage) {
+            super(FILTER_CONSUMER);
+            this.filterStage = filterStage;
+        }
+
+        @Override
+        long available(long next) {
+            long current = next;
+            long limit = next + entries.length;
+            while (current < limit && published.get((int) current & mask) == current) {
+                current++;
+            }
+            return current - 1;
+        }
+
+        @Override
+        boolean caughtUp() {
+            return sequence.get() >= cursor.get();
+        }
+
+        @Override
+        void handle(int index) {
+            LogEntry logEntry = entries[index];
+            // Cleared first so that an entry whose filters throw is skipped rather than processed unfiltered
+            entries[index] = null;
+            LogEntry filtered = filterStage.apply(logEntry);
+            if (filtered != null && !processorConsumers.isEmpty()) {
+                readersLeft.set(index, processorConsumers.size());
+                entries[index] = filtered;
+            }
+        }
+    }
+
+    private final class ProcessorConsumer extends RingConsumer {
+        private final LogProcessor processor;
+        private final BiConsumer<LogProcessor, LogEntry> processorStage;
+
+        ProcessorConsumer(LogProcessor processor, BiConsumer<LogProcessor, LogEntry> processorStage) {
+            super(consumerName(processor));
+            this.processor = processor;
+            this.processorStage = processorStage;
+        }
+
+        @Override
+        long available(long next) {
+            return filterConsumer.sequence.get();
+        }
+
+        @Override
+        boolean caughtUp() {
+            // Not the cursor: a slot claimed after the filter consumer exited never reaches this consumer
+            return !filterConsumer.thread.isAlive() && sequence.get() >= filterConsumer.sequence.get();
+        }
+
+        @Override
+        void handle(int index) {
+            LogEntry logEntry = entries[index];
+            if (logEntry == null) {
+                return;
+            }
+            try {
+                if (processor.isEnabled(logEntry)) {
+                    processorStage.accept(processor, logEntry);
+                }
+            } finally {
+                // Before this consumer's sequence moves past the slot, so producers can not have reused it yet
+                if (readersLeft.decrementAndGet(index) == 0) {
+                    entries[index] = null;
+                }
+            }
+        }
+    }
+
+    private static String consumerName(LogProcessor processor) {
+        Class<?> processorType = OffloadedLogProcessor.unwrap(processor).getClass();
+        String simpleName = processorType.getSimpleName();
+        return simpleName.isEmpty() ? processorType.getName() : simpleName;
+    }
+
+    private static final class ConsumerThread extends Thread {
+        ConsumerThread(Runnable consumer, String name) {
+            super(consumer, name);
+            setDaemon(true);
+        }
+    }
+
+    /**
+     * A sequence counter padded on both sides so that sequences written by different threads
+     * never share a cache line.
+     */
+    static final class Sequence extends SequenceValue {
+        static final long INITIAL = -1L;
+
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        @SuppressWarnings("unused")
+        private long p9, p10, p11, p12, p13, p14, p15;
+
+        Sequence() {
+            VALUE.setRelease(this, INITIAL);
+        }
+
+        long get() {
+            return (long) VALUE.getAcquire(this);
+        }
+
+        void set(long newValue) {
+            VALUE.setRelease(this, newValue);
+        }
+
+        boolean compareAndSet(long expected, long newValue) {
+            return VALUE.compareAndSet(this, expected, newValue);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class SequenceLeftPadding {
+        protected long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    private static class SequenceValue extends SequenceLeftPadding {
+        protected volatile long value;
+    }
+}
@@ -1,5 +1,9 @@
 package com.carlosmgv02.logginglibrary.config;
 
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.DeduplicationProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.LogstashTcpProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.MappedFileProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.SamplingProperties;
 import com.carlosmgv02.logginglibrary.infrastructure.adapter.SensitiveDataProperties;
 import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +13,14 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @ComponentScan(basePackages = "com.carlosmgv02.logginglibrary")
-@EnableConfigurationProperties({LoggingProperties.class, SensitiveDataProperties.class})
+@EnableConfigurationProperties({
+        LoggingProperties.class,
+        SensitiveDataProperties.class,
+        LogstashTcpProperties.class,
+        MappedFileProperties.class,
+        SamplingProperties.class,
+        DeduplicationProperties.class
+})
 @Slf4j
 public class LoggingLibraryAutoConfiguration {
 
@@ -1,5 +1,6 @@
 package com.carlosmgv02.logginglibrary.domain.model;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -8,20 +9,183 @@ import lombok.ToString;
 import java.time.Instant;
 import java.util.Map;
 
+/**
+ * A single log event.
+ *
+ * <p>The message is either given as text or as a {@code "{}"} template plus arguments. A
+ * template is only rendered the first time {@link #getMessage()} is called, typically by the
+ * first filter or processor that needs the text, and the result is kept for everyone after it.
+ * Entries that are filtered out or dropped before that point never pay for formatting.
+ * Equality and {@code toString} use the rendered message.
+ *
+ * <p>Entries built with {@link #builder()} never change. Entries handed out by a
+ * {@link LogEntryPool} are {@linkplain #isReusable() reusable}: they are only valid until the
+ * log call that produced them returns and are then overwritten by the next one on the same
+ * thread. Code that keeps an entry beyond that call must keep {@link #copy()} instead.
+ *
+ * <p>Entries handed to another thread for processing carry the logging thread's MDC and name,
+ * so sinks can report those rather than the library thread's; they are {@code null} for entries
+ * processed on the thread that logged them.
+ */
 @Getter
-@Builder(toBuilder = true)
 @EqualsAndHashCode
 @ToString
 public final class LogEntry {
-    private final String message;
-    private final LogLevel level;
-    @Builder.Default
-    private final Instant timestamp = Instant.now();
-    private final String logger;
-    private final String traceId;
-    private final String spanId;
-    private final String serviceName;
-    private final Throwable throwable;
-    @Builder.Default
-    private final Map<String, Object> metadata = Map.of();
-}
\ No newline at end of file
+    private String message;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String messageTemplate;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Object[] arguments;
+    private LogLevel level;
+    private Instant timestamp;
+    private String logger;
+    private String traceId;
+    private String spanId;
+    private String serviceName;
+    private Throwable throwable;
+    private Map<String, Object> metadata;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Map<String, String> contextMap;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String threadName;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final boolean reusable;
+    /** Creation time of a reusable entry; its {@link Instant} is only created if asked for. */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private long epochMillis;
+
+    @Builder
+    private LogEntry(String message,
+                     String messageTemplate,
+                     Object[] arguments,
+                     LogLevel level,
+                     Instant timestamp,
+                     String logger,
+                     String traceId,
+                     String spanId,
+                     String serviceName,
+                     Throwable throwable,
+                     Map<String, Object> metadata,
+                     Map<String, String> contextMap,
+                     String threadName) {
+        this.message = message;
+        this.messageTemplate = message == null ? messageTemplate : null;
+        this.arguments = message == null ? arguments : null;
+        this.level = level;
+        this.timestamp = timestamp != null ? timestamp : Instant.now();
+        this.logger = logger;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.serviceName = serviceName;
+        this.throwable = throwable;
+        this.metadata = metadata != null ? metadata : Map.of();
+        this.contextMap = contextMap;
+        this.threadName = threadName;
+        this.reusable = false;
+    }
+
+    /** Empty reusable entry, filled in by {@link LogEntryPool}. */
+    LogEntry() {
+        this.metadata = Map.of();
+        this.reusable = true;
+    }
+
+    /**
+     * Returns the message, rendering the template on first use.
+     */
+    public String getMessage() {
+        String rendered = message;
+        if (rendered == null && messageTemplate != null) {
+            rendered = MessageTemplate.render(messageTemplate, arguments);
+            message = rendered;
+        }
+        return rendered;
+    }
+
+    public Instant getTimestamp() {
+        Instant instant = timestamp;
+        if (instant == null) {
+            instant = Instant.ofEpochMilli(epochMillis);
+            timestamp = instant;
+        }
+        return instant;
+    }
+
+    /**
+     * Returns the timestamp in epoch milliseconds, without creating an {@link Instant} for a reusable entry.
+     */
+    public long getTimestampMillis() {
+        Instant instant = timestamp;
+        return instant != null ? instant.toEpochMilli() : epochMillis;
+    }
+
+    /**
+     * Returns an entry that stays valid after the current log call: this entry itself if it is
+     * immutable, otherwise an immutable snapshot with the message already rendered.
+     */
+    public LogEntry copy() {
+        if (!reusable) {
+            return this;
+        }
+        return new LogEntry(getMessage(), null, null, level, getTimestamp(), logger, traceId, spanId,
+                serviceName, throwable, metadata, contextMap, threadName);
+    }
+
+    /**
+     * Returns a builder initialised from this entry. For a reusable entry this is a builder for
+     * an immutable entry, like {@link #copy()}.
+     */
+    public LogEntryBuilder toBuilder() {
+        return new LogEntryBuilder()
+                .message(message)
+                .messageTemplate(messageTemplate)
+                .arguments(arguments)
+                .level(level)
+                .timestamp(getTimestamp())
+                .logger(logger)
+                .traceId(traceId)
+                .spanId(spanId)
+                .serviceName(serviceName)
+                .throwable(throwable)
+                .metadata(metadata)
+                .contextMap(contextMap)
+                .threadName(threadName);
+    }
+
+    void fill(String message,
+              String messageTemplate,
+              Object[] arguments,
+              LogLevel level,
+              long epochMillis,
+              String logger,
+              String traceId,
+              String spanId,
+              String serviceName,
+              Throwable throwable,
+              Map<String, Object> metadata) {
+        this.message = message;
+        this.messageTemplate = message == null ? messageTemplate : null;
+        this.arguments = message == null ? arguments : null;
+        this.level = level;
+        this.timestamp = null;
+        this.epochMillis = epochMillis;
+        this.logger = logger;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.serviceName = serviceName;
+        this.throwable = throwable;
+        this.metadata = metadata != null ? metadata : Map.of();
+    }
+
+    /** Drops references held by a reusable entry so a pooled slot does not keep them alive. */
+    void clear() {
+        fill(null, null, null, null, 0L, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.carlosmgv02.logginglibrary.domain.model;
+
+import java.util.Map;
+
+/**
+ * Per-thread pool of reusable {@link LogEntry} instances.
+ *
+ * <p>Each thread owns a few entries, one per nesting level, so a filter or processor that
+ * logs while an entry is being processed gets its own entry instead of overwriting the one in
+ * flight. Deeper nesting than {@value #MAX_DEPTH} levels falls back to ordinary immutable entries.
+ * Every {@link #acquire} must be paired with a {@link #release} on the same thread.
+ */
+public final class LogEntryPool {
+
+    static final int MAX_DEPTH = 4;
+
+    private final ThreadLocal<Slots> slots = ThreadLocal.withInitial(Slots::new);
+
+    public LogEntry acquire(String message,
+                            String messageTemplate,
+                            Object[] arguments,
+                            LogLevel level,
+                            String logger,
+                            String traceId,
+                            String spanId,
+                            String serviceName,
+                            Throwable throwable,
+                            Map<String, Object> metadata) {
+        Slots threadSlots = slots.get();
+        int depth = threadSlots.depth++;
+        if (depth >= MAX_DEPTH) {
+            return LogEntry.builder()
+                    .message(message)
+                    .messageTemplate(messageTemplate)
+                    .arguments(arguments)
+                    .level(level)
+                    .logger(logger)
+                    .traceId(traceId)
+                    .spanId(spanId)
+                    .serviceName(serviceName)
+                    .throwable(throwable)
+                    .metadata(metadata)
+                    .build();
+        }
+
+        LogEntry entry = threadSlots.entries[depth];
+        entry.fill(message, messageTemplate, arguments, level, System.currentTimeMillis(),
+                logger, traceId, spanId, serviceName, throwable, metadata);
+        return entry;
+    }
+
+    /**
+     * Hands back the entry obtained from the matching {@link #acquire}; it must not be used afterwards.
+     */
+    public void release(LogEntry entry) {
+        Slots threadSlots = slots.get();
+        threadSlots.depth--;
+        if (entry.isReusable()) {
+            entry.clear();
+        }
+    }
+
+    private static final class Slots {
+        private final LogEntry[] entries = new LogEntry[MAX_DEPTH];
+        private int depth;
+
+        private Slots() {
+            for (int i = 0; i < MAX_DEPTH; i++) {
+                entries[i] = new LogEntry();
+            }
+        }
+    }
+}
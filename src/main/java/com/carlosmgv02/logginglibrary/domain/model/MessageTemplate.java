@@ -0,0 +1,92 @@
+package com.carlosmgv02.logginglibrary.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Renders SLF4J style {@code "{}"} message templates.
+ *
+ * <p>Placeholders are filled from left to right. {@code \{}} is a literal {@code {}},
+ * {@code \\{}} is a backslash followed by an argument, and placeholders left over once the
+ * arguments run out are kept as they are. Arrays are rendered with their contents.
+ */
+public final class MessageTemplate {
+
+    private static final String PLACEHOLDER = "{}";
+    private static final char ESCAPE = '\\';
+    private static final String FAILED_TO_STRING = "[FAILED toString()]";
+
+    private MessageTemplate() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String render(String template, Object[] arguments) {
+        if (template == null || arguments == null || arguments.length == 0) {
+            return template;
+        }
+
+        StringBuilder rendered = new StringBuilder(template.length() + 16 * arguments.length);
+        int from = 0;
+        int argumentIndex = 0;
+        while (argumentIndex < arguments.length) {
+            int placeholder = template.indexOf(PLACEHOLDER, from);
+            if (placeholder < 0) {
+                break;
+            }
+
+            if (!isEscaped(template, placeholder)) {
+                rendered.append(template, from, placeholder);
+                appendArgument(rendered, arguments[argumentIndex++]);
+            } else if (isEscaped(template, placeholder - 1)) {
+                rendered.append(template, from, placeholder - 1);
+                appendArgument(rendered, arguments[argumentIndex++]);
+            } else {
+                rendered.append(template, from, placeholder - 1).append(PLACEHOLDER);
+            }
+            from = placeholder + PLACEHOLDER.length();
+        }
+        return rendered.append(template, from, template.length()).toString();
+    }
+
+    /**
+     * Returns the last argument if it is a {@link Throwable}, which by SLF4J convention is the
+     * entry's throwable rather than a template argument.
+     */
+    public static Throwable trailingThrowable(Object[] arguments) {
+        if (arguments == null || arguments.length == 0) {
+            return null;
+        }
+        return arguments[arguments.length - 1] instanceof Throwable throwable ? throwable : null;
+    }
+
+    private static boolean isEscaped(String template, int index) {
+        return index > 0 && template.charAt(index - 1) == ESCAPE;
+    }
+
+    private static void appendArgument(StringBuilder rendered, Object argument) {
+        try {
+            if (argument == null || !argument.getClass().isArray()) {
+                rendered.append(argument);
+            } else if (argument instanceof Object[] objects) {
+                rendered.append(Arrays.deepToString(objects));
+            } else if (argument instanceof int[] ints) {
+                rendered.append(Arrays.toString(ints));
+            } else if (argument instanceof long[] longs) {
+                rendered.append(Arrays.toString(longs));
+            } else if (argument instanceof byte[] bytes) {
+                rendered.append(Arrays.toString(bytes));
+            } else if (argument instanceof char[] chars) {
+                rendered.append(Arrays.toString(chars));
+            } else if (argument instanceof short[] shorts) {
+                rendered.append(Arrays.toString(shorts));
+            } else if (argument instanceof boolean[] booleans) {
+                rendered.append(Arrays.toString(booleans));
+            } else if (argument instanceof float[] floats) {
+                rendered.append(Arrays.toString(floats));
+            } else {
+                rendered.append(Arrays.toString((double[]) argument));
+            }
+        } catch (RuntimeException e) {
+            rendered.append(FAILED_TO_STRING);
+        }
+    }
+}
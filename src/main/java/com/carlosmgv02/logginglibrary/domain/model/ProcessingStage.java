@@ -0,0 +1,18 @@
+package com.carlosmgv02.logginglibrary.domain.model;
+
+public enum ProcessingStage {
+    ENTRY_BUILD("entry_build"),
+    TRACE_LOOKUP("trace_lookup"),
+    FILTERS("filters"),
+    PROCESSOR("processor");
+
+    private final String name;
+
+    ProcessingStage(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,13 @@
+package com.carlosmgv02.logginglibrary.domain.model;
+
+import lombok.Value;
+
+/**
+ * The trace and span ids of the current span, taken in one lookup.
+ */
+@Value
+public class TraceContext {
+    String traceId;
+    String spanId;
+    boolean sampled;
+}
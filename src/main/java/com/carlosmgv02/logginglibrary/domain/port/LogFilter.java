@@ -2,7 +2,23 @@ package com.carlosmgv02.logginglibrary.domain.port;
 
 import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
 
+/**
+ * Inspects and possibly rewrites or discards log entries before they reach the processors.
+ *
+ * <p>{@link #filter} returns the entry to pass on (the same one, a modified copy built with
+ * {@link LogEntry#toBuilder()}, or {@code null} to discard it). As with {@link LogProcessor},
+ * the incoming entry must not be kept past the call without {@link LogEntry#copy()}.
+ */
 public interface LogFilter {
     LogEntry filter(LogEntry logEntry);
     boolean shouldFilter(LogEntry logEntry);
-}
\ No newline at end of file
+
+    /**
+     * Filters the entry if {@link #shouldFilter} says so, which is how the pipeline calls a
+     * filter. Filters whose check does work that {@link #filter} would repeat can override this
+     * to do both in one pass.
+     */
+    default LogEntry apply(LogEntry logEntry) {
+        return shouldFilter(logEntry) ? filter(logEntry) : logEntry;
+    }
+}
@@ -2,10 +2,45 @@ package com.carlosmgv02.logginglibrary.domain.port;
 
 import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
 import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.model.ProcessingStage;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Metrics port. Methods added after the first release default to doing nothing, or to the
+ * method they replace, so existing implementations keep compiling.
+ */
 public interface LogMetricsCollector {
     void incrementLogCount(LogLevel level, String serviceName);
+
+    /**
+     * @deprecated millisecond resolution rounds most entries down to zero; implement
+     * {@link #recordLogProcessingTimeNanos(long)} as well, which is what the library calls
+     */
+    @Deprecated
     void recordLogProcessingTime(long processingTimeMs);
+
+    default void recordLogProcessingTimeNanos(long processingTimeNanos) {
+        recordLogProcessingTime(TimeUnit.NANOSECONDS.toMillis(processingTimeNanos));
+    }
+
+    default void recordStageTime(ProcessingStage stage, String component, long durationNanos) {
+    }
+
     void recordLogSize(int logSizeBytes);
     void incrementErrorCount(LogEntry logEntry);
-}
\ No newline at end of file
+
+    default void incrementDroppedCount(LogLevel level) {
+    }
+
+    /** Counts an entry a filter deliberately left out, such as by sampling; {@code reason} tells which. */
+    default void incrementSuppressedCount(String reason, LogLevel level) {
+    }
+
+    default void registerConsumerLag(String consumer, LongSupplier lag) {
+    }
+
+    default void recordRedactionPrefilterResult(boolean candidate) {
+    }
+}
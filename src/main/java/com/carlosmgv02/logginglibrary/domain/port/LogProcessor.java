@@ -2,7 +2,15 @@ package com.carlosmgv02.logginglibrary.domain.port;
 
 import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
 
+/**
+ * Writes log entries somewhere.
+ *
+ * <p>The entry passed to {@link #process} is only guaranteed to be valid until the call
+ * returns: with {@code logging.library.garbage-free} enabled it is reused for the next log
+ * call on the same thread. Implementations that keep entries (queues, batches, caches) must
+ * keep {@link LogEntry#copy()} instead, which is free for immutable entries.
+ */
 public interface LogProcessor {
     void process(LogEntry logEntry);
     boolean isEnabled(LogEntry logEntry);
-}
\ No newline at end of file
+}
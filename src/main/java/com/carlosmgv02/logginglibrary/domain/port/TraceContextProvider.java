@@ -1,9 +1,37 @@
 package com.carlosmgv02.logginglibrary.domain.port;
 
+import com.carlosmgv02.logginglibrary.domain.model.TraceContext;
+
 import java.util.Optional;
 
 public interface TraceContextProvider {
     Optional<String> getCurrentTraceId();
     Optional<String> getCurrentSpanId();
     boolean isTraceActive();
-}
\ No newline at end of file
+
+    /**
+     * Same as {@link #getCurrentTraceId()} but returns {@code null} when there is no trace, so
+     * the logging hot path does not allocate an {@link Optional}.
+     */
+    default String getCurrentTraceIdOrNull() {
+        return getCurrentTraceId().orElse(null);
+    }
+
+    /**
+     * Same as {@link #getCurrentSpanId()} but returns {@code null} when there is no span.
+     */
+    default String getCurrentSpanIdOrNull() {
+        return getCurrentSpanId().orElse(null);
+    }
+
+    /**
+     * Trace id, span id and sampled flag of the current span in a single lookup, or {@code null}
+     * when there is no valid span. Implementations may return the same instance for as long as
+     * the same span is current. The default implementation calls the two lookups above and
+     * reports every trace as sampled.
+     */
+    default TraceContext getCurrentTraceContext() {
+        String traceId = getCurrentTraceIdOrNull();
+        return traceId != null ? new TraceContext(traceId, getCurrentSpanIdOrNull(), true) : null;
+    }
+}
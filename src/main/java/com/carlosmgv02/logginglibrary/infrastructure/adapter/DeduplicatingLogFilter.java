@@ -0,0 +1,248 @@
+package com.carlosmgv02.logginglibrary.infrastructure.adapter;
+
+import com.carlosmgv02.logginglibrary.application.service.LoggingApplicationService;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.port.LogFilter;
+import com.carlosmgv02.logginglibrary.domain.port.LogMetricsCollector;
+import com.carlosmgv02.logginglibrary.infrastructure.redaction.RedactedThrowable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collapses bursts of the same entry: the first occurrence passes, repeats within
+ * {@code window} are suppressed, and once the window closes a single entry reports how many
+ * times it was repeated.
+ *
+ * <p>Entries are fingerprinted by logger, level, message template (or message, for entries
+ * logged without one) and exception type, so an error logged with different arguments or
+ * exception messages still counts as a repeat. Fingerprints live in a fixed-size table with one
+ * slot per hash, guarded by a small set of striped locks; when two fingerprints share a slot,
+ * the newer one evicts the older and the older one's summary is logged early.
+ *
+ * <p>Runs after {@link SamplingLogFilter} and before redaction; only the first occurrence's
+ * message, trace id, span id and service name are kept for its summary, which goes through
+ * redaction again when it is logged.
+ */
+@Component
+@Order(DeduplicatingLogFilter.ORDER)
+@Slf4j
+public class DeduplicatingLogFilter implements LogFilter {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 200;
+
+    static final String SUPPRESSION_REASON = "duplicate";
+    static final String REPEATED_FIELD = "repeated";
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final DeduplicationProperties properties;
+    private final ObjectProvider<LoggingApplicationService> loggingService;
+    private final long windowNanos;
+    private final Slot[] slots;
+    private final int mask;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    /** Summaries of slots evicted before their window closed, logged by the next sweep. */
+    private final Queue<Slot> evicted = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger evictedCount = new AtomicInteger();
+    private LogMetricsCollector metricsCollector;
+    private ScheduledExecutorService scheduler;
+
+    public DeduplicatingLogFilter(DeduplicationProperties properties,
+                                  ObjectProvider<LoggingApplicationService> loggingService) {
+        this.properties = properties;
+        this.loggingService = loggingService;
+        this.windowNanos = properties.getWindow().toNanos();
+        int capacity = Integer.highestOneBit(Math.max(LOCK_STRIPES, properties.getMaxFingerprints() - 1)) << 1;
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Autowired(required = false)
+    public void setMetricsCollector(LogMetricsCollector metricsCollector) {
+        this.metricsCollector = metricsCollector;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "logging-library-deduplication");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Summaries are logged at most half a window after it closes
+        long intervalMs = Math.max(10L, properties.getWindow().toMillis() / 2);
+        scheduler.scheduleAtFixedRate(this::emitSummariesSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean shouldFilter(LogEntry logEntry) {
+        return properties.isEnabled()
+                && logEntry.getLevel() != null
+                && !logEntry.getMetadata().containsKey(REPEATED_FIELD);
+    }
+
+    @Override
+    public LogEntry filter(LogEntry logEntry) {
+        String logger = logEntry.getLogger();
+        LogLevel level = logEntry.getLevel();
+        String template = logEntry.getMessageTemplate() != null ? logEntry.getMessageTemplate() : logEntry.getMessage();
+        String exceptionType = logEntry.getThrowable() != null
+                ? RedactedThrowable.originalClassName(logEntry.getThrowable())
+                : null;
+        int hash = hash(logger, level, template, exceptionType);
+        int index = hash & mask;
+        long now = System.nanoTime();
+
+        synchronized (locks[index & (LOCK_STRIPES - 1)]) {
+            Slot slot = slots[index];
+            if (slot != null && now - slot.firstSeenNanos < windowNanos
+                    && slot.matches(hash, logger, level, template, exceptionType)) {
+                slot.repeats++;
+                if (metricsCollector != null) {
+                    metricsCollector.incrementSuppressedCount(SUPPRESSION_REASON, level);
+                }
+                return null;
+            }
+            if (slot != null && slot.repeats > 0) {
+                queueEvicted(slot);
+            }
+            slots[index] = new Slot(hash, logger, level, template, exceptionType, logEntry, now);
+        }
+        return logEntry;
+    }
+
+    /**
+     * Logs a summary for every fingerprint whose window has closed with repeats, and frees its
+     * slot.
+     */
+    public void emitSummaries() {
+        long now = System.nanoTime();
+        for (int index = 0; index < slots.length; index++) {
+            Slot closed = null;
+            synchronized (locks[index & (LOCK_STRIPES - 1)]) {
+                Slot slot = slots[index];
+                if (slot != null && now - slot.firstSeenNanos >= windowNanos) {
+                    slots[index] = null;
+                    closed = slot.repeats > 0 ? slot : null;
+                }
+            }
+            if (closed != null) {
+                emitSummary(closed);
+            }
+        }
+
+        Slot slot;
+        while ((slot = evicted.poll()) != null) {
+            evictedCount.decrementAndGet();
+            emitSummary(slot);
+        }
+    }
+
+    private void emitSummariesSafely() {
+        try {
+            emitSummaries();
+        } catch (RuntimeException e) {
+            log.warn("Could not log deduplication summaries: {}", e.getMessage());
+        }
+    }
+
+    private void emitSummary(Slot slot) {
+        LoggingApplicationService service = loggingService.getIfAvailable();
+        if (service == null) {
+            return;
+        }
+        service.log(LogEntry.builder()
+                .message(slot.message + " (repeated " + slot.repeats + " times)")
+                .level(slot.level)
+                .logger(slot.logger)
+                .traceId(slot.traceId)
+                .spanId(slot.spanId)
+                .serviceName(slot.serviceName)
+                .metadata(Map.of(REPEATED_FIELD, slot.repeats))
+                .build());
+    }
+
+    private void queueEvicted(Slot slot) {
+        // Bounded like the table; beyond that the repeat counts are only kept by the metric
+        if (evictedCount.incrementAndGet() <= slots.length) {
+            evicted.add(slot);
+        } else {
+            evictedCount.decrementAndGet();
+        }
+    }
+
+    private static int hash(String logger, LogLevel level, String template, String exceptionType) {
+        int hash = Objects.hashCode(logger);
+        hash = 31 * hash + level.ordinal();
+        hash = 31 * hash + Objects.hashCode(template);
+        hash = 31 * hash + Objects.hashCode(exceptionType);
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Slot {
+        final int hash;
+        final String logger;
+        final LogLevel level;
+        final String template;
+        final String exceptionType;
+        /** Of the first occurrence; the entry itself is not kept, as it may hold large arguments or throwables. */
+        final String message;
+        final String traceId;
+        final String spanId;
+        final String serviceName;
+        final long firstSeenNanos;
+        long repeats;
+
+        Slot(int hash, String logger, LogLevel level, String template, String exceptionType,
+             LogEntry first, long firstSeenNanos) {
+            this.hash = hash;
+            this.logger = logger;
+            this.level = level;
+            this.template = template;
+            this.exceptionType = exceptionType;
+            this.message = first.getMessage();
+            this.traceId = first.getTraceId();
+            this.spanId = first.getSpanId();
+            this.serviceName = first.getServiceName();
+            this.firstSeenNanos = firstSeenNanos;
+        }
+
+        boolean matches(int hash, String logger, LogLevel level, String template, String exceptionType) {
+            return this.hash == hash
+                    && this.level == level
+                    && Objects.equals(this.logger, logger)
+                    && Objects.equals(this.template, template)
+                    && Objects.equals(this.exceptionType, exceptionType);
+        }
+    }
+}
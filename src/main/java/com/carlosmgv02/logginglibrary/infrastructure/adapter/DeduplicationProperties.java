@@ -0,0 +1,16 @@
+package com.carlosmgv02.logginglibrary.infrastructure.adapter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "logging.deduplication")
+public class DeduplicationProperties {
+    private boolean enabled = false;
+    /** Repeats of an entry within this time after its first occurrence are suppressed. */
+    private Duration window = Duration.ofSeconds(10);
+    /** Fingerprints tracked at once, rounded up to a power of two; a new one evicts the one in its slot. */
+    private int maxFingerprints = 4096;
+}
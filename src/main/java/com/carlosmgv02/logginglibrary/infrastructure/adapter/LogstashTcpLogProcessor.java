@@ -0,0 +1,372 @@
+package com.carlosmgv02.logginglibrary.infrastructure.adapter;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.JsonLinesEncoder;
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.LogstashTcpConnection;
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.SpillJournal;
+import com.carlosmgv02.logginglibrary.shared.exception.LoggingException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ships log entries to Logstash as {@code json_lines} over TCP, without going through SLF4J,
+ * MDC and logback's {@code LogstashTcpSocketAppender}.
+ *
+ * <p>{@link #process} only queues a copy of the entry. A single writer thread takes entries off
+ * the queue in batches, encodes them into a reusable direct buffer and writes it to a
+ * non-blocking socket. While the load keeps the queue non-empty the next batch is encoded while
+ * the previous one is still being sent; the buffer is flushed completely whenever the queue runs
+ * dry. An entry counts as sent once the socket has taken its last byte; until then it is kept,
+ * and if the connection fails it is spilled or, without a journal, dropped and counted with the
+ * rest of the failed batch. Entries are also dropped and counted when the queue is full.
+ *
+ * <p>With {@code logging.logstash.tcp.spill.enabled} the writer keeps draining the queue while
+ * Logstash is unreachable, appending the encoded documents to a {@link SpillJournal} on local
+ * disk instead of letting the queue fill up; entries of a batch whose connection fails are
+ * spilled too. Once connected again the journal is replayed in order, and entries that arrive
+ * meanwhile are appended behind it. Replay is at least once: a batch cut short by a failure is
+ * sent again. Journaled entries also survive a restart.
+ *
+ * <p>Enable it with {@code logging.logstash.tcp.enabled=true} and remove the {@code LOGSTASH}
+ * appender from the logback configuration, or every entry is shipped twice.
+ */
+@Component
+@ConditionalOnProperty(prefix = "logging.logstash.tcp", name = "enabled", havingValue = "true")
+@Slf4j
+public class LogstashTcpLogProcessor implements LogProcessor {
+
+    private static final String WRITER_THREAD_NAME = "logging-library-logstash";
+    private static final long POLL_INTERVAL_MS = 100L;
+
+    private final BlockingQueue<LogEntry> queue;
+    private final int batchSize;
+    private final LogstashTcpConnection connection;
+    private final JsonLinesEncoder encoder = new JsonLinesEncoder();
+    private final ByteBuffer buffer;
+    /** {@code null} when spilling is disabled. */
+    private final SpillJournal journal;
+    private final Thread writer;
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    /** Entries with bytes the socket has not taken yet, oldest first. */
+    private final ArrayDeque<UnsentEntry> unsent = new ArrayDeque<>();
+    /** Bytes put in the buffer and taken by the socket since the last failure. */
+    private long appendedBytes;
+    private long writtenBytes;
+
+    private volatile boolean running;
+    private volatile long shutdownDeadlineMs = Long.MAX_VALUE;
+
+    public LogstashTcpLogProcessor(LogstashTcpProperties properties) {
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueSize());
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.connection = new LogstashTcpConnection(
+                properties.getDestinations(),
+                properties.getConnectTimeoutMs(),
+                properties.getWriteTimeoutMs(),
+                properties.getReconnectDelayMs(),
+                properties.getMaxReconnectDelayMs());
+        this.buffer = ByteBuffer.allocateDirect(properties.getBufferSize());
+        this.journal = properties.getSpill().isEnabled() ? openJournal(properties.getSpill()) : null;
+        this.writer = new Thread(this::writeLoop, WRITER_THREAD_NAME);
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer.start();
+    }
+
+    /**
+     * Stops taking entries and gives the writer up to {@code timeout} to send those already queued.
+     */
+    public void shutdown(Duration timeout) {
+        if (!running) {
+            return;
+        }
+        shutdownDeadlineMs = System.currentTimeMillis() + timeout.toMillis();
+        running = false;
+
+        try {
+            writer.join(timeout.toMillis() + POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (writer.isAlive()) {
+            log.warn("Logstash writer did not finish within {} ms, {} entries pending", timeout.toMillis(), queue.size());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        shutdown(Duration.ofSeconds(5));
+    }
+
+    @Override
+    public void process(LogEntry logEntry) {
+        if (!queue.offer(logEntry.copy())) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean isEnabled(LogEntry logEntry) {
+        return running;
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /** Entries dropped, including those evicted unshipped from a full spill journal. */
+    public long getDroppedCount() {
+        return droppedCount.get() + (journal != null ? journal.getEvictedCount() : 0L);
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /** Entries in the spill journal waiting to be replayed; 0 when spilling is disabled. */
+    public long getSpilledCount() {
+        return journal != null ? journal.getPendingCount() : 0L;
+    }
+
+    private static SpillJournal openJournal(LogstashTcpProperties.SpillProperties spill) {
+        try {
+            return new SpillJournal(Path.of(spill.getDirectory()), spill.getSegmentSize(), spill.getMaxSize());
+        } catch (IOException e) {
+            throw new LoggingException("Could not open Logstash spill journal in " + spill.getDirectory(), e);
+        }
+    }
+
+    private void writeLoop() {
+        List<LogEntry> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            if (!running && System.currentTimeMillis() >= shutdownDeadlineMs) {
+                break;
+            }
+            try {
+                boolean connected = connection.connect();
+                if (journal != null && (!connected || !journal.isEmpty())) {
+                    // Entries queued behind spilled ones go into the journal too, to keep their order
+                    spill(batch, connected ? 0L : POLL_INTERVAL_MS);
+                    if (connected) {
+                        replay();
+                    }
+                    continue;
+                }
+                if (!connected) {
+                    Thread.sleep(Math.min(POLL_INTERVAL_MS, Math.max(1L, connection.getReconnectDelayRemainingMs())));
+                    continue;
+                }
+
+                LogEntry first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                // The writer is the only thread sending to Logstash, so it must outlive any one batch
+                log.warn("Logstash writer failed, carrying on: {}", e.toString());
+            } finally {
+                batch.clear();
+            }
+        }
+
+        if (!unsent.isEmpty()) {
+            try {
+                flush();
+            } catch (IOException e) {
+                fail(e, List.of());
+            }
+        }
+        if (journal != null) {
+            queue.drainTo(batch);
+            spillEntries(batch);
+            journal.close();
+        } else {
+            droppedCount.addAndGet(queue.size());
+            queue.clear();
+        }
+        connection.close();
+    }
+
+    private void spill(List<LogEntry> batch, long waitMs) throws InterruptedException {
+        LogEntry first = waitMs > 0 ? queue.poll(waitMs, TimeUnit.MILLISECONDS) : queue.poll();
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        spillEntries(batch);
+    }
+
+    private void spillEntries(List<LogEntry> entries) {
+        for (int i = 0; i < entries.size(); i++) {
+            try {
+                int length = encoder.encode(entries.get(i));
+                if (!journal.append(encoder.getBuffer(), length)) {
+                    log.warn("Log entry of {} bytes does not fit in a spill journal segment", length);
+                    droppedCount.incrementAndGet();
+                }
+            } catch (IOException e) {
+                log.error("Could not write to Logstash spill journal", e);
+                droppedCount.addAndGet(entries.size() - i);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Could not encode log entry for Logstash: {}", e.getMessage());
+                droppedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void replay() {
+        int replayed = 0;
+        try {
+            ByteBuffer record;
+            while (replayed < batchSize && (record = journal.peek()) != null) {
+                append(record);
+                journal.advance();
+                replayed++;
+            }
+            flush();
+            journal.commit();
+            sentCount.addAndGet(replayed);
+        } catch (IOException e) {
+            journal.rollback();
+            fail(e, List.of());
+        }
+    }
+
+    private void writeBatch(List<LogEntry> batch) {
+        int next = 0;
+        try {
+            for (; next < batch.size(); next++) {
+                LogEntry logEntry = batch.get(next);
+                int length;
+                try {
+                    length = encoder.encode(logEntry);
+                } catch (RuntimeException e) {
+                    log.warn("Could not encode log entry for Logstash: {}", e.getMessage());
+                    droppedCount.incrementAndGet();
+                    continue;
+                }
+                append(encoder.getBuffer(), length);
+                unsent.add(new UnsentEntry(logEntry, appendedBytes));
+            }
+
+            if (queue.isEmpty()) {
+                flush();
+            } else {
+                write(false);
+            }
+        } catch (IOException e) {
+            fail(e, batch.subList(next, batch.size()));
+        }
+    }
+
+    /**
+     * Drops the connection and the buffer, and spills, or counts as dropped, every entry the
+     * socket has not fully taken plus {@code notAppended}, in order.
+     */
+    private void fail(IOException cause, List<LogEntry> notAppended) {
+        buffer.clear();
+        connection.fail(cause);
+
+        List<LogEntry> failed = new ArrayList<>(unsent.size() + notAppended.size());
+        for (UnsentEntry entry : unsent) {
+            failed.add(entry.logEntry());
+        }
+        failed.addAll(notAppended);
+        unsent.clear();
+        appendedBytes = 0L;
+        writtenBytes = 0L;
+
+        if (journal != null) {
+            spillEntries(failed);
+        } else {
+            droppedCount.addAndGet(failed.size());
+        }
+    }
+
+    private void append(byte[] json, int jsonLength) throws IOException {
+        int offset = 0;
+        while (offset < jsonLength) {
+            if (!buffer.hasRemaining()) {
+                write(true);
+            }
+            int length = Math.min(buffer.remaining(), jsonLength - offset);
+            buffer.put(json, offset, length);
+            offset += length;
+        }
+        appendedBytes += jsonLength;
+    }
+
+    private void append(ByteBuffer record) throws IOException {
+        appendedBytes += record.remaining();
+        while (record.hasRemaining()) {
+            if (!buffer.hasRemaining()) {
+                write(true);
+            }
+            int length = Math.min(buffer.remaining(), record.remaining());
+            buffer.put(buffer.position(), record, record.position(), length);
+            buffer.position(buffer.position() + length);
+            record.position(record.position() + length);
+        }
+    }
+
+    private void flush() throws IOException {
+        while (buffer.position() > 0) {
+            write(true);
+        }
+    }
+
+    /**
+     * Writes what the socket takes of the buffer and counts the entries it has now taken whole.
+     */
+    private void write(boolean awaitProgress) throws IOException {
+        buffer.flip();
+        try {
+            writtenBytes += connection.write(buffer, awaitProgress);
+        } finally {
+            buffer.compact();
+        }
+
+        UnsentEntry oldest;
+        while ((oldest = unsent.peek()) != null && oldest.end() <= writtenBytes) {
+            unsent.poll();
+            sentCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param end offset in the connection's byte stream just past the entry's document
+     */
+    private record UnsentEntry(LogEntry logEntry, long end) {
+    }
+}
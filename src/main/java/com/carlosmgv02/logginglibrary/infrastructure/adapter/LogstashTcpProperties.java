@@ -0,0 +1,36 @@
+package com.carlosmgv02.logginglibrary.infrastructure.adapter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "logging.logstash.tcp")
+public class LogstashTcpProperties {
+    private boolean enabled = false;
+    /** {@code host:port} pairs, tried in order. */
+    private List<String> destinations = List.of("localhost:5050");
+    /** Entries waiting for the writer thread; further entries are dropped. */
+    private int queueSize = 8192;
+    private int batchSize = 256;
+    /** Size in bytes of the direct buffer entries are encoded into before being written. */
+    private int bufferSize = 64 * 1024;
+    private long connectTimeoutMs = 5000L;
+    private long writeTimeoutMs = 10000L;
+    private long reconnectDelayMs = 1000L;
+    private long maxReconnectDelayMs = 30000L;
+
+    // Disk-backed buffer for entries that can not be shipped
+    private SpillProperties spill = new SpillProperties();
+
+    @Data
+    public static class SpillProperties {
+        private boolean enabled = false;
+        private String directory = "logs/logstash-spill";
+        /** Size in bytes of each memory-mapped segment file. */
+        private int segmentSize = 16 * 1024 * 1024;
+        /** Once the journal would grow beyond this many bytes, its oldest segment is deleted. */
+        private long maxSize = 256L * 1024 * 1024;
+    }
+}
@@ -0,0 +1,390 @@
+package com.carlosmgv02.logginglibrary.infrastructure.adapter;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.file.BinaryLogWriter;
+import com.carlosmgv02.logginglibrary.infrastructure.file.MappedSegmentFile;
+import com.carlosmgv02.logginglibrary.infrastructure.file.SegmentArchiver;
+import com.carlosmgv02.logginglibrary.infrastructure.file.SegmentIndex;
+import com.carlosmgv02.logginglibrary.infrastructure.file.SegmentIndexWriter;
+import com.carlosmgv02.logginglibrary.infrastructure.file.SegmentNames;
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.JsonLinesEncoder;
+import com.carlosmgv02.logginglibrary.shared.exception.LoggingException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Writes log entries as JSON lines to local files through memory-mapped, pre-allocated segments.
+ *
+ * <p>{@link #process} only queues a copy of the entry. A single writer thread encodes entries
+ * with {@link JsonLinesEncoder} and copies them into the current {@link MappedSegmentFile}, so
+ * the hot path makes no {@code write} or flush system calls. A segment is rotated when the next
+ * entry does not fit or a new {@code rollover-interval} period starts; closed segments are
+ * compressed and pruned by a {@link SegmentArchiver} on its own thread.
+ *
+ * <p>In the {@code BINARY} format entries are collected into blocks of {@code block-entries}
+ * and written with {@link BinaryLogWriter} instead; a partial block is written as soon as the
+ * queue runs empty, so entries reach the page cache as quickly as in the JSON format.
+ *
+ * <p>With {@code index} on, each closed segment gets a {@link SegmentIndex} sidecar that
+ * {@code LogFileQuery} uses to find entries by trace id or time range without scanning every
+ * segment.
+ *
+ * <p>Segments left uncompressed by a crash are trimmed and archived on startup.
+ */
+@Component
+@ConditionalOnProperty(prefix = "logging.mapped-file", name = "enabled", havingValue = "true")
+@Slf4j
+public class MappedFileLogProcessor implements LogProcessor {
+
+    private static final String WRITER_THREAD_NAME = "logging-library-file-writer";
+    private static final long POLL_INTERVAL_MS = 100L;
+    private static final String JSON_EXTENSION = ".log";
+    private static final String BINARY_EXTENSION = ".lgb";
+    private static final byte[] BINARY_HEADER = BinaryLogWriter.header();
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final String baseName;
+    private final String extension;
+    private final int segmentSize;
+    private final long rolloverIntervalMs;
+    private final DateTimeFormatter periodFormat;
+    private final BlockingQueue<LogEntry> queue;
+    private final int batchSize;
+    private final JsonLinesEncoder encoder = new JsonLinesEncoder();
+    /** {@code null} in the JSON format. */
+    private final BinaryLogWriter binaryWriter;
+    private final int blockEntries;
+    private final List<LogEntry> block;
+    /** {@code null} with indexing off. */
+    private final SegmentIndexWriter indexWriter;
+    private final SegmentArchiver archiver;
+    private final Thread writer;
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private MappedSegmentFile segment;
+    private long segmentPeriod = -1L;
+    private int nextIndex;
+    private volatile boolean running;
+
+    public MappedFileLogProcessor(MappedFileProperties properties) {
+        this.directory = Path.of(properties.getDirectory());
+        this.baseName = properties.getBaseName();
+        boolean binary = properties.getFormat() == MappedFileProperties.Format.BINARY;
+        this.extension = binary ? BINARY_EXTENSION : JSON_EXTENSION;
+        this.segmentSize = properties.getSegmentSize();
+        this.rolloverIntervalMs = Math.max(1L, properties.getRolloverInterval().toMillis());
+        this.periodFormat = rolloverIntervalMs % Duration.ofDays(1).toMillis() == 0 ? DAY_FORMAT : MINUTE_FORMAT;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueSize());
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.binaryWriter = binary ? new BinaryLogWriter() : null;
+        this.blockEntries = Math.max(1, properties.getBlockEntries());
+        this.block = new ArrayList<>(binary ? blockEntries : 0);
+        this.indexWriter = properties.isIndex() ? new SegmentIndexWriter(properties.getIndexInterval()) : null;
+        this.archiver = new SegmentArchiver(directory, baseName, extension, properties.isCompress() && !binary,
+                properties.getMaxFiles(), properties.getTotalSizeCap());
+        this.writer = new Thread(this::writeLoop, WRITER_THREAD_NAME);
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            Files.createDirectories(directory);
+            archiveLeftoverSegments();
+        } catch (IOException e) {
+            throw new LoggingException("Could not prepare log directory " + directory, e);
+        }
+        running = true;
+        writer.start();
+    }
+
+    /**
+     * Stops taking entries, writes those already queued and closes the current segment.
+     */
+    public void shutdown(Duration timeout) {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        try {
+            writer.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("Log file writer did not finish within {} ms, {} entries pending", timeout.toMillis(), queue.size());
+        }
+        archiver.shutdown(timeout);
+    }
+
+    @PreDestroy
+    public void stop() {
+        shutdown(Duration.ofSeconds(5));
+    }
+
+    @Override
+    public void process(LogEntry logEntry) {
+        if (!queue.offer(logEntry.copy())) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean isEnabled(LogEntry logEntry) {
+        return running;
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void writeLoop() {
+        List<LogEntry> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                LogEntry first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    writeBlock();
+                }
+                rollOverIfPeriodEnded();
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        writeBlock();
+        closeSegment(null);
+    }
+
+    private void writeBatch(List<LogEntry> batch) {
+        if (binaryWriter != null) {
+            for (int i = 0; i < batch.size(); i++) {
+                block.add(batch.get(i));
+                if (block.size() >= blockEntries) {
+                    writeBlock();
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            int length;
+            try {
+                length = encoder.encode(batch.get(i));
+            } catch (RuntimeException e) {
+                log.warn("Could not encode log entry for the log file: {}", e.getMessage());
+                droppedCount.incrementAndGet();
+                continue;
+            }
+
+            try {
+                if (segment == null || !segment.hasRoomFor(length)) {
+                    openSegment(currentPeriod());
+                }
+                if (!segment.hasRoomFor(length)) {
+                    log.warn("Log entry of {} bytes is larger than a log segment", length);
+                    droppedCount.incrementAndGet();
+                    continue;
+                }
+                int offset = segment.size();
+                segment.write(encoder.getBuffer(), length);
+                writtenCount.incrementAndGet();
+                index(batch.get(i), offset);
+            } catch (IOException e) {
+                log.error("Could not open a new log segment in {}", directory, e);
+                droppedCount.addAndGet(batch.size() - i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Compresses the entries collected for the binary format into one block. A block is
+     * encoded against the dictionary of the segment it lands in, so it is encoded again when
+     * it has to go to a new segment, and taken back from that dictionary when it is dropped.
+     */
+    private void writeBlock() {
+        if (block.isEmpty()) {
+            return;
+        }
+        boolean encoded = false;
+        boolean written = false;
+        try {
+            if (segment == null) {
+                openSegment(currentPeriod());
+            }
+            int length = binaryWriter.encodeBlock(block);
+            encoded = true;
+            if (!segment.hasRoomFor(length)) {
+                openSegment(currentPeriod());
+                length = binaryWriter.encodeBlock(block);
+            }
+            if (segment.hasRoomFor(length)) {
+                int offset = segment.size();
+                segment.write(binaryWriter.getBuffer(), length);
+                written = true;
+                writtenCount.addAndGet(block.size());
+                for (int i = 0; i < block.size(); i++) {
+                    index(block.get(i), offset);
+                }
+            } else {
+                log.warn("Log block of {} bytes is larger than a log segment", length);
+                droppedCount.addAndGet(block.size());
+            }
+        } catch (IOException e) {
+            log.error("Could not open a new log segment in {}", directory, e);
+            droppedCount.addAndGet(block.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not encode log block for the log file: {}", e.getMessage());
+            droppedCount.addAndGet(block.size());
+        } finally {
+            if (encoded && !written) {
+                binaryWriter.discardBlock();
+            }
+            block.clear();
+        }
+    }
+
+    private void index(LogEntry entry, int offset) {
+        if (indexWriter != null) {
+            indexWriter.add(entry.getTimestampMillis(), entry.getLevel(), entry.getTraceId(), offset);
+        }
+    }
+
+    private void rollOverIfPeriodEnded() {
+        if (segment != null && currentPeriod() != segmentPeriod) {
+            writeBlock();
+            closeSegment(null);
+        }
+    }
+
+    private void openSegment(long period) throws IOException {
+        MappedSegmentFile previous = segment;
+        String prefix = baseName + "-" + periodFormat.format(Instant.ofEpochMilli(period * rolloverIntervalMs)) + ".";
+        if (period != segmentPeriod) {
+            // Indexes are never reused, even once retention deleted the file, so names stay in write order
+            nextIndex = nextFreeIndex(prefix);
+        }
+        while (true) {
+            Path path = directory.resolve(String.format("%s%04d%s", prefix, nextIndex++, extension));
+            try {
+                segment = MappedSegmentFile.create(path, segmentSize);
+                segmentPeriod = period;
+                if (binaryWriter != null) {
+                    binaryWriter.startSegment();
+                    segment.write(BINARY_HEADER, BINARY_HEADER.length);
+                }
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // Taken in the meantime; try the next index
+            }
+        }
+        if (previous != null) {
+            closeSegment(previous);
+        }
+    }
+
+    private int nextFreeIndex(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.indexOf('.', prefix.length()) > prefix.length())
+                    .map(name -> name.substring(prefix.length(), name.indexOf('.', prefix.length())))
+                    .filter(index -> index.chars().allMatch(Character::isDigit))
+                    .mapToInt(index -> Integer.parseInt(index) + 1)
+                    .max()
+                    .orElse(0);
+        }
+    }
+
+    /**
+     * Closes and archives {@code closing}, or the current segment when {@code null}.
+     */
+    private void closeSegment(MappedSegmentFile closing) {
+        MappedSegmentFile toClose = closing != null ? closing : segment;
+        if (toClose == null) {
+            return;
+        }
+        if (toClose == segment) {
+            segment = null;
+        }
+        try {
+            toClose.close();
+            writeIndex(toClose.getPath());
+            archiver.archive(toClose.getPath());
+        } catch (IOException e) {
+            log.warn("Could not close log segment {}: {}", toClose.getPath(), e.getMessage());
+        }
+    }
+
+    private void writeIndex(Path closedSegment) {
+        if (indexWriter == null) {
+            return;
+        }
+        try {
+            if (indexWriter.isEmpty()) {
+                indexWriter.reset();
+            } else {
+                indexWriter.writeTo(SegmentIndex.pathFor(closedSegment));
+            }
+        } catch (IOException e) {
+            log.warn("Could not write the index of log segment {}: {}", closedSegment, e.getMessage());
+        }
+    }
+
+    private void archiveLeftoverSegments() throws IOException {
+        List<Path> leftovers;
+        try (Stream<Path> files = Files.list(directory)) {
+            leftovers = files
+                    .filter(path -> SegmentNames.isSegment(path.getFileName().toString(), baseName, extension))
+                    .sorted()
+                    .toList();
+        }
+        for (Path leftover : leftovers) {
+            MappedSegmentFile.trim(leftover);
+            archiver.archive(leftover);
+        }
+    }
+
+    private long currentPeriod() {
+        return System.currentTimeMillis() / rolloverIntervalMs;
+    }
+}
@@ -0,0 +1,46 @@
+package com.carlosmgv02.logginglibrary.infrastructure.adapter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "logging.mapped-file")
+public class MappedFileProperties {
+    private boolean enabled = false;
+    private String directory = "logs";
+    private Format format = Format.JSON;
+    /** Segment files are named {@code <base-name>-<period>.<index>.log}, or {@code .lgb} in the binary format. */
+    private String baseName = "application";
+    /** Size in bytes each segment is pre-allocated to; a full segment is rotated. */
+    private int segmentSize = 64 * 1024 * 1024;
+    /** Segments are also rotated at every multiple of this interval, counted from the epoch in UTC. */
+    private Duration rolloverInterval = Duration.ofDays(1);
+    private boolean compress = true;
+    /** Closed segments kept, oldest deleted first. */
+    private int maxFiles = 30;
+    private long totalSizeCap = 1024L * 1024 * 1024;
+    /** Write a {@code .idx} sidecar with a time index and trace id bloom filter for each closed segment. */
+    private boolean index = true;
+    /** Entries between two checkpoints of the sparse time index. */
+    private int indexInterval = 256;
+    /** Entries waiting for the writer thread; further entries are dropped. */
+    private int queueSize = 8192;
+    private int batchSize = 256;
+    /** Entries compressed together in one block of the binary format. */
+    private int blockEntries = 1024;
+
+    /**
+     * How entries are encoded in segment files.
+     */
+    public enum Format {
+        /** One {@code JsonLinesEncoder} document per line. */
+        JSON,
+        /**
+         * Compact binary records in compressed blocks, read with {@code BinaryLogReader} or
+         * {@code BinaryLogDump}. Blocks are already compressed, so segments are not gzipped.
+         */
+        BINARY
+    }
+}
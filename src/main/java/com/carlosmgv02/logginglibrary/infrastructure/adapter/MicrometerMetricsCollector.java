@@ -2,8 +2,12 @@ package com.carlosmgv02.logginglibrary.infrastructure.adapter;
 
 import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
 import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.model.ProcessingStage;
 import com.carlosmgv02.logginglibrary.domain.port.LogMetricsCollector;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
@@ -12,51 +16,214 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
+/**
+ * Micrometer-backed metrics for the logging pipeline.
+ *
+ * <p>Every meter is resolved once and kept in a table, so recording a log entry is an array
+ * index and an increment rather than a registry lookup. Entry counters are kept per level
+ * (indexed by ordinal) and per service name; once {@code metrics-max-service-tags} distinct
+ * services have been seen, further names are folded into the {@value #OVERFLOW_SERVICE_TAG}
+ * tag to cap cardinality.
+ *
+ * <p>Timers record nanoseconds and publish a percentile histogram plus the 50th, 95th and 99th
+ * percentiles, so both the overall processing time and each stage of it (entry build, trace
+ * lookup, filters, every processor) can be read as a latency distribution.
+ */
 @Component
 @ConditionalOnClass(MeterRegistry.class)
 @RequiredArgsConstructor
 public class MicrometerMetricsCollector implements LogMetricsCollector {
+    static final String UNKNOWN_SERVICE_TAG = "unknown";
+    static final String OVERFLOW_SERVICE_TAG = "other";
+
+    private static final LogLevel[] LEVELS = LogLevel.values();
+    private static final ProcessingStage[] STAGES = ProcessingStage.values();
+
+    private static final Duration MIN_EXPECTED_TIME = Duration.ofNanos(100);
+    private static final Duration MAX_EXPECTED_TIME = Duration.ofSeconds(1);
+
     private final MeterRegistry meterRegistry;
+    private final LoggingProperties properties;
+
+    private final Map<String, Counter[]> entryCountersByService = new ConcurrentHashMap<>();
+    private final Map<String, Timer> processorTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter[]> suppressedCountersByReason = new ConcurrentHashMap<>();
 
     private Timer processingTimer;
+    private Timer[] stageTimers;
     private Counter errorCounter;
+    private Counter prefilterCandidateCounter;
+    private Counter prefilterRejectedCounter;
+    private DistributionSummary entrySizeSummary;
+    private Counter[] droppedCounters;
+    private Counter[] overflowServiceCounters;
+
+    /** Last service seen; log entries almost always come from the same one. */
+    private volatile ServiceCounters lastServiceCounters;
 
     @PostConstruct
     public void init() {
-        this.processingTimer = Timer.builder("logging.processing.time")
+        this.processingTimer = latencyTimer("logging.processing.time")
                 .description("Time taken to process log entries")
                 .register(meterRegistry);
 
+        this.stageTimers = new Timer[STAGES.length];
+        for (ProcessingStage stage : STAGES) {
+            if (stage != ProcessingStage.PROCESSOR) {
+                stageTimers[stage.ordinal()] = stageTimer(stage, null);
+            }
+        }
+
         this.errorCounter = Counter.builder("logging.errors")
                 .description("Number of logging errors")
                 .register(meterRegistry);
+
+        this.prefilterCandidateCounter = prefilterCounter("candidate");
+        this.prefilterRejectedCounter = prefilterCounter("rejected");
+
+        this.entrySizeSummary = DistributionSummary.builder("logging.entry.size")
+                .tag("unit", "bytes")
+                .register(meterRegistry);
+
+        this.droppedCounters = new Counter[LEVELS.length];
+        for (LogLevel level : LEVELS) {
+            droppedCounters[level.ordinal()] = Counter.builder("logging.dropped")
+                    .description("Number of log entries dropped because the async buffer was full")
+                    .tag("level", level.getName())
+                    .register(meterRegistry);
+        }
+
+        this.overflowServiceCounters = registerEntryCounters(OVERFLOW_SERVICE_TAG);
     }
 
     @Override
     public void incrementLogCount(LogLevel level, String serviceName) {
-        Counter.builder("logging.entries")
-                .description("Number of log entries processed")
-                .tag("level", level.getName())
-                .tag("service", serviceName != null ? serviceName : "unknown")
-                .register(meterRegistry)
-                .increment();
+        entryCounters(serviceName != null ? serviceName : UNKNOWN_SERVICE_TAG)[level.ordinal()].increment();
     }
 
     @Override
+    @Deprecated
     public void recordLogProcessingTime(long processingTimeMs) {
-        processingTimer.record(processingTimeMs, TimeUnit.MILLISECONDS);
+        recordLogProcessingTimeNanos(TimeUnit.MILLISECONDS.toNanos(processingTimeMs));
+    }
+
+    @Override
+    public void recordLogProcessingTimeNanos(long processingTimeNanos) {
+        processingTimer.record(processingTimeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordStageTime(ProcessingStage stage, String component, long durationNanos) {
+        Timer timer = stage == ProcessingStage.PROCESSOR
+                ? processorTimers.computeIfAbsent(component, name -> stageTimer(ProcessingStage.PROCESSOR, name))
+                : stageTimers[stage.ordinal()];
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
     }
 
     @Override
     public void recordLogSize(int logSizeBytes) {
-        meterRegistry.summary("logging.entry.size", "unit", "bytes")
-                .record(logSizeBytes);
+        entrySizeSummary.record(logSizeBytes);
     }
 
     @Override
     public void incrementErrorCount(LogEntry logEntry) {
         errorCounter.increment();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void incrementDroppedCount(LogLevel level) {
+        droppedCounters[level.ordinal()].increment();
+    }
+
+    @Override
+    public void incrementSuppressedCount(String reason, LogLevel level) {
+        suppressedCountersByReason.computeIfAbsent(reason, this::registerSuppressedCounters)[level.ordinal()].increment();
+    }
+
+    @Override
+    public void registerConsumerLag(String consumer, LongSupplier lag) {
+        Gauge.builder("logging.dispatcher.lag", lag, LongSupplier::getAsLong)
+                .description("Entries published to the ring buffer that a consumer has not handled yet")
+                .tag("consumer", consumer)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordRedactionPrefilterResult(boolean candidate) {
+        (candidate ? prefilterCandidateCounter : prefilterRejectedCounter).increment();
+    }
+
+    private Counter[] entryCounters(String serviceName) {
+        ServiceCounters last = lastServiceCounters;
+        if (last != null && last.serviceName().equals(serviceName)) {
+            return last.counters();
+        }
+
+        Counter[] counters = entryCountersByService.get(serviceName);
+        if (counters == null) {
+            if (entryCountersByService.size() >= properties.getMetricsMaxServiceTags()) {
+                return overflowServiceCounters;
+            }
+            counters = entryCountersByService.computeIfAbsent(serviceName, this::registerEntryCounters);
+        }
+
+        lastServiceCounters = new ServiceCounters(serviceName, counters);
+        return counters;
+    }
+
+    private Counter[] registerEntryCounters(String serviceTag) {
+        Counter[] counters = new Counter[LEVELS.length];
+        for (LogLevel level : LEVELS) {
+            counters[level.ordinal()] = Counter.builder("logging.entries")
+                    .description("Number of log entries processed")
+                    .tag("level", level.getName())
+                    .tag("service", serviceTag)
+                    .register(meterRegistry);
+        }
+        return counters;
+    }
+
+    private Timer stageTimer(ProcessingStage stage, String processorName) {
+        return latencyTimer("logging.stage.time")
+                .description("Time spent in each stage of log entry processing")
+                .tag("stage", stage.getName())
+                .tag("processor", processorName != null ? processorName : "none")
+                .register(meterRegistry);
+    }
+
+    private static Timer.Builder latencyTimer(String name) {
+        return Timer.builder(name)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .minimumExpectedValue(MIN_EXPECTED_TIME)
+                .maximumExpectedValue(MAX_EXPECTED_TIME);
+    }
+
+    private Counter[] registerSuppressedCounters(String reason) {
+        Counter[] counters = new Counter[LEVELS.length];
+        for (LogLevel level : LEVELS) {
+            counters[level.ordinal()] = Counter.builder("logging.suppressed")
+                    .description("Number of log entries left out on purpose by a filter")
+                    .tag("reason", reason)
+                    .tag("level", level.getName())
+                    .register(meterRegistry);
+        }
+        return counters;
+    }
+
+    private Counter prefilterCounter(String result) {
+        return Counter.builder("logging.redaction.prefilter")
+                .description("Messages the sensitive data prefilter passed to the regex engine (candidate) or skipped (rejected)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record ServiceCounters(String serviceName, Counter[] counters) {
+    }
+}
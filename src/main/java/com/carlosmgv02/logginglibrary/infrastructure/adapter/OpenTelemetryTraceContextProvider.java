@@ -1,5 +1,6 @@
 package com.carlosmgv02.logginglibrary.infrastructure.adapter;
 
+import com.carlosmgv02.logginglibrary.domain.model.TraceContext;
 import com.carlosmgv02.logginglibrary.domain.port.TraceContextProvider;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
@@ -12,45 +13,72 @@ import java.util.Optional;
 @ConditionalOnClass(Span.class)
 public class OpenTelemetryTraceContextProvider implements TraceContextProvider {
 
+    /** Snapshot of the span context each thread looked up last, reused while that span stays current. */
+    private final ThreadLocal<CachedTraceContext> lastTraceContext = ThreadLocal.withInitial(CachedTraceContext::new);
+
     @Override
     public Optional<String> getCurrentTraceId() {
+        return Optional.ofNullable(getCurrentTraceIdOrNull());
+    }
+
+    @Override
+    public Optional<String> getCurrentSpanId() {
+        return Optional.ofNullable(getCurrentSpanIdOrNull());
+    }
+
+    @Override
+    public String getCurrentTraceIdOrNull() {
+        SpanContext spanContext = currentSpanContext();
+        return spanContext != null ? spanContext.getTraceId() : null;
+    }
+
+    @Override
+    public String getCurrentSpanIdOrNull() {
+        SpanContext spanContext = currentSpanContext();
+        return spanContext != null ? spanContext.getSpanId() : null;
+    }
+
+    @Override
+    public TraceContext getCurrentTraceContext() {
+        SpanContext spanContext = currentSpanContext();
+        if (spanContext == null) {
+            return null;
+        }
+        CachedTraceContext cached = lastTraceContext.get();
+        if (cached.spanContext != spanContext) {
+            cached.traceContext = new TraceContext(spanContext.getTraceId(), spanContext.getSpanId(), spanContext.isSampled());
+            cached.spanContext = spanContext;
+        }
+        return cached.traceContext;
+    }
+
+    @Override
+    public boolean isTraceActive() {
         try {
             Span currentSpan = Span.current();
-            if (currentSpan != null) {
-                SpanContext spanContext = currentSpan.getSpanContext();
-                if (spanContext.isValid()) {
-                    return Optional.of(spanContext.getTraceId());
-                }
-            }
+            return currentSpan != null && currentSpan.getSpanContext().isValid();
         } catch (Exception e) {
-            // Silently ignore OpenTelemetry errors
+            return false;
         }
-        return Optional.empty();
     }
 
-    @Override
-    public Optional<String> getCurrentSpanId() {
+    private SpanContext currentSpanContext() {
         try {
             Span currentSpan = Span.current();
             if (currentSpan != null) {
                 SpanContext spanContext = currentSpan.getSpanContext();
                 if (spanContext.isValid()) {
-                    return Optional.of(spanContext.getSpanId());
+                    return spanContext;
                 }
             }
         } catch (Exception e) {
             // Silently ignore OpenTelemetry errors
         }
-        return Optional.empty();
+        return null;
     }
 
-    @Override
-    public boolean isTraceActive() {
-        try {
-            Span currentSpan = Span.current();
-            return currentSpan != null && currentSpan.getSpanContext().isValid();
-        } catch (Exception e) {
-            return false;
-        }
+    private static final class CachedTraceContext {
+        SpanContext spanContext;
+        TraceContext traceContext;
     }
-}
\ No newline at end of file
+}
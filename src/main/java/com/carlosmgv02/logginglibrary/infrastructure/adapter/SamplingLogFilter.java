@@ -0,0 +1,288 @@
+package com.carlosmgv02.logginglibrary.infrastructure.adapter;
+
+import com.carlosmgv02.logginglibrary.application.service.LoggingApplicationService;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.port.LogFilter;
+import com.carlosmgv02.logginglibrary.domain.port.LogMetricsCollector;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a configurable share of low-level entries per logger, level and message template.
+ *
+ * <p>The first {@code rules} entry matching an entry's logger, level and template decides its
+ * {@code rate} (fraction kept) and {@code max-per-second} (a token bucket per logger, level and
+ * template). Entries at {@code always-keep-level} or above always pass. With
+ * {@code trace-consistent}, the rate decision is taken from the trace id rather than at random,
+ * and once an entry of a trace is kept, every later entry of that trace is kept too, so traces
+ * are either complete or absent.
+ *
+ * <p>Entries sampled out are counted per key; every {@code summary-interval} one summary entry
+ * per key reports how many were dropped, and the {@code logging.suppressed} counter tracks
+ * them as they happen.
+ *
+ * <p>Runs before the other filters, so sampled out entries are never redacted.
+ */
+@Component
+@Order(SamplingLogFilter.ORDER)
+@Slf4j
+public class SamplingLogFilter implements LogFilter {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    static final String SUPPRESSION_REASON = "sampled";
+    static final String SAMPLED_OUT_FIELD = "sampledOut";
+    static final String SAMPLED_LEVEL_FIELD = "sampledLevel";
+    static final String SAMPLED_TEMPLATE_FIELD = "sampledTemplate";
+
+    private final SamplingProperties properties;
+    private final ObjectProvider<LoggingApplicationService> loggingService;
+    private final CompiledRule[] rules;
+    private final CompiledRule defaultRule;
+    private final Map<Key, KeyState> states = new ConcurrentHashMap<>();
+    /** Trace id to the time, in nanos, it was last kept. */
+    private final Map<String, Long> keptTraces = new ConcurrentHashMap<>();
+    private final long traceRetentionNanos;
+    private LogMetricsCollector metricsCollector;
+    private ScheduledExecutorService scheduler;
+
+    public SamplingLogFilter(SamplingProperties properties, ObjectProvider<LoggingApplicationService> loggingService) {
+        this.properties = properties;
+        this.loggingService = loggingService;
+        List<SamplingProperties.Rule> configuredRules = properties.getRules();
+        this.rules = new CompiledRule[configuredRules.size()];
+        for (int i = 0; i < rules.length; i++) {
+            rules[i] = new CompiledRule(i, configuredRules.get(i));
+        }
+        SamplingProperties.Rule fallback = new SamplingProperties.Rule();
+        fallback.setRate(properties.getDefaultRate());
+        this.defaultRule = new CompiledRule(-1, fallback);
+        this.traceRetentionNanos = properties.getTraceRetention().toNanos();
+    }
+
+    @Autowired(required = false)
+    public void setMetricsCollector(LogMetricsCollector metricsCollector) {
+        this.metricsCollector = metricsCollector;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "logging-library-sampling");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = Math.max(1L, properties.getSummaryInterval().toMillis());
+        scheduler.scheduleAtFixedRate(this::emitSummariesSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean shouldFilter(LogEntry logEntry) {
+        LogLevel level = logEntry.getLevel();
+        return properties.isEnabled()
+                && level != null
+                && !level.isEnabledFor(properties.getAlwaysKeepLevel())
+                && !logEntry.getMetadata().containsKey(SAMPLED_OUT_FIELD);
+    }
+
+    @Override
+    public LogEntry filter(LogEntry logEntry) {
+        CompiledRule rule = matchRule(logEntry);
+        if (rule.rate >= 1.0 && rule.maxPerSecond <= 0.0) {
+            return logEntry;
+        }
+
+        String traceId = properties.isTraceConsistent() ? logEntry.getTraceId() : null;
+        long now = System.nanoTime();
+        if (traceId != null) {
+            Long keptAt = keptTraces.get(traceId);
+            if (keptAt != null && now - keptAt < traceRetentionNanos) {
+                return logEntry;
+            }
+        }
+
+        KeyState state = stateFor(rule, logEntry, now);
+        if (sampledIn(rule.rate, traceId) && state.tryAcquire(rule, now)) {
+            if (traceId != null && keptTraces.size() < properties.getMaxTrackedTraces()) {
+                keptTraces.put(traceId, now);
+            }
+            return logEntry;
+        }
+
+        state.suppressed.increment();
+        if (metricsCollector != null) {
+            metricsCollector.incrementSuppressedCount(SUPPRESSION_REASON, logEntry.getLevel());
+        }
+        return null;
+    }
+
+    /**
+     * Logs one summary entry for every key that had entries sampled out since the last call, and
+     * forgets idle keys and expired traces.
+     */
+    public void emitSummaries() {
+        LoggingApplicationService service = loggingService.getIfAvailable();
+        long now = System.nanoTime();
+        long idleNanos = Math.max(properties.getSummaryInterval().toNanos(), traceRetentionNanos);
+
+        for (Map.Entry<Key, KeyState> entry : states.entrySet()) {
+            Key key = entry.getKey();
+            KeyState state = entry.getValue();
+            long suppressed = state.suppressed.sumThenReset();
+            if (suppressed > 0 && service != null) {
+                Map<String, Object> metadata = new LinkedHashMap<>();
+                metadata.put(SAMPLED_OUT_FIELD, suppressed);
+                metadata.put(SAMPLED_LEVEL_FIELD, key.level().getName());
+                if (key.messageTemplate() != null) {
+                    metadata.put(SAMPLED_TEMPLATE_FIELD, key.messageTemplate());
+                }
+                service.log(key.logger(), LogLevel.INFO,
+                        "Sampled out " + suppressed + " " + key.level().getName() + " entries", metadata);
+            } else if (suppressed == 0 && now - state.lastSeenNanos > idleNanos) {
+                states.remove(key, state);
+            }
+        }
+
+        keptTraces.values().removeIf(keptAt -> now - keptAt >= traceRetentionNanos);
+    }
+
+    private void emitSummariesSafely() {
+        try {
+            emitSummaries();
+        } catch (RuntimeException e) {
+            log.warn("Could not log sampling summaries: {}", e.getMessage());
+        }
+    }
+
+    private CompiledRule matchRule(LogEntry logEntry) {
+        for (CompiledRule rule : rules) {
+            if (rule.matches(logEntry)) {
+                return rule;
+            }
+        }
+        return defaultRule;
+    }
+
+    private KeyState stateFor(CompiledRule rule, LogEntry logEntry, long now) {
+        Key key = new Key(rule.index, logEntry.getLogger(), logEntry.getLevel(), logEntry.getMessageTemplate());
+        KeyState state = states.get(key);
+        if (state == null) {
+            if (states.size() >= properties.getMaxKeys()) {
+                key = new Key(rule.index, null, logEntry.getLevel(), null);
+            }
+            state = states.computeIfAbsent(key, k -> new KeyState(rule, now));
+        }
+        return state;
+    }
+
+    private static boolean sampledIn(double rate, String traceId) {
+        if (rate >= 1.0) {
+            return true;
+        }
+        if (rate <= 0.0) {
+            return false;
+        }
+        if (traceId == null) {
+            return ThreadLocalRandom.current().nextDouble() < rate;
+        }
+        // Same decision for every entry of the trace, on every instance of the service
+        long hash = traceId.hashCode() * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 29;
+        return (hash >>> 11) * 0x1.0p-53 < rate;
+    }
+
+    private record Key(int rule, String logger, LogLevel level, String messageTemplate) {
+    }
+
+    private static final class CompiledRule {
+        final int index;
+        final String logger;
+        final String loggerPrefix;
+        final LogLevel level;
+        final String messageTemplate;
+        final double rate;
+        final double maxPerSecond;
+        final double burst;
+
+        CompiledRule(int index, SamplingProperties.Rule rule) {
+            this.index = index;
+            this.logger = rule.getLogger();
+            this.loggerPrefix = rule.getLogger() != null ? rule.getLogger() + "." : null;
+            this.level = rule.getLevel();
+            this.messageTemplate = rule.getMessageTemplate();
+            this.rate = rule.getRate();
+            this.maxPerSecond = rule.getMaxPerSecond();
+            this.burst = rule.getBurst() > 0 ? rule.getBurst() : Math.max(1.0, rule.getMaxPerSecond());
+        }
+
+        boolean matches(LogEntry logEntry) {
+            if (level != null && level != logEntry.getLevel()) {
+                return false;
+            }
+            if (logger != null) {
+                String entryLogger = logEntry.getLogger();
+                if (entryLogger == null || !(entryLogger.equals(logger) || entryLogger.startsWith(loggerPrefix))) {
+                    return false;
+                }
+            }
+            return messageTemplate == null || messageTemplate.equals(logEntry.getMessageTemplate());
+        }
+    }
+
+    private static final class KeyState {
+        final LongAdder suppressed = new LongAdder();
+        private double tokens;
+        private long refilledAt;
+        volatile long lastSeenNanos;
+
+        KeyState(CompiledRule rule, long now) {
+            this.tokens = rule.burst;
+            this.refilledAt = now;
+            this.lastSeenNanos = now;
+        }
+
+        synchronized boolean tryAcquire(CompiledRule rule, long now) {
+            lastSeenNanos = now;
+            if (rule.maxPerSecond <= 0.0) {
+                return true;
+            }
+            if (now > refilledAt) {
+                tokens = Math.min(rule.burst, tokens + (now - refilledAt) * rule.maxPerSecond / 1_000_000_000.0);
+                refilledAt = now;
+            }
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            }
+            return false;
+        }
+    }
+}
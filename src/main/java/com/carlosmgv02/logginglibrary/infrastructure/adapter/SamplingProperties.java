@@ -0,0 +1,45 @@
+package com.carlosmgv02.logginglibrary.infrastructure.adapter;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "logging.sampling")
+public class SamplingProperties {
+    private boolean enabled = false;
+    /** Entries at this level or above are never sampled. */
+    private LogLevel alwaysKeepLevel = LogLevel.WARN;
+    /** Fraction of entries kept when no rule matches. */
+    private double defaultRate = 1.0;
+    /** Once an entry of a trace is kept, keep every entry of that trace seen within this time. */
+    private boolean traceConsistent = true;
+    private Duration traceRetention = Duration.ofMinutes(1);
+    private int maxTrackedTraces = 100_000;
+    /** How often a summary entry is logged for each key that had entries sampled out. */
+    private Duration summaryInterval = Duration.ofMinutes(1);
+    /** Rate limit buckets tracked at once; keys beyond this share the bucket of their rule. */
+    private int maxKeys = 10_000;
+    /** Checked in order; the first matching rule applies. */
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+        /** Logger name, matching the logger and its children; any logger if not set. */
+        private String logger;
+        /** Level the rule applies to; any level below {@code always-keep-level} if not set. */
+        private LogLevel level;
+        /** Exact {@code "{}"} message template; any message if not set. */
+        private String messageTemplate;
+        /** Fraction of matching entries kept, between 0 and 1. */
+        private double rate = 1.0;
+        /** Kept entries per second for each logger, level and template; unlimited if 0. */
+        private double maxPerSecond = 0.0;
+        /** Entries that may be kept in a burst above {@code max-per-second}; defaults to one second's worth. */
+        private int burst = 0;
+    }
+}
@@ -2,27 +2,65 @@ package com.carlosmgv02.logginglibrary.infrastructure.adapter;
 
 import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
 import com.carlosmgv02.logginglibrary.domain.port.LogFilter;
-import lombok.RequiredArgsConstructor;
+import com.carlosmgv02.logginglibrary.domain.port.LogMetricsCollector;
+import com.carlosmgv02.logginglibrary.infrastructure.redaction.RedactedThrowable;
+import com.carlosmgv02.logginglibrary.infrastructure.redaction.RedactionEngine;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+/**
+ * Redacts sensitive data from the message, the metadata values and the throwable messages of
+ * a log entry.
+ *
+ * <p>Values of metadata keys listed in {@code masked-metadata-keys} are always replaced; other
+ * values are redacted on their string form. Nothing is copied unless something changes: an
+ * entry, metadata map or throwable without sensitive data is returned as is.
+ *
+ * <p>The pipeline calls {@link #apply}, which runs the cheap prefilter once on each text and
+ * the patterns only on candidates, where finding and replacing matches is the same scan.
+ * {@link #shouldFilter} is the prefilter check on its own.
+ */
 @Component
-@RequiredArgsConstructor
 @EnableConfigurationProperties(SensitiveDataProperties.class)
 public class SensitiveDataLogFilter implements LogFilter {
-    private final SensitiveDataProperties properties;
     private static final String REPLACEMENT = "***REDACTED***";
+    private static final int MAX_CAUSE_DEPTH = 32;
+
+    private final SensitiveDataProperties properties;
+    private volatile RedactionEngine redactionEngine;
+    private LogMetricsCollector metricsCollector;
+
+    public SensitiveDataLogFilter(SensitiveDataProperties properties) {
+        this.properties = properties;
+        this.redactionEngine = compileEngine();
+    }
+
+    @Autowired(required = false)
+    public void setMetricsCollector(LogMetricsCollector metricsCollector) {
+        this.metricsCollector = metricsCollector;
+    }
 
     @Override
     public LogEntry filter(LogEntry logEntry) {
-        String filteredMessage = filterSensitiveData(logEntry.getMessage());
+        RedactionEngine engine = currentEngine();
 
-        if (filteredMessage != null && !filteredMessage.equals(logEntry.getMessage())) {
+        String message = logEntry.getMessage();
+        String filteredMessage = redact(engine, message);
+        Map<String, Object> metadata = logEntry.getMetadata();
+        Map<String, Object> filteredMetadata = redactMetadata(engine, metadata);
+        Throwable throwable = logEntry.getThrowable();
+        Throwable filteredThrowable = RedactedThrowable.redact(throwable, text -> redact(engine, text));
+
+        if (filteredMessage != message || filteredMetadata != metadata || filteredThrowable != throwable) {
             return logEntry.toBuilder()
                     .message(filteredMessage)
+                    .metadata(filteredMetadata)
+                    .throwable(filteredThrowable)
                     .build();
         }
 
@@ -31,26 +69,113 @@ public class SensitiveDataLogFilter implements LogFilter {
 
     @Override
     public boolean shouldFilter(LogEntry logEntry) {
-        return properties.isEnabled() && containsSensitiveData(logEntry.getMessage());
+        if (!properties.isEnabled()) {
+            return false;
+        }
+
+        RedactionEngine engine = currentEngine();
+        return engine.isCandidate(logEntry.getMessage())
+                || hasCandidateMetadata(engine, logEntry.getMetadata())
+                || hasCandidateThrowable(engine, logEntry.getThrowable());
+    }
+
+    /**
+     * Skips {@link #shouldFilter}: {@link #filter} checks each text with the prefilter anyway, so
+     * running it first would scan every candidate text, and render every metadata value, twice.
+     */
+    @Override
+    public LogEntry apply(LogEntry logEntry) {
+        return properties.isEnabled() ? filter(logEntry) : logEntry;
+    }
+
+    /**
+     * Redacts {@code text} if the prefilter lets it through, recording the prefilter's verdict.
+     */
+    private String redact(RedactionEngine engine, String text) {
+        if (text == null) {
+            return null;
+        }
+
+        boolean candidate = engine.isCandidate(text);
+        if (metricsCollector != null) {
+            metricsCollector.recordRedactionPrefilterResult(candidate);
+        }
+        return candidate ? engine.redactCandidate(text) : text;
     }
 
-    private boolean containsSensitiveData(String message) {
-        if (message == null) return false;
+    private boolean hasCandidateMetadata(RedactionEngine engine, Map<String, Object> metadata) {
+        if (metadata == null || metadata.isEmpty()) {
+            return false;
+        }
 
-        return properties.getPatterns().stream()
-                .anyMatch(pattern -> Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(message).find());
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            Object value = entry.getValue();
+            if (value != null && (engine.isMaskedKey(entry.getKey()) || engine.isCandidate(value.toString()))) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private String filterSensitiveData(String message) {
-        if (message == null) return null;
+    private boolean hasCandidateThrowable(RedactionEngine engine, Throwable throwable) {
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (engine.isCandidate(current.getMessage())) {
+                return true;
+            }
+            for (Throwable suppressed : current.getSuppressed()) {
+                if (hasCandidateThrowable(engine, suppressed)) {
+                    return true;
+                }
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return false;
+    }
 
-        String filtered = message;
-        for (String pattern : properties.getPatterns()) {
-            filtered = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE)
-                    .matcher(filtered)
-                    .replaceAll(REPLACEMENT);
+    private Map<String, Object> redactMetadata(RedactionEngine engine, Map<String, Object> metadata) {
+        if (metadata == null || metadata.isEmpty()) {
+            return metadata;
         }
 
-        return filtered;
+        Map<String, Object> redacted = null;
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            Object value = entry.getValue();
+            Object redactedValue = redactMetadataValue(engine, entry.getKey(), value);
+            if (redactedValue != value) {
+                if (redacted == null) {
+                    redacted = new LinkedHashMap<>(metadata);
+                }
+                redacted.put(entry.getKey(), redactedValue);
+            }
+        }
+
+        return redacted != null ? Collections.unmodifiableMap(redacted) : metadata;
+    }
+
+    private Object redactMetadataValue(RedactionEngine engine, String key, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (engine.isMaskedKey(key)) {
+            return REPLACEMENT.equals(value) ? value : REPLACEMENT;
+        }
+
+        String text = value.toString();
+        String redactedText = redact(engine, text);
+        return redactedText != text ? redactedText : value;
+    }
+
+    private RedactionEngine currentEngine() {
+        RedactionEngine engine = redactionEngine;
+        if (!engine.isCompiledFrom(properties.getPatterns(), properties.getMaskedMetadataKeys())) {
+            engine = compileEngine();
+            redactionEngine = engine;
+        }
+        return engine;
+    }
+
+    private RedactionEngine compileEngine() {
+        return RedactionEngine.compile(properties.getPatterns(), properties.getMaskedMetadataKeys(), REPLACEMENT);
     }
-}
\ No newline at end of file
+}
@@ -18,4 +18,10 @@ public class SensitiveDataProperties {
             "\\b\\d{16}\\b",
             "\\b\\d{3}-\\d{2}-\\d{4}\\b"
     );
+    private List<String> maskedMetadataKeys = List.of(
+            "authorization",
+            "password",
+            "secret",
+            "token"
+    );
 }
\ No newline at end of file
@@ -3,26 +3,95 @@ package com.carlosmgv02.logginglibrary.infrastructure.adapter;
 import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
 import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
 import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.logback.LogbackEventEmitter;
 import com.carlosmgv02.logginglibrary.shared.constants.LoggingConstants;
 import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Hands entries to SLF4J.
+ *
+ * <p>When SLF4J is bound to logback, as it is with the bundled {@code logback-spring.xml},
+ * entries skip the SLF4J API and go to the appenders as logback events built by
+ * {@link LogbackEventEmitter}, with cached loggers and the entry's own timestamp.
+ *
+ * <p>With any other binding, the trace id, span id and service name go to the MDC, where the console pattern and
+ * {@code LogstashEncoder} read them. They are only written when they differ from what the MDC
+ * already holds (as when the tracing bridge put the same ids there), and the previous values are
+ * restored afterwards. Metadata is passed on the event itself as {@link StructuredArguments},
+ * which {@code LogstashEncoder} writes as top-level fields with their JSON types: it never
+ * touches the MDC, so one entry's metadata can not show up on the next line of the same thread.
+ * Entries logged on another thread are written with that thread's MDC and name in place of
+ * the current thread's, which are put back afterwards.
+ */
 @Component
 @Slf4j
 public class Slf4jLogProcessor implements LogProcessor {
 
+    /** The message is passed as the only placeholder's argument, so braces in it are never formatted. */
+    private static final String MESSAGE_FORMAT = "{}";
+
+    private final LogbackEventEmitter logbackEmitter;
+
+    public Slf4jLogProcessor() {
+        this.logbackEmitter = ClassUtils.isPresent("ch.qos.logback.classic.LoggerContext", Slf4jLogProcessor.class.getClassLoader())
+                ? LogbackEventEmitter.forBoundContext(Slf4jLogProcessor.class)
+                : null;
+    }
+
     @Override
     public void process(LogEntry logEntry) {
+        if (logbackEmitter != null) {
+            logbackEmitter.emit(logEntry);
+            return;
+        }
+
         Logger logger = LoggerFactory.getLogger(logEntry.getLogger() != null ? logEntry.getLogger() : "ROOT");
 
+        Thread thread = Thread.currentThread();
+        String threadName = thread.getName();
+        Map<String, String> threadMdc = null;
+        if (logEntry.getContextMap() != null) {
+            threadMdc = MDC.getCopyOfContextMap();
+            MDC.setContextMap(logEntry.getContextMap());
+        }
+        if (logEntry.getThreadName() != null) {
+            thread.setName(logEntry.getThreadName());
+        }
+        try {
+            logWithIds(logger, logEntry);
+        } finally {
+            if (logEntry.getContextMap() != null) {
+                restoreMDC(threadMdc);
+            }
+            if (logEntry.getThreadName() != null) {
+                thread.setName(threadName);
+            }
+        }
+    }
+
+    private void logWithIds(Logger logger, LogEntry logEntry) {
+        String previousTraceId = putMDC(LoggingConstants.MDC_TRACE_ID, logEntry.getTraceId());
+        String previousSpanId = putMDC(LoggingConstants.MDC_SPAN_ID, logEntry.getSpanId());
+        String previousServiceName = putMDC(LoggingConstants.MDC_SERVICE_NAME, logEntry.getServiceName());
         try {
-            enrichMDC(logEntry);
-            logWithLevel(logger, logEntry);
+            if (logEntry.getMetadata().isEmpty()) {
+                logWithLevel(logger, logEntry);
+            } else {
+                logWithArguments(logger, logEntry.getLevel(), arguments(logEntry));
+            }
         } finally {
-            clearMDC();
+            restoreMDC(LoggingConstants.MDC_TRACE_ID, logEntry.getTraceId(), previousTraceId);
+            restoreMDC(LoggingConstants.MDC_SPAN_ID, logEntry.getSpanId(), previousSpanId);
+            restoreMDC(LoggingConstants.MDC_SERVICE_NAME, logEntry.getServiceName(), previousServiceName);
         }
     }
 
@@ -31,23 +100,70 @@ public class Slf4jLogProcessor implements LogProcessor {
         return true; // Always enabled for SLF4J
     }
 
-    private void enrichMDC(LogEntry logEntry) {
-        if (logEntry.getTraceId() != null) {
-            MDC.put(LoggingConstants.MDC_TRACE_ID, logEntry.getTraceId());
+    /**
+     * Puts {@code value} unless the MDC already holds it.
+     *
+     * @return the value it replaced, or {@code value} itself if nothing was written
+     */
+    private static String putMDC(String key, String value) {
+        if (value == null) {
+            return null;
+        }
+        String previous = MDC.get(key);
+        if (!value.equals(previous)) {
+            MDC.put(key, value);
+        }
+        return previous;
+    }
+
+    private static void restoreMDC(Map<String, String> contextMap) {
+        if (contextMap != null) {
+            MDC.setContextMap(contextMap);
+        } else {
+            MDC.clear();
         }
-        if (logEntry.getSpanId() != null) {
-            MDC.put(LoggingConstants.MDC_SPAN_ID, logEntry.getSpanId());
+    }
+
+    private static void restoreMDC(String key, String value, String previous) {
+        if (value == null || value.equals(previous)) {
+            return;
         }
-        if (logEntry.getServiceName() != null) {
-            MDC.put(LoggingConstants.MDC_SERVICE_NAME, logEntry.getServiceName());
+        if (previous != null) {
+            MDC.put(key, previous);
+        } else {
+            MDC.remove(key);
         }
+    }
 
-        // Add metadata to MDC
-        logEntry.getMetadata().forEach((key, value) -> {
-            if (value != null) {
-                MDC.put(key, value.toString());
+    /**
+     * The message, one structured argument per non-null metadata value, and the throwable last,
+     * where SLF4J picks it up as the event's throwable.
+     */
+    private static Object[] arguments(LogEntry logEntry) {
+        Map<String, Object> metadata = logEntry.getMetadata();
+        Throwable throwable = logEntry.getThrowable();
+        Object[] arguments = new Object[1 + metadata.size() + (throwable != null ? 1 : 0)];
+        int count = 0;
+        arguments[count++] = logEntry.getMessage();
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            if (entry.getValue() != null) {
+                arguments[count++] = StructuredArguments.keyValue(entry.getKey(), entry.getValue());
             }
-        });
+        }
+        if (throwable != null) {
+            arguments[count++] = throwable;
+        }
+        return count == arguments.length ? arguments : Arrays.copyOf(arguments, count);
+    }
+
+    private static void logWithArguments(Logger logger, LogLevel level, Object[] arguments) {
+        switch (level) {
+            case TRACE -> logger.trace(MESSAGE_FORMAT, arguments);
+            case DEBUG -> logger.debug(MESSAGE_FORMAT, arguments);
+            case INFO -> logger.info(MESSAGE_FORMAT, arguments);
+            case WARN -> logger.warn(MESSAGE_FORMAT, arguments);
+            case ERROR -> logger.error(MESSAGE_FORMAT, arguments);
+        }
     }
 
     private void logWithLevel(Logger logger, LogEntry logEntry) {
@@ -77,10 +193,4 @@ public class Slf4jLogProcessor implements LogProcessor {
             }
         }
     }
-
-    private void clearMDC() {
-        MDC.remove(LoggingConstants.MDC_TRACE_ID);
-        MDC.remove(LoggingConstants.MDC_SPAN_ID);
-        MDC.remove(LoggingConstants.MDC_SERVICE_NAME);
-    }
-}
\ No newline at end of file
+}
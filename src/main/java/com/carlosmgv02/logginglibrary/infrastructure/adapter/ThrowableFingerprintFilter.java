@@ -0,0 +1,47 @@
+package com.carlosmgv02.logginglibrary.infrastructure.adapter;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.port.LogFilter;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.stacktrace.ThrowableFingerprinter;
+import com.carlosmgv02.logginglibrary.shared.constants.LoggingConstants;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Adds the {@link ThrowableFingerprinter fingerprint} of an entry's throwable as the
+ * {@code errorFingerprint} metadata field, so processors, the MDC and Logstash documents can
+ * group occurrences of the same error.
+ *
+ * <p>Runs after sampling and deduplication, so only entries that are kept are fingerprinted.
+ */
+@Component
+@Order(ThrowableFingerprintFilter.ORDER)
+public class ThrowableFingerprintFilter implements LogFilter {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 300;
+
+    private final LoggingProperties properties;
+
+    public ThrowableFingerprintFilter(LoggingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean shouldFilter(LogEntry logEntry) {
+        return logEntry.getThrowable() != null
+                && properties.isErrorFingerprint()
+                && !logEntry.getMetadata().containsKey(LoggingConstants.ERROR_FINGERPRINT);
+    }
+
+    @Override
+    public LogEntry filter(LogEntry logEntry) {
+        Map<String, Object> metadata = new LinkedHashMap<>(logEntry.getMetadata());
+        metadata.put(LoggingConstants.ERROR_FINGERPRINT, ThrowableFingerprinter.fingerprint(logEntry.getThrowable()));
+        return logEntry.toBuilder().metadata(metadata).build();
+    }
+}
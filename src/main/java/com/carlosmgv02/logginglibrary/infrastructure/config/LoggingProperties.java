@@ -1,8 +1,16 @@
 package com.carlosmgv02.logginglibrary.infrastructure.config;
 
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.shared.constants.LoggingConstants;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
 @Data
 @ConfigurationProperties(prefix = "logging.library")
 public class LoggingProperties {
@@ -10,13 +18,66 @@ public class LoggingProperties {
     private boolean metricsEnabled = true;
     private boolean traceEnabled = true;
     private String serviceName;
-    private int bufferSize = 1000;
-    private long flushIntervalMs = 5000L;
+    private int bufferSize = LoggingConstants.DEFAULT_LOG_BUFFER_SIZE;
+    private long flushIntervalMs = LoggingConstants.DEFAULT_FLUSH_INTERVAL_MS;
     private String logLevel = "INFO";
+    /** {@link #logLevel} parsed once, so level checks on the logging path are a single compare. */
+    @Setter(AccessLevel.NONE)
+    private volatile LogLevel levelThreshold = LogLevel.INFO;
+    private int metricsMaxServiceTags = LoggingConstants.DEFAULT_METRICS_MAX_SERVICE_TAGS;
+    private double timingSampleRate = 1.0;
+
+    // Asynchronous processing properties
+    private ProcessingMode processingMode = ProcessingMode.SYNC;
+    private int batchSize = LoggingConstants.DEFAULT_BATCH_SIZE;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private WaitStrategy waitStrategy = WaitStrategy.PARK;
+
+    /** Reuse per-thread {@code LogEntry} instances instead of allocating one per call (SYNC mode only). */
+    private boolean garbageFree = false;
+
+    /** Add an {@code errorFingerprint} field, grouping occurrences of the same exception, to entries with a throwable. */
+    private boolean errorFingerprint = false;
+
+    // Per-processor execution, keyed by the processor's simple class name
+    private Map<String, ProcessorProperties> processors = new LinkedHashMap<>();
 
     // Startup validation properties
     private ValidationProperties validation = new ValidationProperties();
 
+    public void setLogLevel(String logLevel) {
+        this.levelThreshold = LogLevel.valueOf(logLevel.trim().toUpperCase(Locale.ROOT));
+        this.logLevel = logLevel;
+    }
+
+    /**
+     * Execution settings for the processor with the given simple class name. Keys under
+     * {@code processors} may be written as the class name or in kebab case
+     * ({@code HttpSinkProcessor} or {@code http-sink-processor}).
+     *
+     * @return the configured settings, or defaults (run on the logging thread) if there are none
+     */
+    public ProcessorProperties getProcessorProperties(String processorName) {
+        String normalizedName = normalizeProcessorName(processorName);
+        for (Map.Entry<String, ProcessorProperties> entry : processors.entrySet()) {
+            if (normalizeProcessorName(entry.getKey()).equals(normalizedName)) {
+                return entry.getValue();
+            }
+        }
+        return new ProcessorProperties();
+    }
+
+    private static String normalizeProcessorName(String name) {
+        return name.replace("-", "").toLowerCase(Locale.ROOT);
+    }
+
+    @Data
+    public static class ProcessorProperties {
+        private ProcessorExecution execution = ProcessorExecution.INLINE;
+        private int maxConcurrency = LoggingConstants.DEFAULT_PROCESSOR_MAX_CONCURRENCY;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    }
+
     @Data
     public static class ValidationProperties {
         private boolean enabled = true;
@@ -25,4 +86,56 @@ public class LoggingProperties {
         private boolean failOnConnectionWarnings = false;
         private int validationDelayMs = 2000;
     }
-}
\ No newline at end of file
+
+    /**
+     * Where filters and processors run for a log entry.
+     */
+    public enum ProcessingMode {
+        /** Filters and processors run on the calling thread. */
+        SYNC,
+        /** Entries are buffered and processed in batches by a dedicated drainer thread. */
+        ASYNC,
+        /** Entries go through a ring buffer consumed by one filter thread and one thread per processor. */
+        RING_BUFFER
+    }
+
+    /**
+     * What to do when the asynchronous buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** The calling thread waits until the buffer has room. */
+        BLOCK,
+        /**
+         * A buffered entry with a lower level than the incoming one is evicted; otherwise the incoming entry is dropped.
+         * Entries in a ring buffer can not be evicted, so in {@code RING_BUFFER} mode this behaves as {@link #DROP_NEWEST}.
+         */
+        DROP_LOWEST_LEVEL,
+        /** The incoming entry is dropped. */
+        DROP_NEWEST
+    }
+
+    /**
+     * Where a processor runs once an entry has passed the filters.
+     */
+    public enum ProcessorExecution {
+        /** On the thread that dispatches the entry. */
+        INLINE,
+        /**
+         * On a virtual thread per entry (Java 21+), or a bounded platform thread pool on older JVMs,
+         * with at most {@code max-concurrency} entries in flight.
+         */
+        VIRTUAL_THREADS
+    }
+
+    /**
+     * How ring buffer threads wait for work, and producers for space when the overflow policy is {@code BLOCK}.
+     */
+    public enum WaitStrategy {
+        /** Spin on the CPU: lowest latency, keeps one core busy per consumer. */
+        BUSY_SPIN,
+        /** Spin briefly, then yield the CPU to other threads. */
+        YIELD,
+        /** Spin, then yield, then park for short periods: lowest CPU use when idle. */
+        PARK
+    }
+}
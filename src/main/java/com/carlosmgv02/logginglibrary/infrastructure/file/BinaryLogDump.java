@@ -0,0 +1,66 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.JsonLinesEncoder;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Prints binary log segments as JSON lines, in the same format the JSON file sink writes.
+ *
+ * <pre>
+ * java -cp logging-library.jar com.carlosmgv02.logginglibrary.infrastructure.file.BinaryLogDump logs/application-2024-05-01.0000.lgb
+ * </pre>
+ */
+public final class BinaryLogDump {
+
+    private BinaryLogDump() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: BinaryLogDump <segment.lgb>...");
+            System.exit(2);
+        }
+        OutputStream out = new BufferedOutputStream(System.out, 64 * 1024);
+        for (String file : args) {
+            dump(Path.of(file), out);
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes every entry of {@code segment} (optionally gzipped) to {@code out} as JSON lines.
+     *
+     * @return the number of entries written
+     */
+    public static long dump(Path segment, OutputStream out) throws IOException {
+        InputStream in = Files.newInputStream(segment);
+        if (segment.getFileName().toString().endsWith(".gz")) {
+            in = new GZIPInputStream(in, 64 * 1024);
+        }
+        JsonLinesEncoder encoder = new JsonLinesEncoder();
+        long[] count = {0L};
+        try (BinaryLogReader reader = new BinaryLogReader(in)) {
+            reader.forEachRemaining(entry -> {
+                int length = encoder.encode(entry);
+                try {
+                    out.write(encoder.getBuffer(), 0, length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+}
@@ -0,0 +1,254 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Streams the entries of one binary log segment written with {@link BinaryLogWriter}.
+ *
+ * <p>Blocks are inflated one at a time, so memory use does not depend on the segment size.
+ * Stack traces come back as {@link RecordedThrowable}s. Metadata values come back as strings,
+ * except booleans and numbers, which come back as {@link Boolean}, {@link Long} or
+ * {@link BigDecimal} so they are encoded unquoted again; version 1 segments hold only strings.
+ */
+public final class BinaryLogReader implements Closeable {
+
+    private static final LogLevel[] LEVELS = LogLevel.values();
+
+    private final InputStream in;
+    private final Inflater inflater = new Inflater(true);
+    private final List<String> dictionary = new ArrayList<>();
+    private final boolean typedValues;
+
+    private byte[] compressed = new byte[64 * 1024];
+    private byte[] raw = new byte[64 * 1024];
+    private int rawLength;
+    private int position;
+    private long previousTimestamp;
+    private boolean finished;
+
+    public BinaryLogReader(InputStream in) throws IOException {
+        this.in = new BufferedInputStream(in, 64 * 1024);
+        byte[] header = new byte[BinaryLogWriter.HEADER.length];
+        int version = header.length - 1;
+        if (this.in.readNBytes(header, 0, header.length) != header.length
+                || !Arrays.equals(header, 0, version, BinaryLogWriter.HEADER, 0, version)
+                || header[version] < 1 || header[version] > BinaryLogWriter.HEADER[version]) {
+            throw new IOException("Not a binary log segment");
+        }
+        this.typedValues = header[version] > 1;
+    }
+
+    /**
+     * Returns the next entry, or {@code null} at the end of the segment.
+     */
+    public LogEntry read() throws IOException {
+        while (position == rawLength) {
+            if (finished || !readBlock()) {
+                finished = true;
+                return null;
+            }
+        }
+        return readRecord();
+    }
+
+    public void forEachRemaining(Consumer<LogEntry> action) throws IOException {
+        for (LogEntry entry = read(); entry != null; entry = read()) {
+            action.accept(entry);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        in.close();
+    }
+
+    private boolean readBlock() throws IOException {
+        long compressedLength = readStreamVarLong();
+        // End of file, or the zero-filled tail of a segment that was never closed
+        if (compressedLength <= 0) {
+            return false;
+        }
+        long rawSize = readStreamVarLong();
+        if (compressedLength > Integer.MAX_VALUE || rawSize < 0 || rawSize > Integer.MAX_VALUE) {
+            throw new IOException("Corrupt block header");
+        }
+
+        if (compressed.length < compressedLength) {
+            compressed = new byte[(int) compressedLength];
+        }
+        if (in.readNBytes(compressed, 0, (int) compressedLength) != compressedLength || in.read() != (BinaryLogWriter.BLOCK_END & 0xFF)) {
+            throw new EOFException("Truncated block");
+        }
+        if (raw.length < rawSize) {
+            raw = new byte[(int) rawSize];
+        }
+
+        inflater.reset();
+        inflater.setInput(compressed, 0, (int) compressedLength);
+        try {
+            rawLength = 0;
+            while (rawLength < rawSize && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, rawLength, (int) rawSize - rawLength);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                rawLength += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt block", e);
+        }
+        if (rawLength != rawSize) {
+            throw new IOException("Corrupt block: expected " + rawSize + " bytes, got " + rawLength);
+        }
+        position = 0;
+        return true;
+    }
+
+    private LogEntry readRecord() throws IOException {
+        long timestamp = previousTimestamp + unZigZag(readVarLong());
+        previousTimestamp = timestamp;
+
+        if (position == rawLength) {
+            throw new IOException("Corrupt record: level past the end of its block");
+        }
+        int level = raw[position++];
+        LogEntry.LogEntryBuilder builder = LogEntry.builder()
+                .timestamp(Instant.ofEpochMilli(timestamp))
+                .level(level > 0 && level <= LEVELS.length ? LEVELS[level - 1] : null)
+                .message(readString())
+                .logger(readReference())
+                .serviceName(readReference())
+                .traceId(readString())
+                .spanId(readString());
+
+        int count = (int) readVarLong();
+        if (count > 0) {
+            Map<String, Object> metadata = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                metadata.put(readReference(), readValue());
+            }
+            builder.metadata(metadata);
+        }
+
+        String stackTrace = readString();
+        if (stackTrace != null) {
+            builder.throwable(new RecordedThrowable(stackTrace));
+        }
+        return builder.build();
+    }
+
+    private String readReference() throws IOException {
+        long reference = readVarLong();
+        if (reference == BinaryLogWriter.REF_NULL) {
+            return null;
+        }
+        if (reference == BinaryLogWriter.REF_NEW) {
+            String value = readString();
+            if (dictionary.size() < BinaryLogWriter.MAX_DICTIONARY_SIZE) {
+                dictionary.add(value);
+            }
+            return value;
+        }
+        long id = reference - BinaryLogWriter.REF_OFFSET;
+        if (id >= dictionary.size()) {
+            throw new IOException("Unknown dictionary id " + id);
+        }
+        return dictionary.get((int) id);
+    }
+
+    private Object readValue() throws IOException {
+        if (!typedValues) {
+            return readString();
+        }
+        if (position == rawLength) {
+            throw new IOException("Corrupt record: metadata value past the end of its block");
+        }
+        byte type = raw[position++];
+        String value = readString();
+        if (type != BinaryLogWriter.VALUE_LITERAL || value == null) {
+            return value;
+        }
+        if (value.equals("true") || value.equals("false")) {
+            return Boolean.valueOf(value);
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException notALong) {
+            try {
+                return new BigDecimal(value);
+            } catch (NumberFormatException notANumber) {
+                throw new IOException("Corrupt record: metadata literal " + value + " is not a number");
+            }
+        }
+    }
+
+    private String readString() throws IOException {
+        long length = readVarLong() - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > rawLength - position) {
+            throw new IOException("Corrupt record: string past the end of its block");
+        }
+        String value = new String(raw, position, (int) length, StandardCharsets.UTF_8);
+        position += (int) length;
+        return value;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position == rawLength) {
+                throw new IOException("Corrupt record: varint past the end of its block");
+            }
+            byte b = raw[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt record: varint too long");
+    }
+
+    /** Returns -1 at the end of the stream. */
+    private long readStreamVarLong() throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return -1L;
+                }
+                throw new EOFException("Truncated block header");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt block header");
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,257 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.JsonLinesEncoder;
+import com.carlosmgv02.logginglibrary.infrastructure.stacktrace.StackTraceRenderer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Encodes log entries in the compact binary segment format read by {@link BinaryLogReader}.
+ *
+ * <p>A segment starts with {@link #HEADER} and is followed by blocks. Each block is framed as
+ * {@code varint compressedLength, varint rawLength, deflated records, BLOCK_END}; a zero length
+ * where the next block would start marks the end, so a pre-allocated file needs no trimming to
+ * be readable. A record is:
+ *
+ * <pre>
+ * zigzag varint   milliseconds since the previous record of the segment
+ * byte            level ordinal + 1, 0 for none
+ * string          message
+ * dictionary ref  logger
+ * dictionary ref  service
+ * string          traceId, spanId
+ * varint          metadata count, then (dictionary ref key, byte type, string value) per entry
+ * string          stack trace
+ * </pre>
+ *
+ * <p>A metadata value of type {@link #VALUE_LITERAL} is the text of a boolean or number that
+ * {@link JsonLinesEncoder} writes unquoted, so it reads back as one; anything else is
+ * {@link #VALUE_STRING}. Version 1 segments have no type byte and only string values.
+ *
+ * <p>Strings are {@code varint (UTF-8 length + 1)} followed by the bytes, 0 for {@code null}.
+ * Logger names, service names and metadata keys repeat on almost every record, so they are
+ * written once per segment: a dictionary ref is 0 for {@code null}, 1 for a new string that
+ * follows and gets the next id, or {@code id + 2}. Both sides stop adding ids at
+ * {@link #MAX_DICTIONARY_SIZE} and write later strings inline.
+ *
+ * <p>Blocks are compressed independently, but dictionary and timestamp state run across the
+ * whole segment: call {@link #startSegment()} before writing a new segment's header and first
+ * block, and {@link #discardBlock()} when an encoded block is not written after all, or later
+ * blocks would refer to strings and timestamps the reader never sees. Not thread-safe.
+ */
+public final class BinaryLogWriter {
+
+    static final byte[] HEADER = {'L', 'G', 'B', 2};
+    static final byte BLOCK_END = (byte) 0xB1;
+    static final int MAX_DICTIONARY_SIZE = 65_536;
+
+    static final int REF_NULL = 0;
+    static final int REF_NEW = 1;
+    static final int REF_OFFSET = 2;
+
+    static final byte VALUE_STRING = 0;
+    static final byte VALUE_LITERAL = 1;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final Deflater deflater;
+    private final StringBuilder stackTrace = new StringBuilder(1024);
+
+    private byte[] raw = new byte[64 * 1024];
+    private int rawLength;
+    private byte[] frame = new byte[64 * 1024];
+    private long previousTimestamp;
+    /** Dictionary size and timestamp base before the last encoded block. */
+    private int blockDictionarySize;
+    private long blockPreviousTimestamp;
+
+    public BinaryLogWriter() {
+        this(Deflater.BEST_SPEED);
+    }
+
+    public BinaryLogWriter(int compressionLevel) {
+        this.deflater = new Deflater(compressionLevel, true);
+    }
+
+    public static byte[] header() {
+        return HEADER.clone();
+    }
+
+    /**
+     * Forgets the dictionary and timestamp base of the previous segment.
+     */
+    public void startSegment() {
+        dictionary.clear();
+        previousTimestamp = 0L;
+        blockDictionarySize = 0;
+        blockPreviousTimestamp = 0L;
+    }
+
+    /**
+     * Encodes and compresses one block holding {@code entries} into {@link #getBuffer()}.
+     *
+     * @return the length of the framed block
+     */
+    public int encodeBlock(List<LogEntry> entries) {
+        blockDictionarySize = dictionary.size();
+        blockPreviousTimestamp = previousTimestamp;
+        rawLength = 0;
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                writeRecord(entries.get(i));
+            }
+            return compress();
+        } catch (RuntimeException e) {
+            discardBlock();
+            throw e;
+        }
+    }
+
+    /**
+     * Takes back the dictionary ids and timestamp base the last {@link #encodeBlock} call
+     * added, for a block that is not written to the segment.
+     */
+    public void discardBlock() {
+        if (dictionary.size() > blockDictionarySize) {
+            dictionary.values().removeIf(id -> id >= blockDictionarySize);
+        }
+        previousTimestamp = blockPreviousTimestamp;
+    }
+
+    /**
+     * The array the last block was framed into; overwritten by the next call to {@link #encodeBlock}.
+     */
+    public byte[] getBuffer() {
+        return frame;
+    }
+
+    private void writeRecord(LogEntry entry) {
+        long timestamp = entry.getTimestampMillis();
+        writeVarLong(zigZag(timestamp - previousTimestamp));
+        previousTimestamp = timestamp;
+
+        ensureCapacity(1);
+        raw[rawLength++] = (byte) (entry.getLevel() != null ? entry.getLevel().ordinal() + 1 : 0);
+        writeString(entry.getMessage());
+        writeReference(entry.getLogger());
+        writeReference(entry.getServiceName());
+        writeString(entry.getTraceId());
+        writeString(entry.getSpanId());
+
+        Map<String, Object> metadata = entry.getMetadata();
+        int count = 0;
+        for (Object value : metadata.values()) {
+            if (value != null) {
+                count++;
+            }
+        }
+        writeVarLong(count);
+        for (Map.Entry<String, Object> field : metadata.entrySet()) {
+            if (field.getValue() != null) {
+                writeReference(field.getKey());
+                ensureCapacity(1);
+                raw[rawLength++] = JsonLinesEncoder.isJsonLiteral(field.getValue()) ? VALUE_LITERAL : VALUE_STRING;
+                writeString(String.valueOf(field.getValue()));
+            }
+        }
+
+        if (entry.getThrowable() != null) {
+            stackTrace.setLength(0);
+            StackTraceRenderer.DEFAULT.render(entry.getThrowable(), stackTrace);
+            writeString(stackTrace.toString());
+        } else {
+            writeString(null);
+        }
+    }
+
+    private void writeReference(String value) {
+        if (value == null) {
+            writeVarLong(REF_NULL);
+            return;
+        }
+        Integer id = dictionary.get(value);
+        if (id != null) {
+            writeVarLong(id + (long) REF_OFFSET);
+            return;
+        }
+        writeVarLong(REF_NEW);
+        writeString(value);
+        if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+            dictionary.put(value, dictionary.size());
+        }
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, raw, rawLength, bytes.length);
+        rawLength += bytes.length;
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        rawLength = putVarLong(raw, rawLength, value);
+    }
+
+    private int compress() {
+        deflater.reset();
+        deflater.setInput(raw, 0, rawLength);
+        deflater.finish();
+
+        // Room for both length prefixes in front of the compressed bytes
+        int offset = 10;
+        int position = offset;
+        while (!deflater.finished()) {
+            if (position == frame.length) {
+                frame = Arrays.copyOf(frame, frame.length * 2);
+            }
+            position += deflater.deflate(frame, position, frame.length - position);
+        }
+        int compressedLength = position - offset;
+
+        byte[] prefix = new byte[20];
+        int prefixLength = putVarLong(prefix, 0, compressedLength);
+        prefixLength = putVarLong(prefix, prefixLength, rawLength);
+        if (prefixLength != offset) {
+            System.arraycopy(frame, offset, frame, prefixLength, compressedLength);
+        }
+        System.arraycopy(prefix, 0, frame, 0, prefixLength);
+
+        int length = prefixLength + compressedLength;
+        if (length == frame.length) {
+            frame = Arrays.copyOf(frame, frame.length + 1);
+        }
+        frame[length++] = BLOCK_END;
+        return length;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = rawLength + additional;
+        if (required > raw.length) {
+            raw = Arrays.copyOf(raw, Math.max(required, raw.length * 2));
+        }
+    }
+
+    static int putVarLong(byte[] target, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[position++] = (byte) value;
+        return position;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
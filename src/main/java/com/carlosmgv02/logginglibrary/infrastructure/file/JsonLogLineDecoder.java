@@ -0,0 +1,176 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.JsonLinesEncoder;
+import com.carlosmgv02.logginglibrary.shared.constants.LoggingConstants;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Turns a line written by {@link JsonLinesEncoder} back into a {@link LogEntry}.
+ *
+ * <p>Only the flat objects that encoder writes are supported: string values, plus numbers and
+ * literals which are kept as their text. Fields the encoder does not map to an entry property
+ * become metadata, and {@code stack_trace} becomes a {@link RecordedThrowable}.
+ */
+final class JsonLogLineDecoder {
+
+    private final StringBuilder value = new StringBuilder(256);
+    private String line;
+    private int position;
+
+    /**
+     * @throws IllegalArgumentException if the line is not a flat JSON object
+     */
+    LogEntry decode(String jsonLine) {
+        line = jsonLine;
+        position = 0;
+
+        LogEntry.LogEntryBuilder builder = LogEntry.builder();
+        Map<String, Object> metadata = null;
+        String serviceName = null;
+
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return builder.build();
+        }
+        while (true) {
+            skipWhitespace();
+            String name = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            String text = peek() == '"' ? readString() : readLiteral();
+
+            switch (name) {
+                case JsonLinesEncoder.TIMESTAMP -> builder.timestamp(parseTimestamp(text));
+                case JsonLinesEncoder.MESSAGE -> builder.message(text);
+                case JsonLinesEncoder.LOGGER -> builder.logger(text);
+                case JsonLinesEncoder.LEVEL -> builder.level(parseLevel(text));
+                case JsonLinesEncoder.SERVICE, LoggingConstants.MDC_SERVICE_NAME -> serviceName = text;
+                case LoggingConstants.MDC_TRACE_ID -> builder.traceId(text);
+                case LoggingConstants.MDC_SPAN_ID -> builder.spanId(text);
+                case JsonLinesEncoder.STACK_TRACE -> builder.throwable(new RecordedThrowable(text));
+                case JsonLinesEncoder.VERSION, JsonLinesEncoder.LEVEL_VALUE -> {
+                    // Derived from the other fields
+                }
+                default -> {
+                    if (metadata == null) {
+                        metadata = new LinkedHashMap<>();
+                    }
+                    metadata.put(name, text);
+                }
+            }
+
+            skipWhitespace();
+            char next = next();
+            if (next == '}') {
+                break;
+            }
+            if (next != ',') {
+                throw malformed("',' or '}'");
+            }
+        }
+        return builder.serviceName(serviceName).metadata(metadata).build();
+    }
+
+    private String readString() {
+        expect('"');
+        value.setLength(0);
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            char escaped = next();
+            switch (escaped) {
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> {
+                    if (position + 4 > line.length()) {
+                        throw malformed("four hex digits");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(line, position, position + 4, 16));
+                    } catch (NumberFormatException e) {
+                        throw malformed("four hex digits");
+                    }
+                    position += 4;
+                }
+                default -> value.append(escaped);
+            }
+        }
+    }
+
+    private String readLiteral() {
+        int start = position;
+        while (position < line.length() && ",} \t\r\n".indexOf(line.charAt(position)) < 0) {
+            position++;
+        }
+        if (position == start) {
+            throw malformed("a value");
+        }
+        String literal = line.substring(start, position);
+        return "null".equals(literal) ? null : literal;
+    }
+
+    private Instant parseTimestamp(String text) {
+        try {
+            return text != null ? Instant.parse(text) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid @timestamp: " + text, e);
+        }
+    }
+
+    private static LogLevel parseLevel(String text) {
+        for (LogLevel level : LogLevel.values()) {
+            if (level.getName().equals(text)) {
+                return level;
+            }
+        }
+        return null;
+    }
+
+    private void skipWhitespace() {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+    }
+
+    private char peek() {
+        if (position >= line.length()) {
+            throw malformed("more input");
+        }
+        return line.charAt(position);
+    }
+
+    private char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw malformed("'" + expected + "'");
+        }
+    }
+
+    private IllegalArgumentException malformed(String expected) {
+        return new IllegalArgumentException("Malformed log line at " + position + ": expected " + expected);
+    }
+}
@@ -0,0 +1,185 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Looks up entries in the segments written by the memory-mapped file sink, using their
+ * {@link SegmentIndex} sidecars to avoid opening segments that cannot match.
+ *
+ * <p>Segments without an index (the one still being written, or ones written with indexing
+ * off) are always scanned. In JSON segments only the checkpoint ranges that can match are
+ * decoded; binary segments share one dictionary per segment and are decoded from the start.
+ * Results are in segment order, and within a segment in the order entries were written.
+ */
+@Slf4j
+public final class LogFileQuery {
+
+    private static final List<String> EXTENSIONS = List.of(".log", ".lgb");
+
+    private final Path directory;
+    private final String baseName;
+
+    public LogFileQuery(Path directory, String baseName) {
+        this.directory = directory;
+        this.baseName = baseName;
+    }
+
+    public List<LogEntry> findByTraceId(String traceId) throws IOException {
+        List<LogEntry> results = new ArrayList<>();
+        for (Path segment : segments()) {
+            SegmentIndex index = readIndex(segment);
+            if (index != null && !index.mightContainTraceId(traceId)) {
+                continue;
+            }
+            scan(segment, 0L, Long.MAX_VALUE, line -> line.contains(traceId),
+                    entry -> traceId.equals(entry.getTraceId()), results);
+        }
+        return results;
+    }
+
+    /**
+     * Entries with a timestamp in {@code [from, to]} and, unless {@code minLevel} is {@code null},
+     * at that level or above.
+     */
+    public List<LogEntry> range(Instant from, Instant to, LogLevel minLevel) throws IOException {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        Predicate<LogEntry> filter = entry -> {
+            long timestamp = entry.getTimestampMillis();
+            return timestamp >= fromMillis && timestamp <= toMillis
+                    && (minLevel == null || (entry.getLevel() != null && entry.getLevel().isEnabledFor(minLevel)));
+        };
+
+        List<LogEntry> results = new ArrayList<>();
+        for (Path segment : segments()) {
+            SegmentIndex index = readIndex(segment);
+            if (index == null) {
+                scan(segment, 0L, Long.MAX_VALUE, line -> true, filter, results);
+            } else if (index.mayMatch(fromMillis, toMillis, minLevel)) {
+                if (isBinary(segment)) {
+                    scan(segment, 0L, Long.MAX_VALUE, line -> true, filter, results);
+                } else {
+                    for (long[] range : index.candidateRanges(fromMillis, toMillis, minLevel)) {
+                        scan(segment, range[0], range[1], line -> true, filter, results);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return EXTENSIONS.stream().anyMatch(extension -> SegmentNames.isSegmentOrArchive(name, baseName, extension));
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static SegmentIndex readIndex(Path segment) {
+        try {
+            return SegmentIndex.read(SegmentIndex.pathFor(segment));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable index of {}: {}", segment, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void scan(Path segment, long start, long end, Predicate<String> lineFilter,
+                             Predicate<LogEntry> filter, List<LogEntry> results) throws IOException {
+        try (InputStream in = open(segment)) {
+            if (isBinary(segment)) {
+                try (BinaryLogReader reader = new BinaryLogReader(in)) {
+                    reader.forEachRemaining(entry -> {
+                        if (filter.test(entry)) {
+                            results.add(entry);
+                        }
+                    });
+                }
+            } else {
+                scanJson(in, start, end, lineFilter, filter, results);
+            }
+        } catch (NoSuchFileException e) {
+            Path compressed = segment.resolveSibling(segment.getFileName() + ".gz");
+            if (!segment.getFileName().toString().endsWith(".gz") && Files.exists(compressed)) {
+                // Compressed by the archiver since it was listed
+                scan(compressed, start, end, lineFilter, filter, results);
+            } else {
+                log.debug("Log segment {} was deleted before it could be read", segment);
+            }
+        }
+    }
+
+    private static void scanJson(InputStream in, long start, long end, Predicate<String> lineFilter,
+                                 Predicate<LogEntry> filter, List<LogEntry> results) throws IOException {
+        in.skipNBytes(start);
+        JsonLogLineDecoder decoder = new JsonLogLineDecoder();
+        byte[] line = new byte[1024];
+        long position = start;
+
+        while (position < end) {
+            int length = 0;
+            int b;
+            while ((b = in.read()) >= 0 && b != '\n') {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = (byte) b;
+            }
+            // End of file, or the zero-filled tail of a segment that is still being written
+            if (length == 0 && b < 0 || length > 0 && line[0] == 0) {
+                return;
+            }
+            position += length + (b < 0 ? 0 : 1);
+
+            String text = new String(line, 0, length, StandardCharsets.UTF_8);
+            if (text.isBlank() || !lineFilter.test(text)) {
+                continue;
+            }
+            try {
+                LogEntry entry = decoder.decode(text);
+                if (filter.test(entry)) {
+                    results.add(entry);
+                }
+            } catch (IllegalArgumentException e) {
+                log.debug("Skipping malformed log line: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static InputStream open(Path segment) throws IOException {
+        InputStream in = Files.newInputStream(segment);
+        if (segment.getFileName().toString().endsWith(".gz")) {
+            in = new GZIPInputStream(in, 64 * 1024);
+        }
+        return new BufferedInputStream(in, 64 * 1024);
+    }
+
+    private static boolean isBinary(Path segment) {
+        String name = segment.getFileName().toString();
+        return name.endsWith(".lgb") || name.endsWith(".lgb.gz");
+    }
+}
@@ -0,0 +1,98 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A log file pre-allocated to a fixed size and written through a memory mapping.
+ *
+ * <p>Appends are plain memory copies into the page cache; no {@code write} system call or flush
+ * happens per entry. The unused tail of the file is zero-filled until {@link #close()} truncates
+ * the file to what was written. A file left behind by a crash is trimmed by {@link #trim(Path)}.
+ *
+ * <p>Not thread-safe: owned by a single writer thread.
+ */
+public final class MappedSegmentFile {
+
+    private static final int TRIM_CHUNK_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer map;
+
+    private MappedSegmentFile(Path path, FileChannel channel, MappedByteBuffer map) {
+        this.path = path;
+        this.channel = channel;
+        this.map = map;
+    }
+
+    public static MappedSegmentFile create(Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MappedSegmentFile(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Truncates a segment that was not closed properly to its last non-zero byte.
+     */
+    public static void trim(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer chunk = ByteBuffer.allocate(TRIM_CHUNK_SIZE);
+            long end = channel.size();
+            while (end > 0) {
+                long start = Math.max(0L, end - TRIM_CHUNK_SIZE);
+                chunk.clear().limit((int) (end - start));
+                channel.read(chunk, start);
+                for (int i = chunk.position() - 1; i >= 0; i--) {
+                    if (chunk.get(i) != 0) {
+                        channel.truncate(start + i + 1);
+                        return;
+                    }
+                }
+                end = start;
+            }
+            channel.truncate(0L);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public boolean hasRoomFor(int length) {
+        return map.remaining() >= length;
+    }
+
+    /** Bytes written so far. */
+    public int size() {
+        return map.position();
+    }
+
+    /**
+     * Appends {@code length} bytes; the caller checks {@link #hasRoomFor(int)} first.
+     */
+    public void write(byte[] bytes, int length) {
+        map.put(bytes, 0, length);
+    }
+
+    /**
+     * Writes the mapped pages to disk and truncates the file to what was written.
+     */
+    public void close() throws IOException {
+        try {
+            map.force();
+            channel.truncate(map.position());
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+
+/**
+ * A throwable read back from a log file, of which only the printed stack trace was stored.
+ *
+ * <p>Printing it reproduces that text exactly, so the entry encodes to the same
+ * {@code stack_trace} it was written with.
+ */
+public final class RecordedThrowable extends Throwable {
+
+    private final String stackTrace;
+
+    public RecordedThrowable(String stackTrace) {
+        super(null, null, false, false);
+        this.stackTrace = stackTrace;
+    }
+
+    public String getRecordedStackTrace() {
+        return stackTrace;
+    }
+
+    @Override
+    public String toString() {
+        int end = stackTrace.indexOf('\n');
+        return (end < 0 ? stackTrace : stackTrace.substring(0, end)).stripTrailing();
+    }
+
+    @Override
+    public void printStackTrace(PrintStream stream) {
+        stream.print(stackTrace);
+    }
+
+    @Override
+    public void printStackTrace(PrintWriter writer) {
+        writer.print(stackTrace);
+    }
+}
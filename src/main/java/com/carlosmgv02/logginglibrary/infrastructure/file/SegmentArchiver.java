@@ -0,0 +1,155 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses closed log segments and enforces retention, on a background thread so neither
+ * ever runs on the writer thread.
+ *
+ * <p>A segment {@code name.log} is gzipped to {@code name.log.gz} (through a temporary file, so
+ * a half-written archive is never left under the final name) and then deleted. After each
+ * segment, the oldest archived segments of the same base name are deleted until at most
+ * {@code maxFiles} remain and they take up at most {@code totalSizeCap} bytes.
+ */
+@Slf4j
+public final class SegmentArchiver {
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final String baseName;
+    private final String extension;
+    private final boolean compress;
+    private final int maxFiles;
+    private final long totalSizeCap;
+    private final ExecutorService executor;
+
+    public SegmentArchiver(Path directory, String baseName, String extension, boolean compress, int maxFiles, long totalSizeCap) {
+        this.directory = directory;
+        this.baseName = baseName;
+        this.extension = extension;
+        this.compress = compress;
+        this.maxFiles = maxFiles;
+        this.totalSizeCap = totalSizeCap;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "logging-library-archiver");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a closed segment for compression and retention. Segments newer than {@code segment}
+     * are still open or waiting to be archived and are never deleted here.
+     */
+    public void archive(Path segment) {
+        try {
+            executor.execute(() -> {
+                if (compress) {
+                    compress(segment);
+                }
+                enforceRetention(segment);
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Archiver stopped, leaving {} uncompressed", segment);
+        }
+    }
+
+    /**
+     * Waits up to {@code timeout} for queued segments to be archived.
+     */
+    public void shutdown(Duration timeout) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Log segment archiver did not finish within {} ms", timeout.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void compress(Path segment) {
+        Path archive = segment.resolveSibling(segment.getFileName() + SegmentNames.GZIP_SUFFIX);
+        Path temporary = segment.resolveSibling(segment.getFileName() + SegmentNames.GZIP_SUFFIX + TEMPORARY_SUFFIX);
+        try {
+            try (InputStream in = Files.newInputStream(segment);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(temporary), 64 * 1024)) {
+                in.transferTo(out);
+            }
+            Files.move(temporary, archive, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            Files.delete(segment);
+        } catch (IOException e) {
+            log.warn("Could not compress log segment {}: {}", segment, e.getMessage());
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException ignored) {
+                // Nothing more to do; the uncompressed segment is kept
+            }
+        }
+    }
+
+    private void enforceRetention(Path newestArchived) {
+        List<Path> closed = archivedSegments(newestArchived.getFileName().toString());
+        long totalSize = 0L;
+        for (Path path : closed) {
+            totalSize += sizeOf(path);
+        }
+
+        // Oldest first: names embed the period and a zero-padded index, so they sort chronologically
+        for (int i = 0; i < closed.size() && (closed.size() - i > maxFiles || totalSize > totalSizeCap); i++) {
+            Path oldest = closed.get(i);
+            long size = sizeOf(oldest);
+            try {
+                Files.deleteIfExists(oldest);
+                Files.deleteIfExists(SegmentIndex.pathFor(oldest));
+                totalSize -= size;
+            } catch (IOException e) {
+                log.warn("Could not delete old log segment {}: {}", oldest, e.getMessage());
+            }
+        }
+    }
+
+    private List<Path> archivedSegments(String newestArchived) {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = new ArrayList<>(files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return SegmentNames.isSegmentOrArchive(name, baseName, extension)
+                                && SegmentNames.withoutGzipSuffix(name).compareTo(newestArchived) <= 0;
+                    })
+                    .toList());
+            segments.sort(Comparator.comparing(path -> path.getFileName().toString()));
+            return segments;
+        } catch (IOException e) {
+            log.warn("Could not list log segments in {}: {}", directory, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The sidecar index of one closed log segment, written by {@link SegmentIndexWriter}.
+ *
+ * <p>It holds the time span and levels of the whole segment, a bloom filter over its trace ids,
+ * and a sparse list of checkpoints: the offset in the uncompressed segment of every
+ * {@code index-interval}-th entry with the time span and levels of the entries up to the next
+ * checkpoint. A query can therefore skip segments that cannot match without opening them, and
+ * in an uncompressed or gzipped JSON segment read only the checkpoint ranges that can.
+ */
+public final class SegmentIndex {
+
+    static final int MAGIC = 0x4C474931;
+    static final String INDEX_SUFFIX = ".idx";
+
+    private final long minTimestamp;
+    private final long maxTimestamp;
+    private final int levels;
+    private final int hashCount;
+    private final long[] bloom;
+    private final long[] checkpointOffsets;
+    private final long[] checkpointMinTimestamps;
+    private final long[] checkpointMaxTimestamps;
+    private final int[] checkpointLevels;
+
+    private SegmentIndex(long minTimestamp, long maxTimestamp, int levels, int hashCount, long[] bloom,
+                         long[] checkpointOffsets, long[] checkpointMinTimestamps, long[] checkpointMaxTimestamps,
+                         int[] checkpointLevels) {
+        this.minTimestamp = minTimestamp;
+        this.maxTimestamp = maxTimestamp;
+        this.levels = levels;
+        this.hashCount = hashCount;
+        this.bloom = bloom;
+        this.checkpointOffsets = checkpointOffsets;
+        this.checkpointMinTimestamps = checkpointMinTimestamps;
+        this.checkpointMaxTimestamps = checkpointMaxTimestamps;
+        this.checkpointLevels = checkpointLevels;
+    }
+
+    /**
+     * The index file of a segment, by the segment's name before compression.
+     */
+    public static Path pathFor(Path segment) {
+        String name = segment.getFileName().toString();
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - ".gz".length());
+        }
+        return segment.resolveSibling(name + INDEX_SUFFIX);
+    }
+
+    public static SegmentIndex read(Path indexFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a segment index: " + indexFile);
+            }
+            long minTimestamp = in.readLong();
+            long maxTimestamp = in.readLong();
+            int levels = in.readInt();
+            int hashCount = in.readInt();
+            long[] bloom = new long[checkedLength(in.readInt(), indexFile)];
+            for (int i = 0; i < bloom.length; i++) {
+                bloom[i] = in.readLong();
+            }
+            int checkpoints = checkedLength(in.readInt(), indexFile);
+            long[] offsets = new long[checkpoints];
+            long[] minTimestamps = new long[checkpoints];
+            long[] maxTimestamps = new long[checkpoints];
+            int[] checkpointLevels = new int[checkpoints];
+            for (int i = 0; i < checkpoints; i++) {
+                offsets[i] = in.readLong();
+                minTimestamps[i] = in.readLong();
+                maxTimestamps[i] = in.readLong();
+                checkpointLevels[i] = in.readInt();
+            }
+            return new SegmentIndex(minTimestamp, maxTimestamp, levels, hashCount, bloom,
+                    offsets, minTimestamps, maxTimestamps, checkpointLevels);
+        }
+    }
+
+    /**
+     * {@code false} if no entry in the segment has this trace id; {@code true} if one may have.
+     */
+    public boolean mightContainTraceId(String traceId) {
+        if (bloom.length == 0) {
+            return false;
+        }
+        long hash = hash(traceId);
+        long bits = (long) bloom.length * Long.SIZE;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(hash, i, bits);
+            if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@code false} if no entry in the segment falls in {@code [from, to]} at {@code minLevel} or above.
+     */
+    public boolean mayMatch(long from, long to, LogLevel minLevel) {
+        return checkpointOffsets.length > 0 && matches(minTimestamp, maxTimestamp, levels, from, to, minLevel);
+    }
+
+    /**
+     * The {@code [start, end)} byte ranges of the uncompressed segment that may hold matching
+     * entries, adjacent ranges merged; the last range ends at {@link Long#MAX_VALUE}.
+     */
+    public List<long[]> candidateRanges(long from, long to, LogLevel minLevel) {
+        List<long[]> ranges = new ArrayList<>();
+        for (int i = 0; i < checkpointOffsets.length; i++) {
+            if (!matches(checkpointMinTimestamps[i], checkpointMaxTimestamps[i], checkpointLevels[i], from, to, minLevel)) {
+                continue;
+            }
+            long end = i + 1 < checkpointOffsets.length ? checkpointOffsets[i + 1] : Long.MAX_VALUE;
+            long[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && last[1] == checkpointOffsets[i]) {
+                last[1] = end;
+            } else {
+                ranges.add(new long[]{checkpointOffsets[i], end});
+            }
+        }
+        return ranges;
+    }
+
+    static int levelBit(LogLevel level) {
+        return level != null ? 1 << level.ordinal() : 0;
+    }
+
+    /** 64-bit FNV-1a over the chars, with a final avalanche so both halves are usable as bloom hashes. */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    static long bitIndex(long hash, int i, long bits) {
+        long combined = (hash & 0xFFFFFFFFL) + i * (hash >>> 32);
+        return Math.floorMod(combined, bits);
+    }
+
+    private static boolean matches(long minTimestamp, long maxTimestamp, int levels, long from, long to, LogLevel minLevel) {
+        if (maxTimestamp < from || minTimestamp > to) {
+            return false;
+        }
+        return minLevel == null || (levels >>> minLevel.ordinal()) != 0;
+    }
+
+    private static int checkedLength(int length, Path indexFile) throws IOException {
+        if (length < 0 || length > 64 * 1024 * 1024) {
+            throw new IOException("Corrupt segment index: " + indexFile);
+        }
+        return length;
+    }
+}
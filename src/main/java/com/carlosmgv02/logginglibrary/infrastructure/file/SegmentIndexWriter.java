@@ -0,0 +1,167 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * Collects the {@link SegmentIndex} of the segment being written and writes it when the segment
+ * is closed.
+ *
+ * <p>Per entry it only updates a few counters and keeps a 64-bit hash of the trace id; the bloom
+ * filter is sized and filled once the number of distinct trace ids is known, at about 1% false
+ * positives. A checkpoint is started every {@code checkpointInterval} entries, but never in the
+ * middle of a block of the binary format, whose entries all share the block's offset.
+ *
+ * <p>Not thread-safe: owned by the writer thread.
+ */
+public final class SegmentIndexWriter {
+
+    private static final int BITS_PER_TRACE_ID = 10;
+    private static final int HASH_COUNT = 7;
+
+    private final int checkpointInterval;
+
+    private long[] traceHashes = new long[1024];
+    private int traceHashCount;
+    private long lastTraceHash;
+
+    private long[] checkpointOffsets = new long[64];
+    private long[] checkpointMinTimestamps = new long[64];
+    private long[] checkpointMaxTimestamps = new long[64];
+    private int[] checkpointLevels = new int[64];
+    private int checkpointCount;
+    private int entriesInCheckpoint;
+
+    public SegmentIndexWriter(int checkpointInterval) {
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+    }
+
+    /**
+     * Adds an entry starting at {@code offset} in the uncompressed segment.
+     */
+    public void add(long timestamp, LogLevel level, String traceId, long offset) {
+        int current = checkpointCount - 1;
+        if (current < 0 || (entriesInCheckpoint >= checkpointInterval && checkpointOffsets[current] != offset)) {
+            startCheckpoint(offset, timestamp);
+            current = checkpointCount - 1;
+        }
+        checkpointMinTimestamps[current] = Math.min(checkpointMinTimestamps[current], timestamp);
+        checkpointMaxTimestamps[current] = Math.max(checkpointMaxTimestamps[current], timestamp);
+        checkpointLevels[current] |= SegmentIndex.levelBit(level);
+        entriesInCheckpoint++;
+
+        if (traceId != null) {
+            long hash = SegmentIndex.hash(traceId);
+            // Entries of one request tend to arrive together; skip the obvious repeats
+            if (traceHashCount == 0 || hash != lastTraceHash) {
+                if (traceHashCount == traceHashes.length) {
+                    traceHashes = Arrays.copyOf(traceHashes, traceHashCount * 2);
+                }
+                traceHashes[traceHashCount++] = hash;
+                lastTraceHash = hash;
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return checkpointCount == 0;
+    }
+
+    /**
+     * Writes the index (through a temporary file, so readers never see a partial one) and
+     * starts over for the next segment.
+     */
+    public void writeTo(Path indexFile) throws IOException {
+        try {
+            Path temporary = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                write(out);
+            }
+            Files.move(temporary, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            reset();
+        }
+    }
+
+    public void reset() {
+        traceHashCount = 0;
+        checkpointCount = 0;
+        entriesInCheckpoint = 0;
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+        long minTimestamp = Long.MAX_VALUE;
+        long maxTimestamp = Long.MIN_VALUE;
+        int levels = 0;
+        for (int i = 0; i < checkpointCount; i++) {
+            minTimestamp = Math.min(minTimestamp, checkpointMinTimestamps[i]);
+            maxTimestamp = Math.max(maxTimestamp, checkpointMaxTimestamps[i]);
+            levels |= checkpointLevels[i];
+        }
+
+        long[] bloom = buildBloom();
+
+        out.writeInt(SegmentIndex.MAGIC);
+        out.writeLong(minTimestamp);
+        out.writeLong(maxTimestamp);
+        out.writeInt(levels);
+        out.writeInt(HASH_COUNT);
+        out.writeInt(bloom.length);
+        for (long word : bloom) {
+            out.writeLong(word);
+        }
+        out.writeInt(checkpointCount);
+        for (int i = 0; i < checkpointCount; i++) {
+            out.writeLong(checkpointOffsets[i]);
+            out.writeLong(checkpointMinTimestamps[i]);
+            out.writeLong(checkpointMaxTimestamps[i]);
+            out.writeInt(checkpointLevels[i]);
+        }
+    }
+
+    private long[] buildBloom() {
+        if (traceHashCount == 0) {
+            return new long[0];
+        }
+        Arrays.sort(traceHashes, 0, traceHashCount);
+        int distinct = 1;
+        for (int i = 1; i < traceHashCount; i++) {
+            if (traceHashes[i] != traceHashes[i - 1]) {
+                distinct++;
+            }
+        }
+
+        long[] bloom = new long[(int) Math.max(1L, ((long) distinct * BITS_PER_TRACE_ID + 63) / 64)];
+        long bits = (long) bloom.length * Long.SIZE;
+        for (int i = 0; i < traceHashCount; i++) {
+            for (int k = 0; k < HASH_COUNT; k++) {
+                long bit = SegmentIndex.bitIndex(traceHashes[i], k, bits);
+                bloom[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+        return bloom;
+    }
+
+    private void startCheckpoint(long offset, long timestamp) {
+        if (checkpointCount == checkpointOffsets.length) {
+            int capacity = checkpointCount * 2;
+            checkpointOffsets = Arrays.copyOf(checkpointOffsets, capacity);
+            checkpointMinTimestamps = Arrays.copyOf(checkpointMinTimestamps, capacity);
+            checkpointMaxTimestamps = Arrays.copyOf(checkpointMaxTimestamps, capacity);
+            checkpointLevels = Arrays.copyOf(checkpointLevels, capacity);
+        }
+        checkpointOffsets[checkpointCount] = offset;
+        checkpointMinTimestamps[checkpointCount] = timestamp;
+        checkpointMaxTimestamps[checkpointCount] = timestamp;
+        checkpointLevels[checkpointCount] = 0;
+        checkpointCount++;
+        entriesInCheckpoint = 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.carlosmgv02.logginglibrary.infrastructure.file;
+
+import java.util.regex.Pattern;
+
+/**
+ * Recognises the files the memory-mapped file sink names its segments:
+ * {@code <base>-<period>.<index><extension>}, where the period is {@code yyyy-MM-dd} or
+ * {@code yyyy-MM-dd-HH-mm} and the index is zero-padded to at least four digits.
+ *
+ * <p>Anything else sharing the base name, such as {@code application-api.log} written by a
+ * logback appender into the same directory, is not a segment and is never archived, deleted or
+ * queried as one.
+ */
+public final class SegmentNames {
+
+    public static final String GZIP_SUFFIX = ".gz";
+
+    private static final Pattern PERIOD_AND_INDEX = Pattern.compile("\\d{4}-\\d{2}-\\d{2}(?:-\\d{2}-\\d{2})?\\.\\d{4,}");
+
+    private SegmentNames() {
+    }
+
+    /**
+     * Whether {@code fileName} is an uncompressed segment of {@code baseName}.
+     */
+    public static boolean isSegment(String fileName, String baseName, String extension) {
+        if (!fileName.endsWith(extension) || !fileName.startsWith(baseName)
+                || fileName.length() <= baseName.length() + 1 + extension.length()
+                || fileName.charAt(baseName.length()) != '-') {
+            return false;
+        }
+        return PERIOD_AND_INDEX.matcher(fileName)
+                .region(baseName.length() + 1, fileName.length() - extension.length())
+                .matches();
+    }
+
+    /**
+     * Whether {@code fileName} is a segment of {@code baseName}, uncompressed or gzipped.
+     */
+    public static boolean isSegmentOrArchive(String fileName, String baseName, String extension) {
+        return isSegment(withoutGzipSuffix(fileName), baseName, extension);
+    }
+
+    /**
+     * The name of the segment a gzipped archive was made from, or {@code fileName} itself.
+     */
+    public static String withoutGzipSuffix(String fileName) {
+        return fileName.endsWith(GZIP_SUFFIX)
+                ? fileName.substring(0, fileName.length() - GZIP_SUFFIX.length())
+                : fileName;
+    }
+}
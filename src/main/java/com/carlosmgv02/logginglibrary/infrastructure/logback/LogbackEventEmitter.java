@@ -0,0 +1,167 @@
+package com.carlosmgv02.logginglibrary.infrastructure.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.shared.constants.LoggingConstants;
+import net.logstash.logback.argument.StructuredArguments;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands log entries straight to logback's appenders, without going through the SLF4J API.
+ *
+ * <p>Loggers are looked up once per name. Each entry becomes one {@link LoggingEvent} carrying
+ * the entry's own timestamp, its metadata as {@link StructuredArguments} and an MDC map of the
+ * thread's MDC plus the entry's trace id, span id and service name, so the thread's MDC is
+ * never written. Entries logged on another thread bring that thread's MDC and name, which are
+ * used instead of the emitting thread's. Redacted throwables get a {@link RedactedThrowableProxy}, so appenders print
+ * the original exception class. The level check goes through {@link Logger#isEnabledFor(Level)},
+ * so turbo filters still apply.
+ */
+public final class LogbackEventEmitter {
+
+    private static final Level[] LEVELS = {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR};
+    /** Used instead of the message when the message itself contains a placeholder. */
+    private static final String MESSAGE_FORMAT = "{}";
+
+    private final LoggerContext loggerContext;
+    private final String callerBoundary;
+    private final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+
+    public LogbackEventEmitter(LoggerContext loggerContext, Class<?> caller) {
+        this.loggerContext = loggerContext;
+        this.callerBoundary = caller.getName();
+    }
+
+    /**
+     * Returns an emitter for the logback context SLF4J is bound to, or {@code null} if SLF4J is
+     * bound to another implementation.
+     */
+    public static LogbackEventEmitter forBoundContext(Class<?> caller) {
+        return LoggerFactory.getILoggerFactory() instanceof LoggerContext context
+                ? new LogbackEventEmitter(context, caller)
+                : null;
+    }
+
+    public void emit(LogEntry logEntry) {
+        Logger logger = logger(logEntry.getLogger() != null ? logEntry.getLogger() : org.slf4j.Logger.ROOT_LOGGER_NAME);
+        Level level = LEVELS[logEntry.getLevel().ordinal()];
+        if (!logger.isEnabledFor(level)) {
+            return;
+        }
+
+        String message = logEntry.getMessage();
+        Object[] arguments = null;
+        if (!logEntry.getMetadata().isEmpty()) {
+            boolean hasPlaceholder = message != null && message.contains(MESSAGE_FORMAT);
+            arguments = arguments(hasPlaceholder ? message : null, logEntry.getMetadata());
+            if (hasPlaceholder) {
+                message = MESSAGE_FORMAT;
+            }
+        }
+
+        LoggingEvent event = new LoggingEvent(callerBoundary, logger, level, message, null, arguments);
+        event.setTimeStamp(logEntry.getTimestampMillis());
+        if (logEntry.getThrowable() != null) {
+            event.setThrowableProxy(throwableProxy(logEntry.getThrowable()));
+        }
+        if (logEntry.getThreadName() != null) {
+            event.setThreadName(logEntry.getThreadName());
+        }
+        event.setMDCPropertyMap(mdc(logEntry));
+        logger.callAppenders(event);
+    }
+
+    /**
+     * Built here rather than by the event, so redacted throwables report their original class.
+     */
+    private ThrowableProxy throwableProxy(Throwable throwable) {
+        ThrowableProxy proxy = RedactedThrowableProxy.of(throwable);
+        if (loggerContext.isPackagingDataEnabled()) {
+            proxy.calculatePackagingData();
+        }
+        return proxy;
+    }
+
+    private Logger logger(String name) {
+        Logger logger = loggers.get(name);
+        if (logger == null) {
+            logger = loggers.computeIfAbsent(name, loggerContext::getLogger);
+        }
+        return logger;
+    }
+
+    /**
+     * One structured argument per non-null metadata value, after the message when it has to be
+     * passed as an argument.
+     */
+    private static Object[] arguments(String message, Map<String, Object> metadata) {
+        int offset = message != null ? 1 : 0;
+        Object[] arguments = new Object[offset + metadata.size()];
+        int count = 0;
+        if (message != null) {
+            arguments[count++] = message;
+        }
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            if (entry.getValue() != null) {
+                arguments[count++] = StructuredArguments.keyValue(entry.getKey(), entry.getValue());
+            }
+        }
+        return count == arguments.length ? arguments : Arrays.copyOf(arguments, count);
+    }
+
+    /**
+     * The logging thread's MDC as is when it already holds the entry's ids (or the entry has
+     * none), else a copy with them added.
+     */
+    private static Map<String, String> mdc(LogEntry logEntry) {
+        Map<String, String> threadMdc = logEntry.getContextMap() != null ? logEntry.getContextMap() : threadMdc();
+        String traceId = logEntry.getTraceId();
+        String spanId = logEntry.getSpanId();
+        String serviceName = logEntry.getServiceName();
+        if (holds(threadMdc, LoggingConstants.MDC_TRACE_ID, traceId)
+                && holds(threadMdc, LoggingConstants.MDC_SPAN_ID, spanId)
+                && holds(threadMdc, LoggingConstants.MDC_SERVICE_NAME, serviceName)) {
+            return threadMdc;
+        }
+
+        Map<String, String> mdc = new HashMap<>(threadMdc.size() + 4);
+        mdc.putAll(threadMdc);
+        if (traceId != null) {
+            mdc.put(LoggingConstants.MDC_TRACE_ID, traceId);
+        }
+        if (spanId != null) {
+            mdc.put(LoggingConstants.MDC_SPAN_ID, spanId);
+        }
+        if (serviceName != null) {
+            mdc.put(LoggingConstants.MDC_SERVICE_NAME, serviceName);
+        }
+        return mdc;
+    }
+
+    private static boolean holds(Map<String, String> mdc, String key, String value) {
+        return value == null || Objects.equals(mdc.get(key), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> threadMdc() {
+        MDCAdapter adapter = MDC.getMDCAdapter();
+        // Logback's adapter shares a read-only view that is only copied after the MDC changes
+        Map<String, String> mdc = adapter instanceof LogbackMDCAdapter logbackAdapter
+                ? logbackAdapter.getPropertyMap()
+                : adapter.getCopyOfContextMap();
+        return mdc != null ? mdc : Map.of();
+    }
+}
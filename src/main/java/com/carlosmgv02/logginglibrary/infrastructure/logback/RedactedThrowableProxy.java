@@ -0,0 +1,133 @@
+package com.carlosmgv02.logginglibrary.infrastructure.logback;
+
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import com.carlosmgv02.logginglibrary.infrastructure.redaction.RedactedThrowable;
+
+import java.util.Arrays;
+
+/**
+ * Logback view of a {@link RedactedThrowable} that reports the original exception class.
+ *
+ * <p>{@link ThrowableProxy} takes the class name from {@code getClass()}, so console, file and
+ * Logstash output would name {@code RedactedThrowable} instead of the exception that was
+ * thrown. This proxy, and the proxies of redacted causes and suppressed exceptions below it,
+ * report {@link RedactedThrowable#getOriginalClassName()} instead; frames, messages and common
+ * frame counts are logback's own.
+ */
+public final class RedactedThrowableProxy extends ThrowableProxy {
+
+    private final String className;
+    private final IThrowableProxy cause;
+    private final IThrowableProxy[] suppressed;
+
+    public RedactedThrowableProxy(RedactedThrowable throwable) {
+        super(throwable);
+        this.className = throwable.getOriginalClassName();
+        this.cause = restore(super.getCause());
+        this.suppressed = restore(super.getSuppressed());
+    }
+
+    /**
+     * A proxy for {@code throwable}, reporting original class names if it was redacted.
+     */
+    public static ThrowableProxy of(Throwable throwable) {
+        return throwable instanceof RedactedThrowable redacted
+                ? new RedactedThrowableProxy(redacted)
+                : new ThrowableProxy(throwable);
+    }
+
+    @Override
+    public String getClassName() {
+        return className;
+    }
+
+    @Override
+    public IThrowableProxy getCause() {
+        return cause;
+    }
+
+    @Override
+    public IThrowableProxy[] getSuppressed() {
+        return suppressed;
+    }
+
+    /**
+     * Redacting a cause or suppressed exception copies every throwable above it, so only proxies
+     * of redacted throwables can have redacted ones below them.
+     */
+    private static IThrowableProxy restore(IThrowableProxy proxy) {
+        return proxy instanceof ThrowableProxy throwableProxy
+                && throwableProxy.getThrowable() instanceof RedactedThrowable redacted
+                ? new NestedProxy(throwableProxy, redacted.getOriginalClassName())
+                : proxy;
+    }
+
+    private static IThrowableProxy[] restore(IThrowableProxy[] proxies) {
+        IThrowableProxy[] restored = proxies;
+        for (int i = 0; i < proxies.length; i++) {
+            IThrowableProxy proxy = restore(proxies[i]);
+            if (proxy != proxies[i]) {
+                if (restored == proxies) {
+                    // Logback's array is a ThrowableProxy[], which can not hold other proxies
+                    restored = Arrays.copyOf(proxies, proxies.length, IThrowableProxy[].class);
+                }
+                restored[i] = proxy;
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Cause or suppressed proxy built by logback, with the original class name.
+     */
+    private static final class NestedProxy implements IThrowableProxy {
+        private final IThrowableProxy delegate;
+        private final String className;
+        private final IThrowableProxy cause;
+        private final IThrowableProxy[] suppressed;
+
+        NestedProxy(IThrowableProxy delegate, String className) {
+            this.delegate = delegate;
+            this.className = className;
+            this.cause = restore(delegate.getCause());
+            this.suppressed = restore(delegate.getSuppressed());
+        }
+
+        @Override
+        public String getMessage() {
+            return delegate.getMessage();
+        }
+
+        @Override
+        public String getClassName() {
+            return className;
+        }
+
+        @Override
+        public StackTraceElementProxy[] getStackTraceElementProxyArray() {
+            return delegate.getStackTraceElementProxyArray();
+        }
+
+        @Override
+        public int getCommonFrames() {
+            return delegate.getCommonFrames();
+        }
+
+        @Override
+        public IThrowableProxy getCause() {
+            return cause;
+        }
+
+        @Override
+        public IThrowableProxy[] getSuppressed() {
+            return suppressed;
+        }
+
+        @Override
+        public boolean isCyclic() {
+            return delegate.isCyclic();
+        }
+    }
+}
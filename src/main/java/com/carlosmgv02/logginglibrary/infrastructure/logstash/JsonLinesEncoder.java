@@ -0,0 +1,287 @@
+package com.carlosmgv02.logginglibrary.infrastructure.logstash;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.stacktrace.StackTraceRenderer;
+import com.carlosmgv02.logginglibrary.shared.constants.LoggingConstants;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encodes a {@link LogEntry} as one Logstash {@code json_lines} document.
+ *
+ * <p>The fields are the ones the {@code LogstashEncoder} in {@code logback-spring.xml} writes
+ * for the same entry ({@code @timestamp}, {@code message}, {@code logger}, {@code level},
+ * {@code service}, the trace ids, {@code stack_trace}, and metadata as top-level fields with
+ * their JSON types, as {@code Slf4jLogProcessor} passes it), so documents from either path land
+ * in the same index mapping. Metadata keys that would overwrite one of those fields are skipped.
+ *
+ * <p>UTF-8 bytes are written straight into a reusable array: field names are encoded once, the
+ * formatted timestamp is reused while entries fall in the same millisecond (and only the
+ * millisecond digits are rewritten within the same second), and an ASCII character that needs
+ * no escaping costs a single table lookup.
+ *
+ * <p>Not thread-safe: use one instance per writer thread.
+ */
+public final class JsonLinesEncoder {
+
+    public static final String TIMESTAMP = "@timestamp";
+    public static final String VERSION = "@version";
+    public static final String MESSAGE = "message";
+    public static final String LOGGER = "logger";
+    public static final String LEVEL = "level";
+    public static final String LEVEL_VALUE = "level_value";
+    public static final String SERVICE = "service";
+    public static final String STACK_TRACE = "stack_trace";
+
+    private static final Set<String> RESERVED_FIELDS = Set.of(
+            TIMESTAMP, VERSION, MESSAGE, LOGGER, LEVEL, LEVEL_VALUE, SERVICE, STACK_TRACE,
+            LoggingConstants.MDC_TRACE_ID, LoggingConstants.MDC_SPAN_ID, LoggingConstants.MDC_SERVICE_NAME);
+
+    private static final byte[] DOCUMENT_START = ascii("{\"" + TIMESTAMP + "\":\"");
+    private static final byte[] VERSION_FIELD = ascii("\",\"" + VERSION + "\":\"1\"");
+    private static final byte[] MESSAGE_FIELD = fieldPrefix(MESSAGE);
+    private static final byte[] LOGGER_FIELD = fieldPrefix(LOGGER);
+    private static final byte[] SERVICE_FIELD = fieldPrefix(SERVICE);
+    private static final byte[] TRACE_ID_FIELD = fieldPrefix(LoggingConstants.MDC_TRACE_ID);
+    private static final byte[] SPAN_ID_FIELD = fieldPrefix(LoggingConstants.MDC_SPAN_ID);
+    private static final byte[] SERVICE_NAME_FIELD = fieldPrefix(LoggingConstants.MDC_SERVICE_NAME);
+    private static final byte[] STACK_TRACE_FIELD = fieldPrefix(STACK_TRACE);
+    private static final byte[] DOCUMENT_END = ascii("}\n");
+
+    /** {@code level} and {@code level_value} (logback's {@code Level.toInt()}), indexed by {@code LogLevel} ordinal. */
+    private static final byte[][] LEVEL_FIELDS = new byte[LogLevel.values().length][];
+
+    /** Escape sequence for each ASCII character that needs one, {@code null} for the others. */
+    private static final byte[][] ESCAPES = new byte[128][];
+
+    /** {@code yyyy-MM-ddTHH:mm:ss.SSSZ} */
+    private static final int TIMESTAMP_LENGTH = 24;
+    private static final int MILLIS_OFFSET = 20;
+
+    static {
+        int[] levelValues = {5000, 10000, 20000, 30000, 40000};
+        for (LogLevel level : LogLevel.values()) {
+            LEVEL_FIELDS[level.ordinal()] = ascii(",\"" + LEVEL + "\":\"" + level.getName() + "\",\""
+                    + LEVEL_VALUE + "\":" + levelValues[level.ordinal()]);
+        }
+
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = ascii(String.format("\\u%04x", c));
+        }
+        ESCAPES['"'] = ascii("\\\"");
+        ESCAPES['\\'] = ascii("\\\\");
+        ESCAPES['\n'] = ascii("\\n");
+        ESCAPES['\r'] = ascii("\\r");
+        ESCAPES['\t'] = ascii("\\t");
+        ESCAPES['\b'] = ascii("\\b");
+        ESCAPES['\f'] = ascii("\\f");
+    }
+
+    private byte[] bytes = new byte[1024];
+    private int length;
+
+    private final byte[] timestamp = new byte[TIMESTAMP_LENGTH];
+    private long timestampMillis = Long.MIN_VALUE;
+    private long timestampSecond = Long.MIN_VALUE;
+
+    private final StringBuilder stackTrace = new StringBuilder(1024);
+
+    /**
+     * Encodes the entry, newline-terminated, into {@link #getBuffer()}.
+     *
+     * @return the number of bytes written, starting at index 0
+     */
+    public int encode(LogEntry logEntry) {
+        length = 0;
+        writeRaw(DOCUMENT_START);
+        writeTimestamp(logEntry.getTimestampMillis());
+        writeRaw(VERSION_FIELD);
+        writeField(MESSAGE_FIELD, logEntry.getMessage());
+        writeField(LOGGER_FIELD, logEntry.getLogger());
+        if (logEntry.getLevel() != null) {
+            writeRaw(LEVEL_FIELDS[logEntry.getLevel().ordinal()]);
+        }
+        writeField(SERVICE_FIELD, logEntry.getServiceName());
+        writeField(TRACE_ID_FIELD, logEntry.getTraceId());
+        writeField(SPAN_ID_FIELD, logEntry.getSpanId());
+        writeField(SERVICE_NAME_FIELD, logEntry.getServiceName());
+
+        for (Map.Entry<String, Object> metadata : logEntry.getMetadata().entrySet()) {
+            if (metadata.getValue() != null && !RESERVED_FIELDS.contains(metadata.getKey())) {
+                writeByte(',');
+                writeString(metadata.getKey());
+                writeByte(':');
+                writeValue(metadata.getValue());
+            }
+        }
+
+        if (logEntry.getThrowable() != null) {
+            stackTrace.setLength(0);
+            StackTraceRenderer.DEFAULT.render(logEntry.getThrowable(), stackTrace);
+            writeField(STACK_TRACE_FIELD, stackTrace);
+        }
+        writeRaw(DOCUMENT_END);
+        return length;
+    }
+
+    /**
+     * The array the last document was encoded into; overwritten by the next call to {@link #encode}.
+     */
+    public byte[] getBuffer() {
+        return bytes;
+    }
+
+    private void writeField(byte[] prefix, CharSequence value) {
+        if (value != null) {
+            writeRaw(prefix);
+            writeString(value);
+        }
+    }
+
+    private void writeValue(Object value) {
+        if (isJsonLiteral(value)) {
+            writeLiteral(value.toString());
+        } else {
+            writeString(String.valueOf(value));
+        }
+    }
+
+    /**
+     * Whether a metadata value is written unquoted: booleans and JDK numbers, like Jackson writes
+     * them for {@code StructuredArguments}. Anything else, including NaN, infinities and other
+     * {@link Number} types whose {@code toString} may not be valid JSON, is written as a string.
+     */
+    public static boolean isJsonLiteral(Object value) {
+        return value instanceof Boolean
+                || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger || value instanceof BigDecimal
+                || value instanceof AtomicInteger || value instanceof AtomicLong
+                || (value instanceof Double || value instanceof Float) && Double.isFinite(((Number) value).doubleValue());
+    }
+
+    /** An ASCII-only literal that needs no quoting or escaping. */
+    private void writeLiteral(String literal) {
+        int literalLength = literal.length();
+        ensureCapacity(literalLength);
+        for (int i = 0; i < literalLength; i++) {
+            bytes[length++] = (byte) literal.charAt(i);
+        }
+    }
+
+    private void writeString(CharSequence value) {
+        int valueLength = value.length();
+        // Worst case: every char becomes a six-byte \\u escape
+        ensureCapacity(valueLength * 6 + 2);
+        byte[] out = bytes;
+        int position = length;
+        out[position++] = '"';
+
+        for (int i = 0; i < valueLength; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                byte[] escape = ESCAPES[c];
+                if (escape == null) {
+                    out[position++] = (byte) c;
+                } else {
+                    System.arraycopy(escape, 0, out, position, escape.length);
+                    position += escape.length;
+                }
+            } else if (c < 0x800) {
+                out[position++] = (byte) (0xC0 | (c >> 6));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < valueLength && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out[position++] = (byte) (0xF0 | (codePoint >> 18));
+                out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate: same replacement as String.getBytes(UTF_8)
+                out[position++] = '?';
+            } else {
+                out[position++] = (byte) (0xE0 | (c >> 12));
+                out[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        out[position++] = '"';
+        length = position;
+    }
+
+    private void writeTimestamp(long epochMillis) {
+        if (epochMillis != timestampMillis) {
+            long second = Math.floorDiv(epochMillis, 1000L);
+            if (second != timestampSecond) {
+                formatSecond(second);
+                timestampSecond = second;
+            }
+            int millis = (int) Math.floorMod(epochMillis, 1000L);
+            timestamp[MILLIS_OFFSET] = (byte) ('0' + millis / 100);
+            timestamp[MILLIS_OFFSET + 1] = (byte) ('0' + millis / 10 % 10);
+            timestamp[MILLIS_OFFSET + 2] = (byte) ('0' + millis % 10);
+            timestampMillis = epochMillis;
+        }
+        writeRaw(timestamp);
+    }
+
+    private void formatSecond(long epochSecond) {
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        writeDigits(dateTime.getYear(), 0, 4);
+        timestamp[4] = '-';
+        writeDigits(dateTime.getMonthValue(), 5, 2);
+        timestamp[7] = '-';
+        writeDigits(dateTime.getDayOfMonth(), 8, 2);
+        timestamp[10] = 'T';
+        writeDigits(dateTime.getHour(), 11, 2);
+        timestamp[13] = ':';
+        writeDigits(dateTime.getMinute(), 14, 2);
+        timestamp[16] = ':';
+        writeDigits(dateTime.getSecond(), 17, 2);
+        timestamp[19] = '.';
+        timestamp[23] = 'Z';
+    }
+
+    private void writeDigits(int value, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            timestamp[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private void writeRaw(byte[] source) {
+        ensureCapacity(source.length);
+        System.arraycopy(source, 0, bytes, length, source.length);
+        length += source.length;
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        bytes[length++] = (byte) c;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+        }
+    }
+
+    private static byte[] fieldPrefix(String name) {
+        return ascii(",\"" + name + "\":");
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
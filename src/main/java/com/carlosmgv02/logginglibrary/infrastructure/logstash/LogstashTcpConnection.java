@@ -0,0 +1,207 @@
+package com.carlosmgv02.logginglibrary.infrastructure.logstash;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.UnresolvedAddressException;
+import java.util.List;
+
+/**
+ * Non-blocking TCP connection to one of several Logstash destinations.
+ *
+ * <p>Destinations are tried in order; a failed connection moves on to the next one. Once every
+ * destination has failed in a row, reconnects back off exponentially from
+ * {@code reconnectDelayMs} up to {@code maxReconnectDelayMs}. Host names are resolved on each
+ * attempt, so DNS changes are picked up on reconnect.
+ *
+ * <p>Not thread-safe: owned by a single writer thread.
+ */
+@Slf4j
+public final class LogstashTcpConnection implements Closeable {
+
+    private final List<InetSocketAddress> destinations;
+    private final long connectTimeoutMs;
+    private final long writeTimeoutMs;
+    private final long reconnectDelayMs;
+    private final long maxReconnectDelayMs;
+
+    private SocketChannel channel;
+    private Selector selector;
+    private int destinationIndex;
+    private int consecutiveFailures;
+    private long backoffMs;
+    private long nextAttemptAtMs;
+
+    public LogstashTcpConnection(List<String> destinations,
+                                 long connectTimeoutMs,
+                                 long writeTimeoutMs,
+                                 long reconnectDelayMs,
+                                 long maxReconnectDelayMs) {
+        if (destinations.isEmpty()) {
+            throw new IllegalArgumentException("At least one Logstash destination is required");
+        }
+        this.destinations = destinations.stream().map(LogstashTcpConnection::parseDestination).toList();
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.writeTimeoutMs = writeTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.maxReconnectDelayMs = Math.max(reconnectDelayMs, maxReconnectDelayMs);
+        this.backoffMs = reconnectDelayMs;
+    }
+
+    /**
+     * Parses a {@code host:port} destination without resolving the host.
+     */
+    public static InetSocketAddress parseDestination(String destination) {
+        int separator = destination.lastIndexOf(':');
+        if (separator <= 0 || separator == destination.length() - 1) {
+            throw new IllegalArgumentException("Logstash destination must be host:port, was: " + destination);
+        }
+        try {
+            int port = Integer.parseInt(destination.substring(separator + 1).trim());
+            return InetSocketAddress.createUnresolved(destination.substring(0, separator).trim(), port);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid port in Logstash destination: " + destination, e);
+        }
+    }
+
+    public boolean isConnected() {
+        return channel != null;
+    }
+
+    public InetSocketAddress getCurrentDestination() {
+        return destinations.get(destinationIndex);
+    }
+
+    /**
+     * Connects to the current destination unless already connected or still backing off.
+     *
+     * @return whether the connection is usable
+     */
+    public boolean connect() {
+        if (channel != null) {
+            return true;
+        }
+        if (System.currentTimeMillis() < nextAttemptAtMs) {
+            return false;
+        }
+
+        InetSocketAddress destination = getCurrentDestination();
+        SocketChannel candidate = null;
+        Selector candidateSelector = null;
+        try {
+            candidate = SocketChannel.open();
+            candidate.configureBlocking(false);
+            candidate.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            candidate.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+            candidateSelector = Selector.open();
+
+            if (!candidate.connect(new InetSocketAddress(destination.getHostString(), destination.getPort()))) {
+                SelectionKey key = candidate.register(candidateSelector, SelectionKey.OP_CONNECT);
+                if (candidateSelector.select(connectTimeoutMs) == 0) {
+                    throw new SocketTimeoutException("Connect timed out after " + connectTimeoutMs + " ms");
+                }
+                candidateSelector.selectedKeys().clear();
+                candidate.finishConnect();
+                key.interestOps(SelectionKey.OP_WRITE);
+            } else {
+                candidate.register(candidateSelector, SelectionKey.OP_WRITE);
+            }
+
+            channel = candidate;
+            selector = candidateSelector;
+            consecutiveFailures = 0;
+            backoffMs = reconnectDelayMs;
+            log.info("Connected to Logstash at {}", describe(destination));
+            return true;
+        } catch (IOException e) {
+            return failAttempt(candidate, candidateSelector, destination, e.getMessage());
+        } catch (UnresolvedAddressException e) {
+            return failAttempt(candidate, candidateSelector, destination, "host could not be resolved");
+        } catch (RuntimeException e) {
+            return failAttempt(candidate, candidateSelector, destination, e.toString());
+        }
+    }
+
+    private boolean failAttempt(SocketChannel candidate, Selector candidateSelector,
+                                InetSocketAddress destination, String reason) {
+        closeQuietly(candidate);
+        closeQuietly(candidateSelector);
+        log.warn("Could not connect to Logstash at {}: {}", describe(destination), reason);
+        scheduleNextAttempt();
+        return false;
+    }
+
+    /**
+     * Writes as much of {@code buffer} as the socket accepts. With {@code awaitProgress} it waits
+     * up to the write timeout for the socket to accept at least one byte.
+     *
+     * @return the number of bytes written
+     */
+    public int write(ByteBuffer buffer, boolean awaitProgress) throws IOException {
+        int written = channel.write(buffer);
+        while (written == 0 && awaitProgress && buffer.hasRemaining()) {
+            if (selector.select(writeTimeoutMs) == 0) {
+                throw new SocketTimeoutException("Write timed out after " + writeTimeoutMs + " ms");
+            }
+            selector.selectedKeys().clear();
+            written = channel.write(buffer);
+        }
+        return written;
+    }
+
+    /**
+     * Drops a connection that failed while writing and schedules a reconnect to the next destination.
+     */
+    public void fail(IOException cause) {
+        log.warn("Connection to Logstash at {} failed: {}", describe(getCurrentDestination()), cause.getMessage());
+        close();
+        scheduleNextAttempt();
+    }
+
+    /**
+     * Milliseconds until the next connection attempt is allowed, 0 if it is allowed now.
+     */
+    public long getReconnectDelayRemainingMs() {
+        return Math.max(0L, nextAttemptAtMs - System.currentTimeMillis());
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(channel);
+        closeQuietly(selector);
+        channel = null;
+        selector = null;
+    }
+
+    private void scheduleNextAttempt() {
+        destinationIndex = (destinationIndex + 1) % destinations.size();
+        if (++consecutiveFailures >= destinations.size()) {
+            nextAttemptAtMs = System.currentTimeMillis() + backoffMs;
+            backoffMs = Math.min(backoffMs * 2, maxReconnectDelayMs);
+            consecutiveFailures = 0;
+        }
+    }
+
+    private static String describe(InetSocketAddress destination) {
+        return destination.getHostString() + ":" + destination.getPort();
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.debug("Error closing Logstash connection: {}", e.getMessage());
+        }
+    }
+}
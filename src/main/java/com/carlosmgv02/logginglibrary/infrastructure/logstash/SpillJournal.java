@@ -0,0 +1,313 @@
+package com.carlosmgv02.logginglibrary.infrastructure.logstash;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, memory-mapped journal of encoded documents that could not be shipped.
+ *
+ * <p>The journal is a directory of fixed-size segment files ({@code spill-<sequence>.journal}).
+ * Each segment starts with a header holding the offset up to which it has been replayed,
+ * followed by length-prefixed records; a zero length marks the end of the written data. A new
+ * segment is started when a record does not fit in the current one. Once the journal would grow
+ * beyond {@code maxSize}, the oldest segment is deleted with whatever it still holds.
+ *
+ * <p>Records are read in the order they were appended: {@link #peek()} and {@link #advance()}
+ * walk a read cursor, {@link #commit()} stores it in the segment header (and deletes segments
+ * that have been read completely) and {@link #rollback()} moves it back to the last commit, so
+ * records are replayed at least once, including across restarts.
+ *
+ * <p>Not thread-safe: owned by a single writer thread.
+ */
+@Slf4j
+public final class SpillJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "spill-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int MAGIC = 0x4C53504C;
+    /** magic, committed read offset */
+    private static final int HEADER_SIZE = 8;
+    private static final int READ_OFFSET_POSITION = 4;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    private static final int MIN_SEGMENTS = 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    private Segment readSegment;
+    private int readOffset;
+    // Volatile so they can be read for monitoring from other threads
+    private volatile long pendingCount;
+    private volatile long evictedCount;
+
+    public SpillJournal(Path directory, int segmentSize, long maxSize) throws IOException {
+        if (segmentSize <= HEADER_SIZE + LENGTH_SIZE) {
+            throw new IllegalArgumentException("Segment size is too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = (int) Math.max(MIN_SEGMENTS, maxSize / segmentSize);
+
+        Files.createDirectories(directory);
+        for (Path path : existingSegments()) {
+            Segment segment = Segment.open(path, sequenceOf(path), segmentSize);
+            segments.addLast(segment);
+            pendingCount += segment.countRecords(segment.committedOffset());
+        }
+        if (segments.isEmpty()) {
+            segments.addLast(Segment.create(directory, 0L, segmentSize));
+        } else if (pendingCount > 0) {
+            log.info("Found {} spilled log entries in {} to replay", pendingCount, directory);
+        }
+        rollback();
+    }
+
+    /**
+     * Appends one record, evicting the oldest segment if the journal is full.
+     *
+     * @return whether the record was stored; {@code false} if it is larger than a segment
+     */
+    public boolean append(byte[] record, int length) throws IOException {
+        int required = LENGTH_SIZE + length;
+        if (required > segmentSize - HEADER_SIZE) {
+            return false;
+        }
+
+        Segment tail = segments.getLast();
+        if (!tail.hasRoomFor(required)) {
+            tail.seal();
+            if (segments.size() >= maxSegments) {
+                evictOldest();
+            }
+            tail = Segment.create(directory, tail.sequence + 1, segmentSize);
+            segments.addLast(tail);
+        }
+        tail.append(record, length);
+        pendingCount++;
+        return true;
+    }
+
+    /**
+     * Returns the record at the read cursor without moving it, or {@code null} if every record
+     * has been read. The buffer is a view of the journal and is only valid until the next call.
+     */
+    public ByteBuffer peek() {
+        while (readOffset >= readSegment.writeOffset) {
+            Segment next = nextSegment(readSegment);
+            if (next == null) {
+                return null;
+            }
+            readSegment = next;
+            readOffset = next.committedOffset();
+        }
+        int length = readSegment.map.getInt(readOffset);
+        return readSegment.map.slice(readOffset + LENGTH_SIZE, length);
+    }
+
+    /**
+     * Moves the read cursor past the record returned by {@link #peek()}.
+     */
+    public void advance() {
+        if (peek() != null) {
+            readOffset += LENGTH_SIZE + readSegment.map.getInt(readOffset);
+        }
+    }
+
+    /**
+     * Marks everything before the read cursor as shipped.
+     */
+    public void commit() throws IOException {
+        while (segments.getFirst() != readSegment) {
+            Segment head = segments.removeFirst();
+            pendingCount -= head.countRecords(head.committedOffset());
+            head.delete();
+        }
+        pendingCount -= readSegment.countRecords(readSegment.committedOffset(), readOffset);
+        readSegment.commit(readOffset);
+    }
+
+    /**
+     * Moves the read cursor back to the last commit, so the records after it are read again.
+     */
+    public void rollback() {
+        readSegment = segments.getFirst();
+        readOffset = readSegment.committedOffset();
+    }
+
+    public boolean isEmpty() {
+        return pendingCount == 0;
+    }
+
+    /** Records appended and not yet committed. */
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    /** Records deleted unshipped because the journal was full. */
+    public long getEvictedCount() {
+        return evictedCount;
+    }
+
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+    }
+
+    private void evictOldest() throws IOException {
+        Segment oldest = segments.removeFirst();
+        long evicted = oldest.countRecords(oldest.committedOffset());
+        pendingCount -= evicted;
+        evictedCount += evicted;
+        oldest.delete();
+        log.warn("Spill journal {} is full, evicted {} unshipped log entries", directory, evicted);
+
+        if (readSegment == oldest) {
+            rollback();
+        }
+    }
+
+    private Segment nextSegment(Segment segment) {
+        Iterator<Segment> iterator = segments.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == segment) {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+        }
+        return null;
+    }
+
+    private List<Path> existingSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> paths = new ArrayList<>(files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .toList());
+            paths.sort((left, right) -> Long.compare(sequenceOf(left), sequenceOf(right)));
+            return paths;
+        }
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class Segment {
+        final long sequence;
+        final Path path;
+        final FileChannel channel;
+        final MappedByteBuffer map;
+        int writeOffset;
+
+        private Segment(long sequence, Path path, FileChannel channel, MappedByteBuffer map) {
+            this.sequence = sequence;
+            this.path = path;
+            this.channel = channel;
+            this.map = map;
+        }
+
+        static Segment create(Path directory, long sequence, int size) throws IOException {
+            Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+            Segment segment = map(path, sequence, size);
+            segment.map.putInt(0, MAGIC);
+            segment.map.putInt(READ_OFFSET_POSITION, HEADER_SIZE);
+            segment.writeOffset = HEADER_SIZE;
+            return segment;
+        }
+
+        static Segment open(Path path, long sequence, int size) throws IOException {
+            Segment segment = map(path, sequence, (int) Math.max(size, Files.size(path)));
+            if (segment.map.getInt(0) != MAGIC) {
+                segment.close();
+                throw new IOException("Not a spill journal segment: " + path);
+            }
+            // Written records end at the first zero length (or at the end of the file)
+            int offset = HEADER_SIZE;
+            while (offset + LENGTH_SIZE <= segment.map.capacity()) {
+                int length = segment.map.getInt(offset);
+                if (length <= 0 || offset + LENGTH_SIZE + length > segment.map.capacity()) {
+                    break;
+                }
+                offset += LENGTH_SIZE + length;
+            }
+            segment.writeOffset = offset;
+            return segment;
+        }
+
+        private static Segment map(Path path, long sequence, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(sequence, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        boolean hasRoomFor(int bytes) {
+            return writeOffset + bytes <= map.capacity();
+        }
+
+        void append(byte[] record, int length) {
+            map.put(writeOffset + LENGTH_SIZE, record, 0, length);
+            // Length last, so a record cut short by a crash reads as the end of the segment
+            map.putInt(writeOffset, length);
+            writeOffset += LENGTH_SIZE + length;
+        }
+
+        int committedOffset() {
+            return map.getInt(READ_OFFSET_POSITION);
+        }
+
+        void commit(int offset) {
+            map.putInt(READ_OFFSET_POSITION, offset);
+        }
+
+        long countRecords(int from) {
+            return countRecords(from, writeOffset);
+        }
+
+        long countRecords(int from, int to) {
+            long count = 0;
+            for (int offset = from; offset < to; offset += LENGTH_SIZE + map.getInt(offset)) {
+                count++;
+            }
+            return count;
+        }
+
+        void seal() {
+            map.force();
+        }
+
+        void delete() throws IOException {
+            close();
+            Files.deleteIfExists(path);
+        }
+
+        void close() {
+            try {
+                map.force();
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Error closing spill journal segment {}: {}", path, e.getMessage());
+            }
+        }
+    }
+}
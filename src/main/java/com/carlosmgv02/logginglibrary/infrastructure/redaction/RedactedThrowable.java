@@ -0,0 +1,89 @@
+package com.carlosmgv02.logginglibrary.infrastructure.redaction;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Stand-in for a throwable whose message, or a message in its cause chain, contained sensitive
+ * data.
+ *
+ * <p>Throwable messages can not be changed, so the redacted copy keeps the original stack
+ * trace, cause chain and suppressed exceptions and reports the original class name from
+ * {@link #toString()}. Printed stack traces therefore look exactly like the original ones,
+ * minus the sensitive text.
+ */
+public final class RedactedThrowable extends Throwable {
+
+    private static final int MAX_CAUSE_DEPTH = 32;
+
+    private final String originalClassName;
+
+    private RedactedThrowable(String originalClassName, String message, Throwable cause, StackTraceElement[] stackTrace) {
+        super(message, cause, true, true);
+        this.originalClassName = originalClassName;
+        setStackTrace(stackTrace);
+    }
+
+    /**
+     * Returns {@code throwable} itself when no message in its chain changes, or a redacted copy.
+     */
+    public static Throwable redact(Throwable throwable, UnaryOperator<String> redactor) {
+        return redact(throwable, redactor, 0);
+    }
+
+    public static String originalClassName(Throwable throwable) {
+        return throwable instanceof RedactedThrowable redacted
+                ? redacted.originalClassName
+                : throwable.getClass().getName();
+    }
+
+    public String getOriginalClassName() {
+        return originalClassName;
+    }
+
+    @Override
+    public String toString() {
+        String message = getLocalizedMessage();
+        return message != null ? originalClassName + ": " + message : originalClassName;
+    }
+
+    /** The original stack trace is copied in, so there is nothing to capture. */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    private static Throwable redact(Throwable throwable, UnaryOperator<String> redactor, int depth) {
+        if (throwable == null || depth >= MAX_CAUSE_DEPTH) {
+            return throwable;
+        }
+
+        Throwable cause = throwable.getCause();
+        Throwable redactedCause = cause == throwable ? null : redact(cause, redactor, depth + 1);
+
+        Throwable[] suppressed = throwable.getSuppressed();
+        Throwable[] redactedSuppressed = suppressed;
+        for (int i = 0; i < suppressed.length; i++) {
+            Throwable redacted = redact(suppressed[i], redactor, depth + 1);
+            if (redacted != suppressed[i]) {
+                if (redactedSuppressed == suppressed) {
+                    redactedSuppressed = suppressed.clone();
+                }
+                redactedSuppressed[i] = redacted;
+            }
+        }
+
+        String message = throwable.getMessage();
+        String redactedMessage = redactor.apply(message);
+
+        if (redactedMessage == message && redactedCause == cause && redactedSuppressed == suppressed) {
+            return throwable;
+        }
+
+        RedactedThrowable copy = new RedactedThrowable(
+                originalClassName(throwable), redactedMessage, redactedCause, throwable.getStackTrace());
+        for (Throwable suppressedThrowable : redactedSuppressed) {
+            copy.addSuppressed(suppressedThrowable);
+        }
+        return copy;
+    }
+}
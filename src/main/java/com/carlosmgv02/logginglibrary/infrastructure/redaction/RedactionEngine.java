@@ -0,0 +1,181 @@
+package com.carlosmgv02.logginglibrary.infrastructure.redaction;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, precompiled form of the configured sensitive-data patterns.
+ *
+ * <p>All patterns are combined into a single case-insensitive alternation, so a message is
+ * scanned once no matter how many patterns are configured. Invalid patterns are reported and
+ * skipped when the engine is compiled instead of failing every log call. Patterns with
+ * back-references or named groups would change meaning, or clash, once combined, so each of
+ * them is kept out of the alternation and run in a pass of its own.
+ *
+ * <p>A {@link SensitiveDataPrefilter} derived from the same patterns lets callers reject most
+ * texts before the regular expression runs. Metadata keys listed as masked are matched
+ * case-insensitively without allocating.
+ */
+@Slf4j
+public final class RedactionEngine {
+
+    /**
+     * A numbered or named back-reference, or a named group, not preceded by an escaping backslash.
+     */
+    private static final Pattern GROUP_REFERENCE = Pattern.compile("(?<!\\\\)(?:\\\\\\\\)*\\\\(?:[1-9]|k<)|\\(\\?<[a-zA-Z]");
+
+    private final List<String> sourcePatterns;
+    private final List<String> sourceMaskedKeys;
+    private final Pattern combinedPattern;
+    /** Patterns that cannot be part of the alternation, applied one after another. */
+    private final List<Pattern> standalonePatterns;
+    private final SensitiveDataPrefilter prefilter;
+    private final Set<String> maskedKeys;
+    private final String replacement;
+
+    private RedactionEngine(List<String> sourcePatterns,
+                            List<String> sourceMaskedKeys,
+                            Pattern combinedPattern,
+                            List<Pattern> standalonePatterns,
+                            SensitiveDataPrefilter prefilter,
+                            String replacement) {
+        this.sourcePatterns = sourcePatterns;
+        this.sourceMaskedKeys = sourceMaskedKeys;
+        this.combinedPattern = combinedPattern;
+        this.standalonePatterns = standalonePatterns;
+        this.prefilter = prefilter;
+        this.maskedKeys = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (sourceMaskedKeys != null) {
+            this.maskedKeys.addAll(sourceMaskedKeys);
+        }
+        this.replacement = replacement;
+    }
+
+    public static RedactionEngine compile(List<String> patterns, String replacement) {
+        return compile(patterns, List.of(), replacement);
+    }
+
+    public static RedactionEngine compile(List<String> patterns, List<String> maskedKeys, String replacement) {
+        List<String> validPatterns = new ArrayList<>();
+        List<String> combinablePatterns = new ArrayList<>();
+        List<Pattern> standalonePatterns = new ArrayList<>();
+        if (patterns != null) {
+            for (String pattern : patterns) {
+                try {
+                    Pattern compiled = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
+                    validPatterns.add(pattern);
+                    if (GROUP_REFERENCE.matcher(pattern).find()) {
+                        standalonePatterns.add(compiled);
+                    } else {
+                        combinablePatterns.add(pattern);
+                    }
+                } catch (PatternSyntaxException e) {
+                    log.warn("Ignoring invalid sensitive data pattern '{}': {}", pattern, e.getDescription());
+                }
+            }
+        }
+
+        Pattern combined = combinablePatterns.isEmpty()
+                ? null
+                : Pattern.compile(combinablePatterns.stream()
+                        .map(pattern -> "(?:" + pattern + ")")
+                        .collect(Collectors.joining("|")), Pattern.CASE_INSENSITIVE);
+
+        SensitiveDataPrefilter prefilter = SensitiveDataPrefilter.derive(validPatterns);
+        if (prefilter.isPassThrough() && !validPatterns.isEmpty()) {
+            log.info("Sensitive data prefilter disabled: a pattern has no literal or digit anchor");
+        }
+
+        return new RedactionEngine(patterns, maskedKeys, combined, List.copyOf(standalonePatterns), prefilter, replacement);
+    }
+
+    /**
+     * Whether this engine was compiled from exactly these list instances. Binding new
+     * properties replaces the lists, so an identity check is enough to detect a refresh.
+     */
+    public boolean isCompiledFrom(List<String> patterns, Collection<String> maskedKeys) {
+        return sourcePatterns == patterns && sourceMaskedKeys == maskedKeys;
+    }
+
+    public String getReplacement() {
+        return replacement;
+    }
+
+    public boolean isMaskedKey(String key) {
+        return key != null && !maskedKeys.isEmpty() && maskedKeys.contains(key);
+    }
+
+    /**
+     * Prefilter check: {@code false} means the text certainly contains nothing to redact.
+     */
+    public boolean isCandidate(CharSequence text) {
+        return text != null && hasPatterns() && prefilter.isCandidate(text);
+    }
+
+    public boolean containsMatch(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        if (combinedPattern != null && combinedPattern.matcher(text).find()) {
+            return true;
+        }
+        for (Pattern pattern : standalonePatterns) {
+            if (pattern.matcher(text).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replaces every match with the replacement text in a single scan, after the prefilter.
+     *
+     * @return the same {@code text} instance when nothing matches
+     */
+    public String redact(String text) {
+        return isCandidate(text) ? redactCandidate(text) : text;
+    }
+
+    /**
+     * Like {@link #redact}, for a text that already passed {@link #isCandidate}.
+     *
+     * @return the same {@code text} instance when nothing matches
+     */
+    public String redactCandidate(String text) {
+        String redacted = combinedPattern != null ? replaceMatches(combinedPattern, text) : text;
+        for (Pattern pattern : standalonePatterns) {
+            redacted = replaceMatches(pattern, redacted);
+        }
+        return redacted;
+    }
+
+    private boolean hasPatterns() {
+        return combinedPattern != null || !standalonePatterns.isEmpty();
+    }
+
+    private String replaceMatches(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            return text;
+        }
+
+        StringBuilder redacted = new StringBuilder(text.length());
+        int lastEnd = 0;
+        do {
+            redacted.append(text, lastEnd, matcher.start()).append(replacement);
+            lastEnd = matcher.end();
+        } while (matcher.find());
+        redacted.append(text, lastEnd, text.length());
+
+        return redacted.toString();
+    }
+}
@@ -0,0 +1,280 @@
+package com.carlosmgv02.logginglibrary.infrastructure.redaction;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Cheap candidate check that runs before any regular expression.
+ *
+ * <p>Each configured pattern is reduced to what every one of its matches must contain: either
+ * a leading literal keyword (e.g. {@code password} in {@code (?i)password[\s]*[:=]...}) or a
+ * leading run of at least N digits (e.g. 16 for {@code \b\d{16}\b}). Keywords are matched
+ * case-insensitively with an Aho-Corasick automaton and digit runs with a counter, both in the
+ * same single pass over the text. A text with neither can not match any pattern and is
+ * rejected without touching the regex engine.
+ *
+ * <p>If any pattern can not be reduced this way the prefilter is disabled and every text is
+ * reported as a candidate, so it never changes what gets redacted.
+ */
+public final class SensitiveDataPrefilter {
+
+    private static final int ALPHABET_SIZE = 128;
+    private static final int ROOT = 0;
+
+    private static final SensitiveDataPrefilter PASS_THROUGH = new SensitiveDataPrefilter(null, null, 0);
+
+    /** Full DFA over ASCII: transitions[state][char], failure links already folded in. */
+    private final int[][] transitions;
+    private final boolean[] accepting;
+    /** Shortest digit run that makes a text a candidate; 0 when no pattern starts with digits. */
+    private final int minDigitRun;
+
+    private SensitiveDataPrefilter(int[][] transitions, boolean[] accepting, int minDigitRun) {
+        this.transitions = transitions;
+        this.accepting = accepting;
+        this.minDigitRun = minDigitRun;
+    }
+
+    /**
+     * Derives a prefilter from the given patterns, or a pass-through prefilter if any of them
+     * has no literal or digit anchor.
+     */
+    public static SensitiveDataPrefilter derive(List<String> patterns) {
+        Set<String> keywords = new LinkedHashSet<>();
+        int minDigitRun = Integer.MAX_VALUE;
+
+        for (String pattern : patterns) {
+            PatternAnchor anchor = PatternAnchor.of(pattern);
+            if (anchor == null) {
+                return PASS_THROUGH;
+            }
+            if (anchor.keyword() != null) {
+                keywords.add(anchor.keyword());
+            } else {
+                minDigitRun = Math.min(minDigitRun, anchor.digitRun());
+            }
+        }
+
+        if (keywords.isEmpty() && minDigitRun == Integer.MAX_VALUE) {
+            return PASS_THROUGH;
+        }
+        return build(keywords, minDigitRun == Integer.MAX_VALUE ? 0 : minDigitRun);
+    }
+
+    public boolean isPassThrough() {
+        return transitions == null;
+    }
+
+    /**
+     * Whether the text may match one of the patterns. {@code false} guarantees it does not.
+     */
+    public boolean isCandidate(CharSequence text) {
+        if (transitions == null) {
+            return true;
+        }
+
+        int state = ROOT;
+        int digitRun = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                if (minDigitRun > 0 && ++digitRun >= minDigitRun) {
+                    return true;
+                }
+            } else {
+                digitRun = 0;
+            }
+
+            if (c >= ALPHABET_SIZE) {
+                state = ROOT;
+                continue;
+            }
+            state = transitions[state][toLowerAscii(c)];
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static SensitiveDataPrefilter build(Set<String> keywords, int minDigitRun) {
+        List<int[]> gotoTable = new ArrayList<>();
+        List<Boolean> acceptingStates = new ArrayList<>();
+        gotoTable.add(newState());
+        acceptingStates.add(false);
+
+        for (String keyword : keywords) {
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                int c = toLowerAscii(keyword.charAt(i));
+                if (gotoTable.get(state)[c] < 0) {
+                    gotoTable.get(state)[c] = gotoTable.size();
+                    gotoTable.add(newState());
+                    acceptingStates.add(false);
+                }
+                state = gotoTable.get(state)[c];
+            }
+            acceptingStates.set(state, true);
+        }
+
+        int stateCount = gotoTable.size();
+        int[][] transitions = gotoTable.toArray(new int[stateCount][]);
+        boolean[] accepting = new boolean[stateCount];
+        for (int i = 0; i < stateCount; i++) {
+            accepting[i] = acceptingStates.get(i);
+        }
+
+        // Breadth-first pass turning the trie into a DFA: missing edges follow the failure link.
+        int[] failure = new int[stateCount];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET_SIZE; c++) {
+            int next = transitions[ROOT][c];
+            if (next < 0) {
+                transitions[ROOT][c] = ROOT;
+            } else {
+                failure[next] = ROOT;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            accepting[state] |= accepting[failure[state]];
+            for (int c = 0; c < ALPHABET_SIZE; c++) {
+                int next = transitions[state][c];
+                if (next < 0) {
+                    transitions[state][c] = transitions[failure[state]][c];
+                } else {
+                    failure[next] = transitions[failure[state]][c];
+                    queue.add(next);
+                }
+            }
+        }
+
+        return new SensitiveDataPrefilter(transitions, accepting, minDigitRun);
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET_SIZE];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    /** Same folding as {@code Pattern.CASE_INSENSITIVE} without {@code UNICODE_CASE}. */
+    private static int toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    /**
+     * What every match of a pattern starts with: a literal keyword or a run of digits.
+     */
+    record PatternAnchor(String keyword, int digitRun) {
+
+        private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+        /**
+         * @return the anchor, or {@code null} if the pattern could match without one
+         */
+        static PatternAnchor of(String pattern) {
+            if (hasTopLevelAlternation(pattern)) {
+                return null;
+            }
+
+            int i = skipPrefix(pattern);
+
+            if (pattern.startsWith("\\d", i)) {
+                int digits = minimumRepetitions(pattern, i + 2);
+                return digits > 0 ? new PatternAnchor(null, digits) : null;
+            }
+
+            StringBuilder keyword = new StringBuilder();
+            while (i < pattern.length()) {
+                char c = pattern.charAt(i);
+                if (METACHARACTERS.indexOf(c) >= 0 || Character.isWhitespace(c) || c >= ALPHABET_SIZE) {
+                    break;
+                }
+                keyword.append(c);
+                i++;
+            }
+            // A quantifier that allows zero repetitions makes the last literal optional.
+            if (i < pattern.length() && keyword.length() > 0 && minimumRepetitions(pattern, i) == 0) {
+                keyword.setLength(keyword.length() - 1);
+            }
+
+            return keyword.length() > 0 ? new PatternAnchor(keyword.toString(), 0) : null;
+        }
+
+        /** Skips leading inline flags such as {@code (?i)} and zero-width {@code ^} / {@code \b}. */
+        private static int skipPrefix(String pattern) {
+            int i = 0;
+            while (i < pattern.length()) {
+                if (pattern.startsWith("(?", i)) {
+                    int end = pattern.indexOf(')', i);
+                    if (end < 0 || !pattern.substring(i + 2, end).matches("[a-zA-Z]+")) {
+                        return i;
+                    }
+                    i = end + 1;
+                } else if (pattern.startsWith("\\b", i)) {
+                    i += 2;
+                } else if (pattern.charAt(i) == '^') {
+                    i++;
+                } else {
+                    return i;
+                }
+            }
+            return i;
+        }
+
+        /** Minimum repetitions allowed by the quantifier at {@code index} (1 when there is none). */
+        private static int minimumRepetitions(String pattern, int index) {
+            if (index >= pattern.length()) {
+                return 1;
+            }
+            char c = pattern.charAt(index);
+            if (c == '?' || c == '*') {
+                return 0;
+            }
+            if (c == '{') {
+                int end = pattern.indexOf('}', index);
+                if (end < 0) {
+                    return 0;
+                }
+                String bounds = pattern.substring(index + 1, end);
+                int comma = bounds.indexOf(',');
+                try {
+                    return Integer.parseInt(comma < 0 ? bounds : bounds.substring(0, comma));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+            return 1;
+        }
+
+        private static boolean hasTopLevelAlternation(String pattern) {
+            int depth = 0;
+            boolean inClass = false;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (inClass) {
+                    inClass = c != ']';
+                } else if (c == '[') {
+                    inClass = true;
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                } else if (c == '|' && depth == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.carlosmgv02.logginglibrary.infrastructure.stacktrace;
+
+import com.carlosmgv02.logginglibrary.infrastructure.file.RecordedThrowable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders stack traces in the same format as {@link Throwable#printStackTrace()}, caching the
+ * rendered frames.
+ *
+ * <p>Only the first line of each throwable in the chain ({@code toString()}, with its message)
+ * is rendered per call. The frames below it, {@code "... n more"} trimming of the frames shared
+ * with the enclosing trace included, are looked up in a bounded LRU cache keyed by the frames
+ * themselves, so an exception thrown again from the same place costs a hash lookup instead of
+ * formatting every {@link StackTraceElement}. The key is not the {@link ThrowableFingerprinter}
+ * fingerprint: it only covers the top frames, so traces sharing it can differ further down.
+ *
+ * <p>Thread-safe; the cache is shared by the writers using {@link #DEFAULT}.
+ */
+public final class StackTraceRenderer {
+
+    public static final StackTraceRenderer DEFAULT = new StackTraceRenderer(1024);
+
+    private static final String CAUSE_CAPTION = "Caused by: ";
+    private static final String SUPPRESSED_CAPTION = "Suppressed: ";
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final Map<FramesKey, String> cache;
+
+    public StackTraceRenderer(int cacheSize) {
+        this.cache = new LinkedHashMap<>(Math.max(16, cacheSize * 4 / 3 + 1), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FramesKey, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public String render(Throwable throwable) {
+        StringBuilder out = new StringBuilder(1024);
+        render(throwable, out);
+        return out.toString();
+    }
+
+    /**
+     * Appends the stack trace of {@code throwable}, exactly as {@code printStackTrace} would print it.
+     */
+    public void render(Throwable throwable, StringBuilder out) {
+        if (throwable instanceof RecordedThrowable recorded) {
+            out.append(recorded.getRecordedStackTrace());
+            return;
+        }
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        seen.add(throwable);
+        out.append(throwable).append(LINE_SEPARATOR);
+        StackTraceElement[] frames = throwable.getStackTrace();
+        appendFrames(frames, new StackTraceElement[0], "", out);
+
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            renderEnclosed(suppressed, frames, SUPPRESSED_CAPTION, "\t", seen, out);
+        }
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            renderEnclosed(cause, frames, CAUSE_CAPTION, "", seen, out);
+        }
+    }
+
+    private void renderEnclosed(Throwable throwable, StackTraceElement[] enclosingFrames, String caption,
+                                String prefix, Set<Throwable> seen, StringBuilder out) {
+        if (!seen.add(throwable)) {
+            out.append(prefix).append(caption).append("[CIRCULAR REFERENCE: ").append(throwable).append(']')
+                    .append(LINE_SEPARATOR);
+            return;
+        }
+        out.append(prefix).append(caption).append(throwable).append(LINE_SEPARATOR);
+        StackTraceElement[] frames = throwable.getStackTrace();
+        appendFrames(frames, enclosingFrames, prefix, out);
+
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            renderEnclosed(suppressed, frames, SUPPRESSED_CAPTION, prefix + "\t", seen, out);
+        }
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            renderEnclosed(cause, frames, CAUSE_CAPTION, prefix, seen, out);
+        }
+    }
+
+    private void appendFrames(StackTraceElement[] frames, StackTraceElement[] enclosingFrames, String prefix,
+                              StringBuilder out) {
+        int m = frames.length - 1;
+        int n = enclosingFrames.length - 1;
+        while (m >= 0 && n >= 0 && frames[m].equals(enclosingFrames[n])) {
+            m--;
+            n--;
+        }
+        int framesInCommon = frames.length - 1 - m;
+
+        FramesKey key = new FramesKey(frames, framesInCommon, prefix);
+        String rendered;
+        synchronized (cache) {
+            rendered = cache.get(key);
+        }
+        if (rendered == null) {
+            StringBuilder block = new StringBuilder(64 * (m + 2));
+            for (int i = 0; i <= m; i++) {
+                block.append(prefix).append("\tat ").append(frames[i]).append(LINE_SEPARATOR);
+            }
+            if (framesInCommon != 0) {
+                block.append(prefix).append("\t... ").append(framesInCommon).append(" more").append(LINE_SEPARATOR);
+            }
+            rendered = block.toString();
+            synchronized (cache) {
+                cache.put(key, rendered);
+            }
+        }
+        out.append(rendered);
+    }
+
+    private static final class FramesKey {
+        private final StackTraceElement[] frames;
+        private final int framesInCommon;
+        private final String prefix;
+        private final int hash;
+
+        FramesKey(StackTraceElement[] frames, int framesInCommon, String prefix) {
+            this.frames = frames;
+            this.framesInCommon = framesInCommon;
+            this.prefix = prefix;
+            this.hash = (Arrays.hashCode(frames) * 31 + framesInCommon) * 31 + prefix.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof FramesKey key
+                    && hash == key.hash
+                    && framesInCommon == key.framesInCommon
+                    && prefix.equals(key.prefix)
+                    && Arrays.equals(frames, key.frames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
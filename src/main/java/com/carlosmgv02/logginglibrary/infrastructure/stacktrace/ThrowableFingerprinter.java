@@ -0,0 +1,61 @@
+package com.carlosmgv02.logginglibrary.infrastructure.stacktrace;
+
+import com.carlosmgv02.logginglibrary.infrastructure.redaction.RedactedThrowable;
+
+/**
+ * Computes a stable fingerprint for a throwable, for grouping occurrences of the same error.
+ *
+ * <p>The fingerprint covers the class of each throwable in the cause chain and the class and
+ * method of its top {@value #FRAMES_PER_THROWABLE} frames. Messages and line numbers are left
+ * out, so the same failure with different arguments, or after an unrelated change to the file,
+ * keeps its fingerprint; and it is the same on every instance of the service. Redacted
+ * throwables are fingerprinted by their original class.
+ */
+public final class ThrowableFingerprinter {
+
+    static final int FRAMES_PER_THROWABLE = 5;
+
+    private static final int MAX_CAUSE_DEPTH = 32;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ThrowableFingerprinter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Returns the fingerprint as 16 lowercase hex digits.
+     */
+    public static String fingerprint(Throwable throwable) {
+        long hash = FNV_OFFSET_BASIS;
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            hash = mix(hash, RedactedThrowable.originalClassName(current));
+            StackTraceElement[] frames = current.getStackTrace();
+            for (int i = 0, n = Math.min(frames.length, FRAMES_PER_THROWABLE); i < n; i++) {
+                hash = mix(hash, frames[i].getClassName());
+                hash = mix(hash, frames[i].getMethodName());
+            }
+            Throwable cause = current.getCause();
+            current = cause != current ? cause : null;
+        }
+        return toHex(hash);
+    }
+
+    private static long mix(long hash, String value) {
+        for (int i = 0, n = value.length(); i < n; i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // Separator, so that "ab" + "c" and "a" + "bc" differ
+        return (hash ^ 0xFFFF) * FNV_PRIME;
+    }
+
+    private static String toHex(long hash) {
+        char[] digits = new char[16];
+        for (int i = 15; i >= 0; i--) {
+            digits[i] = Character.forDigit((int) (hash & 0xF), 16);
+            hash >>>= 4;
+        }
+        return new String(digits);
+    }
+}
@@ -7,9 +7,13 @@ public final class LoggingConstants {
     public static final String MDC_TRACE_ID = "traceId";
     public static final String MDC_SPAN_ID = "spanId";
     public static final String MDC_SERVICE_NAME = "serviceName";
+    public static final String ERROR_FINGERPRINT = "errorFingerprint";
 
     public static final int DEFAULT_LOG_BUFFER_SIZE = 1000;
     public static final long DEFAULT_FLUSH_INTERVAL_MS = 5000L;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int DEFAULT_METRICS_MAX_SERVICE_TAGS = 100;
+    public static final int DEFAULT_PROCESSOR_MAX_CONCURRENCY = 16;
 
     private LoggingConstants() {
         throw new IllegalStateException("Utility class");
@@ -0,0 +1,205 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.application.service.AsyncLogDispatcher;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncLogDispatcherTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private final List<String> dropped = new CopyOnWriteArrayList<>();
+    private AsyncLogDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void shouldFlushFullBatchesWithoutWaitingForInterval() throws InterruptedException {
+        dispatcher = start(64, 10, Duration.ofMinutes(1), OverflowPolicy.BLOCK, this::capture);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(dispatcher.submit(entry("message " + i, LogLevel.INFO))).isTrue();
+        }
+
+        awaitMessages(20);
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).hasSize(10);
+        assertThat(batches.get(0).get(0)).isEqualTo("message 0");
+        assertThat(batches.get(1).get(9)).isEqualTo("message 19");
+    }
+
+    @Test
+    void shouldFlushPartialBatchOnceIntervalElapses() throws InterruptedException {
+        dispatcher = start(64, 100, Duration.ofMillis(20), OverflowPolicy.BLOCK, this::capture);
+
+        dispatcher.submit(entry("alone", LogLevel.INFO));
+
+        awaitMessages(1);
+        assertThat(batches).containsExactly(List.of("alone"));
+    }
+
+    @Test
+    void shouldProcessAcceptedEntriesOnShutdown() {
+        dispatcher = start(1024, 50, Duration.ofMinutes(1), OverflowPolicy.BLOCK, this::capture);
+
+        for (int i = 0; i < 500; i++) {
+            dispatcher.submit(entry("message " + i, LogLevel.INFO));
+        }
+        dispatcher.shutdown(Duration.ofSeconds(5));
+
+        assertThat(messages()).hasSize(500);
+        assertThat(dispatcher.getPendingCount()).isZero();
+        assertThat(dropped).isEmpty();
+        assertThat(dispatcher.submit(entry("late", LogLevel.INFO))).isFalse();
+    }
+
+    @Test
+    void shouldDropNewestWhenBufferIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch firstTaken = new CountDownLatch(1);
+        dispatcher = start(4, 1, Duration.ofMillis(1), OverflowPolicy.DROP_NEWEST, batch -> {
+            firstTaken.countDown();
+            blockingUntil(release).accept(batch);
+        });
+
+        dispatcher.submit(entry("message 0", LogLevel.INFO));
+        assertThat(firstTaken.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < 10; i++) {
+            assertThat(dispatcher.submit(entry("message " + i, LogLevel.INFO))).isTrue();
+        }
+        release.countDown();
+        dispatcher.shutdown(Duration.ofSeconds(5));
+
+        assertThat(messages().size() + dropped.size()).isEqualTo(10);
+        assertThat(dropped).contains("message 9");
+        assertThat(messages()).contains("message 0");
+    }
+
+    @Test
+    void shouldEvictLowerLevelEntryForMoreSevereOne() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch firstTaken = new CountDownLatch(1);
+        dispatcher = start(2, 1, Duration.ofMillis(1), OverflowPolicy.DROP_LOWEST_LEVEL, batch -> {
+            firstTaken.countDown();
+            blockingUntil(release).accept(batch);
+        });
+
+        dispatcher.submit(entry("in flight", LogLevel.INFO));
+        assertThat(firstTaken.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.submit(entry("debug", LogLevel.DEBUG));
+        dispatcher.submit(entry("info", LogLevel.INFO));
+        dispatcher.submit(entry("error", LogLevel.ERROR));
+        dispatcher.submit(entry("trace", LogLevel.TRACE));
+        release.countDown();
+        dispatcher.shutdown(Duration.ofSeconds(5));
+
+        assertThat(dropped).containsExactly("debug", "trace");
+        assertThat(messages()).containsExactly("in flight", "info", "error");
+    }
+
+    @Test
+    void shouldHandBackEntriesLoggedFromDrainerThread() {
+        AtomicBoolean handedBack = new AtomicBoolean();
+        dispatcher = start(16, 1, Duration.ofMillis(1), OverflowPolicy.BLOCK, batch -> {
+            handedBack.set(!dispatcher.submit(entry("from drainer", LogLevel.WARN)));
+            capture(batch);
+        });
+
+        dispatcher.submit(entry("message", LogLevel.INFO));
+        dispatcher.shutdown(Duration.ofSeconds(5));
+
+        assertThat(handedBack.get()).isTrue();
+        assertThat(messages()).containsExactly("message");
+    }
+
+    @Test
+    void shouldNotLoseEntriesSubmittedWhileShuttingDown() throws InterruptedException {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            batches.clear();
+            dropped.clear();
+            AsyncLogDispatcher racing = start(1024, 8, Duration.ofMillis(1), OverflowPolicy.BLOCK, this::capture);
+            List<String> handedBack = new CopyOnWriteArrayList<>();
+            CountDownLatch started = new CountDownLatch(1);
+            Thread producer = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 2000; i++) {
+                    String message = "message " + i;
+                    if (!racing.submit(entry(message, LogLevel.INFO))) {
+                        handedBack.add(message);
+                    }
+                }
+            });
+            producer.start();
+            started.await();
+            racing.shutdown(Duration.ofSeconds(5));
+            producer.join();
+
+            assertThat(messages().size() + dropped.size() + handedBack.size()).isEqualTo(2000);
+        }
+    }
+
+    private AsyncLogDispatcher start(int bufferSize, int batchSize, Duration flushInterval,
+                                     OverflowPolicy overflowPolicy, Consumer<List<LogEntry>> batchHandler) {
+        AsyncLogDispatcher async = new AsyncLogDispatcher(bufferSize, batchSize, flushInterval, overflowPolicy,
+                batchHandler, logEntry -> dropped.add(logEntry.getMessage()));
+        async.start();
+        return async;
+    }
+
+    private void capture(List<LogEntry> batch) {
+        List<String> messages = new ArrayList<>(batch.size());
+        for (LogEntry logEntry : batch) {
+            messages.add(logEntry.getMessage());
+        }
+        batches.add(messages);
+    }
+
+    private Consumer<List<LogEntry>> blockingUntil(CountDownLatch release) {
+        return batch -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            capture(batch);
+        };
+    }
+
+    private List<String> messages() {
+        List<String> messages = new ArrayList<>();
+        batches.forEach(messages::addAll);
+        return messages;
+    }
+
+    private void awaitMessages(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (messages().size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static LogEntry entry(String message, LogLevel level) {
+        return LogEntry.builder()
+                .message(message)
+                .level(level)
+                .build();
+    }
+}
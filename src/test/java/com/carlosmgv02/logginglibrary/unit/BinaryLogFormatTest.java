@@ -0,0 +1,251 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.file.BinaryLogDump;
+import com.carlosmgv02.logginglibrary.infrastructure.file.BinaryLogReader;
+import com.carlosmgv02.logginglibrary.infrastructure.file.BinaryLogWriter;
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.JsonLinesEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryLogFormatTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadBackEveryField() throws IOException {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("orderId", 42L);
+        metadata.put("total", 19.99);
+        metadata.put("paid", true);
+        metadata.put("customer", "J\u00fcrgen \ud83d\ude00");
+        metadata.put("skipped", null);
+        LogEntry entry = LogEntry.builder()
+                .message("Order \"42\" shipped\nto customer")
+                .level(LogLevel.WARN)
+                .timestamp(Instant.parse("2024-05-01T10:15:30.123Z"))
+                .logger("com.example.OrderService")
+                .traceId("trace-1")
+                .spanId("span-1")
+                .serviceName("orders")
+                .metadata(metadata)
+                .throwable(new IllegalStateException("failure"))
+                .build();
+
+        List<LogEntry> read = roundTrip(List.of(List.of(entry)));
+
+        assertThat(read).hasSize(1);
+        LogEntry copy = read.get(0);
+        assertThat(copy.getMessage()).isEqualTo(entry.getMessage());
+        assertThat(copy.getLevel()).isEqualTo(LogLevel.WARN);
+        assertThat(copy.getTimestamp()).isEqualTo(entry.getTimestamp());
+        assertThat(copy.getLogger()).isEqualTo("com.example.OrderService");
+        assertThat(copy.getServiceName()).isEqualTo("orders");
+        assertThat(copy.getTraceId()).isEqualTo("trace-1");
+        assertThat(copy.getSpanId()).isEqualTo("span-1");
+        assertThat(copy.getMetadata()).isEqualTo(Map.of("orderId", 42L, "total", new BigDecimal("19.99"), "paid", true,
+                "customer", "J\u00fcrgen \ud83d\ude00"));
+        assertThat(json(copy)).isEqualTo(json(entry));
+    }
+
+    @Test
+    void shouldKeepNullFieldsNull() throws IOException {
+        LogEntry entry = LogEntry.builder().timestamp(Instant.ofEpochMilli(0L)).build();
+
+        LogEntry copy = roundTrip(List.of(List.of(entry))).get(0);
+
+        assertThat(copy.getMessage()).isNull();
+        assertThat(copy.getLevel()).isNull();
+        assertThat(copy.getLogger()).isNull();
+        assertThat(copy.getTraceId()).isNull();
+        assertThat(copy.getThrowable()).isNull();
+        assertThat(copy.getMetadata()).isEmpty();
+    }
+
+    @Test
+    void shouldCarryDictionaryAndTimestampsAcrossBlocks() throws IOException {
+        Instant start = Instant.parse("2024-05-01T10:15:30Z");
+        List<List<LogEntry>> blocks = new ArrayList<>();
+        for (int b = 0; b < 5; b++) {
+            List<LogEntry> block = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                int n = b * 100 + i;
+                block.add(LogEntry.builder()
+                        .message("message " + n)
+                        .level(LogLevel.INFO)
+                        // Out of order timestamps need negative deltas
+                        .timestamp(start.plusMillis(n % 2 == 0 ? n : -n))
+                        .logger("com.example.Logger" + (n % 7))
+                        .serviceName("orders")
+                        .metadata(Map.of("requestId", "request-" + n))
+                        .build());
+            }
+            blocks.add(block);
+        }
+
+        List<LogEntry> read = roundTrip(blocks);
+
+        assertThat(read).hasSize(500);
+        for (int n = 0; n < 500; n++) {
+            LogEntry entry = read.get(n);
+            assertThat(entry.getMessage()).isEqualTo("message " + n);
+            assertThat(entry.getTimestamp()).isEqualTo(start.plusMillis(n % 2 == 0 ? n : -n));
+            assertThat(entry.getLogger()).isEqualTo("com.example.Logger" + (n % 7));
+            assertThat(entry.getMetadata().get("requestId")).isEqualTo("request-" + n);
+        }
+    }
+
+    @Test
+    void shouldTakeBackStateOfBlocksThatAreNotWritten() throws IOException {
+        Instant start = Instant.parse("2024-05-01T10:15:30Z");
+        BinaryLogWriter writer = new BinaryLogWriter();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.startSegment();
+        out.writeBytes(BinaryLogWriter.header());
+
+        out.write(writer.getBuffer(), 0, writer.encodeBlock(List.of(entry("first", "com.example.A", start))));
+        // Encoded but not written, as when it does not fit in the segment
+        writer.encodeBlock(List.of(entry("dropped", "com.example.B", start.plusSeconds(60))));
+        writer.discardBlock();
+        // Fails halfway, after adding its logger to the dictionary
+        Object unprintable = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("unprintable");
+            }
+        };
+        assertThatThrownBy(() -> writer.encodeBlock(List.of(entry("failed", "com.example.C", start.plusSeconds(120))
+                .toBuilder().metadata(Map.of("value", unprintable)).build())))
+                .isInstanceOf(IllegalStateException.class);
+        out.write(writer.getBuffer(), 0, writer.encodeBlock(List.of(
+                entry("second", "com.example.B", start.plusMillis(1)),
+                entry("third", "com.example.C", start.plusMillis(2)))));
+
+        List<LogEntry> read = readAll(out.toByteArray());
+
+        assertThat(read).hasSize(3);
+        assertThat(read.get(1).getLogger()).isEqualTo("com.example.B");
+        assertThat(read.get(1).getTimestamp()).isEqualTo(start.plusMillis(1));
+        assertThat(read.get(2).getMessage()).isEqualTo("third");
+        assertThat(read.get(2).getLogger()).isEqualTo("com.example.C");
+    }
+
+    @Test
+    void shouldBeSmallerThanJsonLines() throws IOException {
+        List<LogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(LogEntry.builder()
+                    .message("Processed order " + i + " for customer " + (i % 50))
+                    .level(LogLevel.INFO)
+                    .logger("com.example.OrderService")
+                    .serviceName("orders")
+                    .traceId("4bf92f3577b34da6a3ce929d0e0e" + (4736 + i))
+                    .spanId("00f067aa0ba9" + (1000 + i))
+                    .metadata(Map.of("orderId", i, "region", "eu-west-1"))
+                    .build());
+        }
+        long jsonSize = 0;
+        JsonLinesEncoder encoder = new JsonLinesEncoder();
+        for (LogEntry entry : entries) {
+            jsonSize += encoder.encode(entry);
+        }
+
+        byte[] segment = write(List.of(entries));
+
+        assertThat((long) segment.length * 4).isLessThan(jsonSize);
+    }
+
+    @Test
+    void shouldStopAtZeroFilledTailOfUnclosedSegment() throws IOException {
+        byte[] segment = write(List.of(List.of(entry("first")), List.of(entry("second"))));
+        byte[] preallocated = Arrays.copyOf(segment, segment.length + 4096);
+
+        List<LogEntry> read = readAll(preallocated);
+
+        assertThat(read).hasSize(2);
+        assertThat(read.get(1).getMessage()).isEqualTo("second");
+    }
+
+    @Test
+    void shouldRejectOtherFiles() {
+        byte[] json = "{\"message\":\"hello\"}\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> new BinaryLogReader(new ByteArrayInputStream(json)))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldDumpSegmentAsJsonLines() throws IOException {
+        LogEntry entry = entry("dumped");
+        Path file = directory.resolve("application-2024-05-01.0000.lgb");
+        Files.write(file, write(List.of(List.of(entry, entry))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = BinaryLogDump.dump(file, out);
+
+        assertThat(count).isEqualTo(2L);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(json(entry) + json(entry));
+    }
+
+    private static List<LogEntry> roundTrip(List<List<LogEntry>> blocks) throws IOException {
+        return readAll(write(blocks));
+    }
+
+    private static byte[] write(List<List<LogEntry>> blocks) {
+        BinaryLogWriter writer = new BinaryLogWriter();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.startSegment();
+        out.writeBytes(BinaryLogWriter.header());
+        for (List<LogEntry> block : blocks) {
+            int length = writer.encodeBlock(block);
+            out.write(writer.getBuffer(), 0, length);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<LogEntry> readAll(byte[] segment) throws IOException {
+        List<LogEntry> entries = new ArrayList<>();
+        try (BinaryLogReader reader = new BinaryLogReader(new ByteArrayInputStream(segment))) {
+            reader.forEachRemaining(entries::add);
+        }
+        return entries;
+    }
+
+    private static String json(LogEntry entry) {
+        JsonLinesEncoder encoder = new JsonLinesEncoder();
+        int length = encoder.encode(entry);
+        return new String(encoder.getBuffer(), 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static LogEntry entry(String message) {
+        return entry(message, "com.example.OrderService", Instant.parse("2024-05-01T10:15:30.123Z"));
+    }
+
+    private static LogEntry entry(String message, String logger, Instant timestamp) {
+        return LogEntry.builder()
+                .message(message)
+                .level(LogLevel.INFO)
+                .timestamp(timestamp)
+                .logger(logger)
+                .build();
+    }
+}
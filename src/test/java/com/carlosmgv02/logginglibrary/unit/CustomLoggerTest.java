@@ -0,0 +1,154 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.ClassLogger;
+import com.carlosmgv02.logginglibrary.CustomLogger;
+import com.carlosmgv02.logginglibrary.application.service.LoggingApplicationService;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.OpenTelemetryTraceContextProvider;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomLoggerTest {
+
+    private final List<LogEntry> processed = new ArrayList<>();
+    private LoggingProperties properties;
+    private LoggingApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoggingProperties();
+        properties.setMetricsEnabled(false);
+        properties.setTraceEnabled(false);
+        properties.setLogLevel("INFO");
+
+        LogProcessor capturingProcessor = new LogProcessor() {
+            @Override
+            public void process(LogEntry logEntry) {
+                processed.add(logEntry.copy());
+            }
+
+            @Override
+            public boolean isEnabled(LogEntry logEntry) {
+                return true;
+            }
+        };
+
+        service = new LoggingApplicationService(
+                List.of(capturingProcessor),
+                List.of(),
+                new OpenTelemetryTraceContextProvider(),
+                null,
+                properties);
+        new CustomLogger().setLoggingService(service);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new CustomLogger().setLoggingService(null);
+    }
+
+    @Test
+    void shouldReportEnabledLevelsFromConfiguredThreshold() {
+        assertThat(CustomLogger.isDebugEnabled()).isFalse();
+        assertThat(CustomLogger.isInfoEnabled()).isTrue();
+
+        properties.setLogLevel("debug");
+
+        assertThat(properties.getLevelThreshold()).isEqualTo(LogLevel.DEBUG);
+        assertThat(CustomLogger.isDebugEnabled()).isTrue();
+        assertThat(CustomLogger.isTraceEnabled()).isFalse();
+    }
+
+    @Test
+    void shouldRejectUnknownLogLevel() {
+        assertThatThrownBy(() -> properties.setLogLevel("VERBOSE"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(properties.getLevelThreshold()).isEqualTo(LogLevel.INFO);
+    }
+
+    @Test
+    void shouldNotEvaluateSupplierForDisabledLevel() {
+        CustomLogger.debug(() -> {
+            throw new AssertionError("Supplier must not be called");
+        });
+
+        assertThat(processed).isEmpty();
+    }
+
+    @Test
+    void shouldFormatParameterisedMessages() {
+        CustomLogger.info("Order {} shipped to {}", 42, "Barcelona");
+        CustomLogger.info("Single {}", "argument");
+        CustomLogger.info("{} {} {}", "a", "b", "c");
+
+        assertThat(processed).extracting(LogEntry::getMessage)
+                .containsExactly("Order 42 shipped to Barcelona", "Single argument", "a b c");
+    }
+
+    @Test
+    void shouldUseTrailingThrowableArgumentAsThrowable() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        CustomLogger.warn("Payment {} failed", "p-1", failure);
+
+        assertThat(processed).hasSize(1);
+        assertThat(processed.get(0).getMessage()).isEqualTo("Payment p-1 failed");
+        assertThat(processed.get(0).getThrowable()).isSameAs(failure);
+    }
+
+    @Test
+    void shouldDeferRenderingUntilMessageIsRead() {
+        CustomLogger.info("Order {} shipped", 42);
+
+        assertThat(processed).hasSize(1);
+        assertThat(processed.get(0).getMessageTemplate()).isEqualTo("Order {} shipped");
+        assertThat(processed.get(0).getArguments()).containsExactly(42);
+        assertThat(processed.get(0).getMessage()).isEqualTo("Order 42 shipped");
+    }
+
+    @Test
+    void shouldHandOutReusableEntriesInGarbageFreeMode() {
+        properties.setGarbageFree(true);
+        service.start();
+
+        CustomLogger.info("First {}", 1);
+        CustomLogger.info("Second {}", 2);
+
+        assertThat(processed).extracting(LogEntry::getMessage).containsExactly("First 1", "Second 2");
+        assertThat(processed).extracting(LogEntry::isReusable).containsExactly(false, false);
+    }
+
+    @Test
+    void shouldDispatchThroughRingBuffer() {
+        properties.setProcessingMode(LoggingProperties.ProcessingMode.RING_BUFFER);
+        service.start();
+
+        CustomLogger.info("Order {} shipped", 1);
+        CustomLogger.warn("Order {} delayed", 2);
+        service.stop();
+
+        assertThat(processed).extracting(LogEntry::getMessage).containsExactly("Order 1 shipped", "Order 2 delayed");
+    }
+
+    @Test
+    void shouldApplySameGatingToClassLogger() {
+        ClassLogger logger = CustomLogger.forClass(CustomLoggerTest.class);
+
+        logger.debug("Hidden {}", "value");
+        logger.info(() -> "Visible");
+
+        assertThat(logger.isDebugEnabled()).isFalse();
+        assertThat(processed).extracting(LogEntry::getLogger).containsExactly(CustomLoggerTest.class.getName());
+        assertThat(processed.get(0).getMessage()).isEqualTo("Visible");
+    }
+}
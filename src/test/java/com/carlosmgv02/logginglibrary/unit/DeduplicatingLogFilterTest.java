@@ -0,0 +1,183 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.application.service.LoggingApplicationService;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.DeduplicatingLogFilter;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.DeduplicationProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.OpenTelemetryTraceContextProvider;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeduplicatingLogFilterTest {
+
+    private static final String LOGGER = "com.example.PaymentClient";
+
+    private final List<LogEntry> processed = new ArrayList<>();
+    private DeduplicationProperties properties;
+    private LoggingApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DeduplicationProperties();
+        properties.setEnabled(true);
+        properties.setWindow(Duration.ofMillis(50));
+
+        LoggingProperties loggingProperties = new LoggingProperties();
+        loggingProperties.setMetricsEnabled(false);
+        loggingProperties.setTraceEnabled(false);
+        LogProcessor capturingProcessor = new LogProcessor() {
+            @Override
+            public void process(LogEntry logEntry) {
+                processed.add(logEntry.copy());
+            }
+
+            @Override
+            public boolean isEnabled(LogEntry logEntry) {
+                return true;
+            }
+        };
+        service = new LoggingApplicationService(
+                List.of(capturingProcessor),
+                List.of(),
+                new OpenTelemetryTraceContextProvider(),
+                null,
+                loggingProperties);
+    }
+
+    @Test
+    void shouldPassFirstOccurrenceAndSuppressRepeatsWithinWindow() {
+        properties.setWindow(Duration.ofMinutes(1));
+        DeduplicatingLogFilter filter = newFilter();
+
+        assertThat(filter.filter(error(1, new IOException("reset")))).isNotNull();
+        for (int i = 2; i < 100; i++) {
+            assertThat(filter.filter(error(i, new IOException("timeout " + i)))).isNull();
+        }
+    }
+
+    @Test
+    void shouldTellEntriesApartByLevelTemplateAndExceptionType() {
+        properties.setWindow(Duration.ofMinutes(1));
+        DeduplicatingLogFilter filter = newFilter();
+
+        assertThat(filter.filter(error(1, new IOException("reset")))).isNotNull();
+        assertThat(filter.filter(error(1, new IllegalStateException("closed")))).isNotNull();
+        assertThat(filter.filter(error(1, null))).isNotNull();
+        assertThat(filter.filter(LogEntry.builder()
+                .messageTemplate("Payment {} failed")
+                .arguments(new Object[]{1})
+                .level(LogLevel.WARN)
+                .logger(LOGGER)
+                .build())).isNotNull();
+        assertThat(filter.filter(LogEntry.builder()
+                .message("Payment gateway unreachable")
+                .level(LogLevel.ERROR)
+                .logger(LOGGER)
+                .build())).isNotNull();
+    }
+
+    @Test
+    void shouldLogOneSummaryWhenWindowCloses() throws InterruptedException {
+        DeduplicatingLogFilter filter = newFilter();
+        filter.filter(error(1, new IOException("reset")));
+        for (int i = 2; i <= 5; i++) {
+            filter.filter(error(i, new IOException("reset")));
+        }
+
+        filter.emitSummaries();
+        assertThat(processed).isEmpty();
+
+        Thread.sleep(80);
+        filter.emitSummaries();
+        filter.emitSummaries();
+
+        assertThat(processed).hasSize(1);
+        LogEntry summary = processed.get(0);
+        assertThat(summary.getLevel()).isEqualTo(LogLevel.ERROR);
+        assertThat(summary.getLogger()).isEqualTo(LOGGER);
+        assertThat(summary.getMessage()).isEqualTo("Payment 1 failed (repeated 4 times)");
+        assertThat(summary.getMetadata().get("repeated")).isEqualTo(4L);
+        assertThat(filter.shouldFilter(summary)).isFalse();
+    }
+
+    @Test
+    void shouldKeepTraceIdAndServiceNameOfFirstOccurrenceInSummary() throws InterruptedException {
+        DeduplicatingLogFilter filter = newFilter();
+        for (int i = 1; i <= 3; i++) {
+            filter.filter(error(i, new IOException("reset")).toBuilder()
+                    .traceId("trace-" + i)
+                    .spanId("span-" + i)
+                    .serviceName("payments")
+                    .build());
+        }
+
+        Thread.sleep(80);
+        filter.emitSummaries();
+
+        assertThat(processed).hasSize(1);
+        LogEntry summary = processed.get(0);
+        assertThat(summary.getMessage()).isEqualTo("Payment 1 failed (repeated 2 times)");
+        assertThat(summary.getTraceId()).isEqualTo("trace-1");
+        assertThat(summary.getSpanId()).isEqualTo("span-1");
+        assertThat(summary.getServiceName()).isEqualTo("payments");
+    }
+
+    @Test
+    void shouldPassAgainAfterWindowCloses() throws InterruptedException {
+        DeduplicatingLogFilter filter = newFilter();
+        assertThat(filter.filter(error(1, null))).isNotNull();
+        assertThat(filter.filter(error(2, null))).isNull();
+
+        Thread.sleep(80);
+
+        assertThat(filter.filter(error(3, null))).isNotNull();
+        filter.emitSummaries();
+        assertThat(processed).hasSize(1);
+        assertThat(processed.get(0).getMessage()).isEqualTo("Payment 1 failed (repeated 1 times)");
+    }
+
+    @Test
+    void shouldNotSummarizeEntriesThatWereNotRepeated() throws InterruptedException {
+        DeduplicatingLogFilter filter = newFilter();
+        filter.filter(error(1, null));
+
+        Thread.sleep(80);
+        filter.emitSummaries();
+
+        assertThat(processed).isEmpty();
+    }
+
+    @Test
+    void shouldPassEverythingWhenDisabled() {
+        properties.setEnabled(false);
+
+        assertThat(newFilter().shouldFilter(error(1, null))).isFalse();
+    }
+
+    private DeduplicatingLogFilter newFilter() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("loggingService", service));
+        return new DeduplicatingLogFilter(properties, beanFactory.getBeanProvider(LoggingApplicationService.class));
+    }
+
+    private static LogEntry error(int payment, Throwable throwable) {
+        return LogEntry.builder()
+                .messageTemplate("Payment {} failed")
+                .arguments(new Object[]{payment})
+                .level(LogLevel.ERROR)
+                .logger(LOGGER)
+                .throwable(throwable)
+                .build();
+    }
+}
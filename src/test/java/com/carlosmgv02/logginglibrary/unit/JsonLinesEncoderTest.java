@@ -0,0 +1,193 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.JsonLinesEncoder;
+import com.carlosmgv02.logginglibrary.shared.constants.LoggingConstants;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.logstash.logback.argument.StructuredArguments;
+import net.logstash.logback.encoder.LogstashEncoder;
+import net.logstash.logback.fieldnames.LogstashFieldNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonLinesEncoderTest {
+
+    private static final String SERVICE_NAME = "orders";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonLinesEncoder encoder = new JsonLinesEncoder();
+    private LogstashEncoder logstashEncoder;
+    private Logger logbackLogger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        logbackLogger = context.getLogger("com.example.OrderService");
+
+        // Same settings as the LOGSTASH appender in logback-spring.xml, with a fixed time zone
+        LogstashFieldNames fieldNames = new LogstashFieldNames();
+        fieldNames.setLogger("logger");
+        fieldNames.setThread("thread");
+        logstashEncoder = new LogstashEncoder();
+        logstashEncoder.setContext(context);
+        logstashEncoder.setFieldNames(fieldNames);
+        logstashEncoder.setCustomFields("{\"service\":\"" + SERVICE_NAME + "\"}");
+        logstashEncoder.setTimeZone("UTC");
+        logstashEncoder.setTimestampPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        logstashEncoder.start();
+    }
+
+    @Test
+    void shouldProduceSameDocumentAsLogstashEncoder() throws Exception {
+        LogEntry entry = entry("Order 42 shipped", Map.of("orderId", 42L, "region", "eu-west-1"), null);
+
+        assertThat(encode(entry)).isEqualTo(encodeWithLogstash(entry));
+    }
+
+    @Test
+    void shouldWriteMetadataWithItsJsonTypeLikeLogstashEncoder() throws Exception {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("orderId", 42L);
+        metadata.put("quantity", 3);
+        metadata.put("amount", 19.99);
+        metadata.put("total", new BigDecimal("1234.50"));
+        metadata.put("express", true);
+        metadata.put("ratio", Double.NaN);
+        metadata.put("region", "eu-west-1");
+        LogEntry entry = entry("Order 42 shipped", metadata, null);
+
+        JsonNode document = encode(entry);
+
+        assertThat(document).isEqualTo(encodeWithLogstash(entry));
+        assertThat(document.get("orderId").isNumber()).isTrue();
+        assertThat(document.get("amount").isNumber()).isTrue();
+        assertThat(document.get("express").isBoolean()).isTrue();
+        assertThat(document.get("ratio").asText()).isEqualTo("NaN");
+    }
+
+    @Test
+    void shouldEscapeLikeLogstashEncoder() throws Exception {
+        String message = "Quote \" backslash \\ newline \n tab \t control \u0001 accents \u00e0\u00e9\u00ee euro \u20ac emoji \ud83d\ude80";
+        LogEntry entry = entry(message, Map.of("note", "line1\r\nline2"), null);
+
+        JsonNode document = encode(entry);
+
+        assertThat(document).isEqualTo(encodeWithLogstash(entry));
+        assertThat(document.get("message").asText()).isEqualTo(message);
+    }
+
+    @Test
+    void shouldMatchLogstashEncoderForEveryLevel() throws Exception {
+        for (LogLevel level : LogLevel.values()) {
+            LogEntry entry = entry("Level " + level, Map.of(), null).toBuilder().level(level).build();
+
+            assertThat(encode(entry)).isEqualTo(encodeWithLogstash(entry));
+        }
+    }
+
+    @Test
+    void shouldIncludeStackTrace() throws Exception {
+        LogEntry entry = entry("Payment failed", Map.of(), new IllegalStateException("Card declined"));
+
+        ObjectNode document = encode(entry);
+        ObjectNode expected = encodeWithLogstash(entry);
+
+        assertThat(firstLine(document.remove("stack_trace"))).isEqualTo(firstLine(expected.remove("stack_trace")));
+        assertThat(document).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldFormatTimestampsAcrossSecondsAndMillis() throws Exception {
+        for (String timestamp : new String[]{"2024-05-01T10:15:30.001Z", "2024-05-01T10:15:30.999Z",
+                "2024-05-01T10:15:31.000Z", "1999-12-31T23:59:59.050Z", "2024-02-29T00:00:00.100Z"}) {
+            LogEntry entry = entry("Tick", Map.of(), null).toBuilder().timestamp(Instant.parse(timestamp)).build();
+
+            assertThat(encode(entry).get("@timestamp").asText()).isEqualTo(timestamp);
+        }
+    }
+
+    @Test
+    void shouldSkipMetadataThatWouldOverwriteStandardFields() throws Exception {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("message", "overwritten");
+        metadata.put("level", "overwritten");
+        metadata.put("customerId", "c-7");
+
+        JsonNode document = encode(entry("Original", metadata, null));
+
+        assertThat(document.get("message").asText()).isEqualTo("Original");
+        assertThat(document.get("level").asText()).isEqualTo("INFO");
+        assertThat(document.get("customerId").asText()).isEqualTo("c-7");
+    }
+
+    @Test
+    void shouldTerminateEachDocumentWithNewline() {
+        int length = encoder.encode(entry("One line", Map.of(), null));
+
+        String json = new String(encoder.getBuffer(), 0, length, StandardCharsets.UTF_8);
+        assertThat(json.endsWith("}\n")).isTrue();
+        assertThat(json.indexOf('\n')).isEqualTo(json.length() - 1);
+    }
+
+    private ObjectNode encode(LogEntry entry) throws Exception {
+        int length = encoder.encode(entry);
+        return (ObjectNode) objectMapper.readTree(new String(encoder.getBuffer(), 0, length, StandardCharsets.UTF_8));
+    }
+
+    private ObjectNode encodeWithLogstash(LogEntry entry) throws Exception {
+        // Metadata as Slf4jLogProcessor passes it: structured arguments on the event
+        Object[] arguments = entry.getMetadata().entrySet().stream()
+                .map(metadata -> StructuredArguments.keyValue(metadata.getKey(), metadata.getValue()))
+                .toArray();
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logbackLogger,
+                Level.toLevel(entry.getLevel().getName()), entry.getMessage(), entry.getThrowable(), arguments);
+        event.setTimeStamp(entry.getTimestampMillis());
+
+        Map<String, String> mdc = new HashMap<>();
+        mdc.put(LoggingConstants.MDC_TRACE_ID, entry.getTraceId());
+        mdc.put(LoggingConstants.MDC_SPAN_ID, entry.getSpanId());
+        mdc.put(LoggingConstants.MDC_SERVICE_NAME, entry.getServiceName());
+        event.setMDCPropertyMap(mdc);
+
+        ObjectNode document = (ObjectNode) objectMapper.readTree(logstashEncoder.encode(event));
+        // LogEntry carries no thread; the processor may run on a different one
+        document.remove("thread");
+        return document;
+    }
+
+    private static LogEntry entry(String message, Map<String, Object> metadata, Throwable throwable) {
+        return LogEntry.builder()
+                .message(message)
+                .level(LogLevel.INFO)
+                .timestamp(Instant.parse("2024-05-01T10:15:30.123Z"))
+                .logger("com.example.OrderService")
+                .traceId("4bf92f3577b34da6a3ce929d0e0e4736")
+                .spanId("00f067aa0ba902b7")
+                .serviceName(SERVICE_NAME)
+                .metadata(metadata)
+                .throwable(throwable)
+                .build();
+    }
+
+    private static String firstLine(JsonNode stackTrace) {
+        String text = stackTrace.asText();
+        int newline = text.indexOf('\n');
+        return (newline < 0 ? text : text.substring(0, newline)).trim();
+    }
+}
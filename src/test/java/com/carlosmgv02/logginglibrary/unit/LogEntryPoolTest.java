@@ -0,0 +1,89 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntryPool;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogEntryPoolTest {
+
+    private final LogEntryPool pool = new LogEntryPool();
+
+    @Test
+    void shouldReuseSameEntryForSequentialCalls() {
+        LogEntry first = acquire("first");
+        pool.release(first);
+        LogEntry second = acquire("second");
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.isReusable()).isTrue();
+        assertThat(second.getMessage()).isEqualTo("second");
+        pool.release(second);
+    }
+
+    @Test
+    void shouldHandOutDistinctEntriesForNestedCalls() {
+        LogEntry outer = acquire("outer");
+        LogEntry inner = acquire("inner");
+
+        assertThat(inner).isNotSameAs(outer);
+        assertThat(outer.getMessage()).isEqualTo("outer");
+        assertThat(inner.getMessage()).isEqualTo("inner");
+
+        pool.release(inner);
+        pool.release(outer);
+    }
+
+    @Test
+    void shouldFallBackToImmutableEntriesBeyondMaximumDepth() {
+        LogEntry[] entries = new LogEntry[5];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = acquire("depth " + i);
+        }
+
+        assertThat(entries[3].isReusable()).isTrue();
+        assertThat(entries[4].isReusable()).isFalse();
+
+        for (int i = entries.length - 1; i >= 0; i--) {
+            pool.release(entries[i]);
+        }
+        LogEntry next = acquire("next");
+        assertThat(next).isSameAs(entries[0]);
+        pool.release(next);
+    }
+
+    @Test
+    void shouldKeepCopiesValidAfterRelease() {
+        LogEntry entry = pool.acquire(null, "Order {} created", new Object[]{42}, LogLevel.INFO,
+                "OrderService", "trace-1", "span-1", "orders", null, Map.of("orderId", 42));
+        LogEntry copy = entry.copy();
+        pool.release(entry);
+
+        assertThat(copy.isReusable()).isFalse();
+        assertThat(copy.getMessage()).isEqualTo("Order 42 created");
+        assertThat(copy.getLogger()).isEqualTo("OrderService");
+        assertThat(copy.getTraceId()).isEqualTo("trace-1");
+        assertThat(copy.getMetadata()).containsEntry("orderId", 42);
+        assertThat(copy.getTimestamp()).isNotNull();
+        assertThat(entry.getMessage()).isNull();
+        assertThat(entry.getMetadata()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnSameInstanceWhenCopyingImmutableEntry() {
+        LogEntry entry = LogEntry.builder()
+                .message("immutable")
+                .level(LogLevel.INFO)
+                .build();
+
+        assertThat(entry.copy()).isSameAs(entry);
+    }
+
+    private LogEntry acquire(String message) {
+        return pool.acquire(message, null, null, LogLevel.INFO, "Test", null, null, "service", null, Map.of());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -88,4 +89,65 @@ class LogEntryTest {
         assertThat(entry1).isNotEqualTo(entry2); // Different timestamps
         assertThat(entry1.hashCode()).isNotEqualTo(entry2.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRenderMessageTemplateLazilyAndOnlyOnce() {
+        AtomicInteger renders = new AtomicInteger();
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                renders.incrementAndGet();
+                return "42";
+            }
+        };
+
+        LogEntry logEntry = LogEntry.builder()
+                .messageTemplate("Order {} created")
+                .arguments(new Object[]{argument})
+                .level(LogLevel.INFO)
+                .build();
+
+        assertThat(renders.get()).isZero();
+        assertThat(logEntry.getMessage()).isEqualTo("Order 42 created");
+        assertThat(logEntry.getMessage()).isEqualTo("Order 42 created");
+        assertThat(renders.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPreferExplicitMessageOverTemplate() {
+        LogEntry template = LogEntry.builder()
+                .messageTemplate("Order {} created")
+                .arguments(new Object[]{42})
+                .level(LogLevel.INFO)
+                .build();
+
+        LogEntry redacted = template.toBuilder()
+                .message("Order *** created")
+                .build();
+
+        assertThat(redacted.getMessage()).isEqualTo("Order *** created");
+        assertThat(redacted.getMessageTemplate()).isNull();
+        assertThat(redacted.getArguments()).isNull();
+    }
+
+    @Test
+    void shouldCompareEntriesByRenderedMessage() {
+        Instant now = Instant.now();
+
+        LogEntry rendered = LogEntry.builder()
+                .message("Order 42 created")
+                .level(LogLevel.INFO)
+                .timestamp(now)
+                .build();
+
+        LogEntry template = LogEntry.builder()
+                .messageTemplate("Order {} created")
+                .arguments(new Object[]{42})
+                .level(LogLevel.INFO)
+                .timestamp(now)
+                .build();
+
+        assertThat(template).isEqualTo(rendered);
+        assertThat(template.hashCode()).isEqualTo(rendered.hashCode());
+    }
+}
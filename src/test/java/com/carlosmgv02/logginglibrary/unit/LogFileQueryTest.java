@@ -0,0 +1,140 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.MappedFileLogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.MappedFileProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.file.LogFileQuery;
+import com.carlosmgv02.logginglibrary.infrastructure.file.SegmentIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogFileQueryTest {
+
+    private static final Instant START = Instant.parse("2024-05-01T10:00:00Z");
+    private static final int ENTRIES = 2000;
+
+    @TempDir
+    Path logDirectory;
+    private MappedFileLogProcessor processor;
+
+    @AfterEach
+    void tearDown() {
+        if (processor != null) {
+            processor.shutdown(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void shouldFindEntriesByTraceIdInJsonSegments() throws Exception {
+        writeEntries(MappedFileProperties.Format.JSON);
+
+        List<LogEntry> found = query().findByTraceId("trace-1234");
+
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getMessage()).isEqualTo("message 1234");
+        assertThat(found.get(0).getTimestamp()).isEqualTo(START.plusSeconds(1234));
+        assertThat(found.get(0).getMetadata().get("orderId")).isEqualTo("1234");
+    }
+
+    @Test
+    void shouldFindEntriesByTraceIdInBinarySegments() throws Exception {
+        writeEntries(MappedFileProperties.Format.BINARY);
+
+        List<LogEntry> found = query().findByTraceId("trace-77");
+
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getMessage()).isEqualTo("message 77");
+        assertThat(query().findByTraceId("trace-unknown")).isEmpty();
+    }
+
+    @Test
+    void shouldIndexEveryClosedSegment() throws Exception {
+        writeEntries(MappedFileProperties.Format.JSON);
+
+        List<Path> segments = segments();
+        assertThat(segments.size()).isGreaterThan(1);
+        int skipped = 0;
+        for (Path segment : segments) {
+            SegmentIndex index = SegmentIndex.read(SegmentIndex.pathFor(segment));
+            if (!index.mightContainTraceId("trace-1234")) {
+                skipped++;
+            }
+        }
+        // Only the segment holding the entry, and rare false positives, have to be opened
+        assertThat(skipped).isGreaterThanOrEqualTo(segments.size() - 2);
+    }
+
+    @Test
+    void shouldReturnEntriesInTimeRangeAtOrAboveLevel() throws Exception {
+        writeEntries(MappedFileProperties.Format.JSON);
+
+        List<LogEntry> found = query().range(START.plusSeconds(500), START.plusSeconds(599), LogLevel.WARN);
+
+        // Every tenth entry is a WARN
+        assertThat(found).hasSize(10);
+        for (LogEntry entry : found) {
+            assertThat(entry.getLevel()).isEqualTo(LogLevel.WARN);
+            assertThat(entry.getTimestamp()).isBetween(START.plusSeconds(500), START.plusSeconds(599));
+        }
+        assertThat(query().range(START.plusSeconds(500), START.plusSeconds(599), null)).hasSize(100);
+    }
+
+    @Test
+    void shouldScanSegmentsWithoutIndex() throws Exception {
+        writeEntries(MappedFileProperties.Format.JSON);
+        for (Path segment : segments()) {
+            Files.delete(SegmentIndex.pathFor(segment));
+        }
+
+        assertThat(query().findByTraceId("trace-1999")).hasSize(1);
+        assertThat(query().range(START, START.plusSeconds(ENTRIES), LogLevel.ERROR)).isEmpty();
+    }
+
+    private void writeEntries(MappedFileProperties.Format format) {
+        MappedFileProperties properties = new MappedFileProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(logDirectory.toString());
+        properties.setFormat(format);
+        properties.setSegmentSize(format == MappedFileProperties.Format.JSON ? 64 * 1024 : 8 * 1024);
+        properties.setBlockEntries(100);
+        properties.setIndexInterval(32);
+        processor = new MappedFileLogProcessor(properties);
+        processor.start();
+
+        for (int i = 0; i < ENTRIES; i++) {
+            processor.process(LogEntry.builder()
+                    .message("message " + i)
+                    .level(i % 10 == 0 ? LogLevel.WARN : LogLevel.INFO)
+                    .timestamp(START.plusSeconds(i))
+                    .logger("com.example.OrderService")
+                    .serviceName("orders")
+                    .traceId("trace-" + i)
+                    .metadata(Map.of("orderId", i))
+                    .build());
+        }
+        processor.shutdown(Duration.ofSeconds(5));
+    }
+
+    private LogFileQuery query() {
+        return new LogFileQuery(logDirectory, "application");
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(logDirectory)) {
+            return files.filter(path -> !path.getFileName().toString().endsWith(".idx")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.LogstashTcpLogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.LogstashTcpProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.LogstashTcpConnection;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LogstashTcpLogProcessorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<LogstashServer> servers = new ArrayList<>();
+    @TempDir
+    Path spillDirectory;
+    private LogstashTcpLogProcessor processor;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (processor != null) {
+            processor.shutdown(Duration.ofSeconds(1));
+        }
+        for (LogstashServer server : servers) {
+            server.close();
+        }
+    }
+
+    @Test
+    void shouldShipEntriesAsJsonLines() throws Exception {
+        LogstashServer server = startServer();
+        processor = startProcessor(List.of(server.destination()));
+
+        processor.process(LogEntry.builder()
+                .message("Order \"42\" shipped\nto customer")
+                .level(LogLevel.WARN)
+                .timestamp(Instant.parse("2024-05-01T10:15:30.123Z"))
+                .logger("com.example.OrderService")
+                .traceId("trace-1")
+                .spanId("span-1")
+                .serviceName("orders")
+                .metadata(Map.of("orderId", 42L, "message", "ignored"))
+                .build());
+
+        JsonNode document = objectMapper.readTree(server.nextLine());
+        assertThat(document.get("@timestamp").asText()).isEqualTo("2024-05-01T10:15:30.123Z");
+        assertThat(document.get("message").asText()).isEqualTo("Order \"42\" shipped\nto customer");
+        assertThat(document.get("level").asText()).isEqualTo("WARN");
+        assertThat(document.get("level_value").asInt()).isEqualTo(30000);
+        assertThat(document.get("logger").asText()).isEqualTo("com.example.OrderService");
+        assertThat(document.get("service").asText()).isEqualTo("orders");
+        assertThat(document.get("traceId").asText()).isEqualTo("trace-1");
+        assertThat(document.get("spanId").asText()).isEqualTo("span-1");
+        assertThat(document.get("orderId").asText()).isEqualTo("42");
+    }
+
+    @Test
+    void shouldWriteEveryEntryOfLargeBatchesInOrder() throws Exception {
+        LogstashServer server = startServer();
+        processor = startProcessor(List.of(server.destination()));
+
+        for (int i = 0; i < 2000; i++) {
+            processor.process(entry("message " + i, new IllegalStateException("failure " + i)));
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            JsonNode document = objectMapper.readTree(server.nextLine());
+            assertThat(document.get("message").asText()).isEqualTo("message " + i);
+            assertThat(document.get("stack_trace").asText()).contains("failure " + i);
+        }
+        assertThat(processor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void shouldFailOverToNextDestination() throws Exception {
+        String unreachable = unusedDestination();
+        LogstashServer server = startServer();
+        processor = startProcessor(List.of(unreachable, server.destination()));
+
+        processor.process(entry("after failover", null));
+
+        assertThat(objectMapper.readTree(server.nextLine()).get("message").asText()).isEqualTo("after failover");
+    }
+
+    @Test
+    void shouldKeepWritingWhenDestinationHostDoesNotResolve() throws Exception {
+        LogstashServer server = startServer();
+        processor = startProcessor(List.of("unresolvable.invalid:5000", server.destination()));
+
+        processor.process(entry("first", null));
+        assertThat(objectMapper.readTree(server.nextLine()).get("message").asText()).isEqualTo("first");
+        server.dropConnections();
+
+        // Reconnecting goes through the unresolvable host again before getting back to the server
+        long deadline = System.currentTimeMillis() + 5000;
+        String line = null;
+        int sent = 0;
+        while (line == null && System.currentTimeMillis() < deadline) {
+            processor.process(entry("retry " + sent++, null));
+            line = server.lines.poll(100, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(line).isNotNull();
+        assertThat(objectMapper.readTree(line).get("message").asText()).startsWith("retry ");
+    }
+
+    @Test
+    void shouldReconnectAfterConnectionIsClosed() throws Exception {
+        LogstashServer server = startServer();
+        processor = startProcessor(List.of(server.destination()));
+
+        processor.process(entry("first", null));
+        assertThat(objectMapper.readTree(server.nextLine()).get("message").asText()).isEqualTo("first");
+        server.dropConnections();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        String line = null;
+        int sent = 0;
+        while (line == null && System.currentTimeMillis() < deadline) {
+            processor.process(entry("retry " + sent++, null));
+            line = server.lines.poll(100, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(line).isNotNull();
+        assertThat(objectMapper.readTree(line).get("message").asText()).startsWith("retry ");
+    }
+
+    @Test
+    void shouldSpillWhileLogstashIsDownAndReplayInOrder() throws Exception {
+        String destination = unusedDestination();
+        processor = startProcessor(List.of(destination), true);
+
+        for (int i = 0; i < 100; i++) {
+            processor.process(entry("message " + i, null));
+        }
+        awaitSpilled(100);
+
+        LogstashServer server = startServer(Integer.parseInt(destination.substring(destination.indexOf(':') + 1)));
+        processor.process(entry("message 100", null));
+
+        for (int i = 0; i <= 100; i++) {
+            assertThat(objectMapper.readTree(server.nextLine()).get("message").asText()).isEqualTo("message " + i);
+        }
+        awaitSpilled(0);
+        assertThat(processor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void shouldSpillEntriesStillBufferedWhenWriteTimesOut() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        LogstashServer server = startServer(0, reading);
+        LogstashTcpProperties properties = properties(List.of(server.destination()), true);
+        properties.setWriteTimeoutMs(200L);
+        // Each entry ends with a write that does not wait, leaving it buffered once the socket is full
+        properties.setBatchSize(1);
+        processor = startProcessor(properties);
+
+        // Keep the queue busy until a write times out, so it fails with earlier batches still buffered
+        String padding = "x".repeat(1024);
+        int total = 0;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (processor.getSpilledCount() == 0 && System.currentTimeMillis() < deadline) {
+            if (processor.getPendingCount() < 1000) {
+                processor.process(entry("message " + total++ + " " + padding, null));
+            } else {
+                Thread.yield();
+            }
+        }
+        assertThat(processor.getSpilledCount()).isPositive();
+        reading.countDown();
+
+        // At least once: every entry arrives, on the first connection or replayed from the journal
+        Pattern number = Pattern.compile("\"message\":\"message (\\d+) ");
+        Set<Integer> received = new HashSet<>();
+        deadline = System.currentTimeMillis() + 20_000;
+        while (received.size() < total && System.currentTimeMillis() < deadline) {
+            String line = server.lines.poll(100, TimeUnit.MILLISECONDS);
+            Matcher matcher = line != null ? number.matcher(line) : null;
+            if (matcher != null && matcher.find()) {
+                received.add(Integer.parseInt(matcher.group(1)));
+            }
+        }
+        assertThat(received).hasSize(total);
+        assertThat(processor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void shouldKeepSpilledEntriesAcrossRestarts() throws Exception {
+        String destination = unusedDestination();
+        processor = startProcessor(List.of(destination), true);
+        processor.process(entry("before restart", null));
+        awaitSpilled(1);
+        processor.shutdown(Duration.ofSeconds(1));
+
+        LogstashServer server = startServer(Integer.parseInt(destination.substring(destination.indexOf(':') + 1)));
+        processor = startProcessor(List.of(destination), true);
+
+        assertThat(objectMapper.readTree(server.nextLine()).get("message").asText()).isEqualTo("before restart");
+    }
+
+    @Test
+    void shouldRejectMalformedDestination() {
+        assertThatThrownBy(() -> LogstashTcpConnection.parseDestination("localhost"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LogstashTcpConnection.parseDestination("localhost:port"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LogstashTcpLogProcessor startProcessor(List<String> destinations) {
+        return startProcessor(destinations, false);
+    }
+
+    private LogstashTcpLogProcessor startProcessor(List<String> destinations, boolean spill) {
+        return startProcessor(properties(destinations, spill));
+    }
+
+    private LogstashTcpLogProcessor startProcessor(LogstashTcpProperties properties) {
+        LogstashTcpLogProcessor tcpProcessor = new LogstashTcpLogProcessor(properties);
+        tcpProcessor.start();
+        return tcpProcessor;
+    }
+
+    private LogstashTcpProperties properties(List<String> destinations, boolean spill) {
+        LogstashTcpProperties properties = new LogstashTcpProperties();
+        properties.getSpill().setEnabled(spill);
+        properties.getSpill().setDirectory(spillDirectory.toString());
+        properties.getSpill().setSegmentSize(4096);
+        properties.setEnabled(true);
+        properties.setDestinations(destinations);
+        properties.setBufferSize(4096);
+        properties.setBatchSize(64);
+        properties.setReconnectDelayMs(50L);
+        properties.setMaxReconnectDelayMs(200L);
+        return properties;
+    }
+
+    private void awaitSpilled(long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (processor.getSpilledCount() != count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(processor.getSpilledCount()).isEqualTo(count);
+    }
+
+    private LogstashServer startServer() throws IOException {
+        return startServer(0);
+    }
+
+    private LogstashServer startServer(int port) throws IOException {
+        return startServer(port, new CountDownLatch(0));
+    }
+
+    private LogstashServer startServer(int port, CountDownLatch reading) throws IOException {
+        LogstashServer server = new LogstashServer(port, reading);
+        servers.add(server);
+        return server;
+    }
+
+    private static String unusedDestination() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return "localhost:" + socket.getLocalPort();
+        }
+    }
+
+    private static LogEntry entry(String message, Throwable throwable) {
+        return LogEntry.builder()
+                .message(message)
+                .level(LogLevel.INFO)
+                .throwable(throwable)
+                .build();
+    }
+
+    /**
+     * Accepts connections and collects every line received, like Logstash's tcp input, once
+     * {@code reading} is open.
+     */
+    private static class LogstashServer implements AutoCloseable {
+        final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        private final ServerSocket serverSocket;
+        private final CountDownLatch reading;
+        private final List<Socket> connections = new ArrayList<>();
+
+        LogstashServer(int port, CountDownLatch reading) throws IOException {
+            this.reading = reading;
+            serverSocket = new ServerSocket();
+            serverSocket.setReceiveBufferSize(4096);
+            serverSocket.bind(new InetSocketAddress(port));
+            Thread acceptor = new Thread(this::acceptLoop);
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        String destination() {
+            return "localhost:" + serverSocket.getLocalPort();
+        }
+
+        String nextLine() throws InterruptedException {
+            String line = lines.poll(5, TimeUnit.SECONDS);
+            assertThat(line).isNotNull();
+            return line;
+        }
+
+        synchronized void dropConnections() throws IOException {
+            for (Socket connection : connections) {
+                connection.close();
+            }
+            connections.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            dropConnections();
+            serverSocket.close();
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket connection = serverSocket.accept();
+                    synchronized (this) {
+                        connections.add(connection);
+                    }
+                    Thread reader = new Thread(() -> readLines(connection));
+                    reader.setDaemon(true);
+                    reader.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void readLines(Socket connection) {
+            try {
+                reading.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+            } catch (IOException e) {
+                // Connection dropped by the test
+            }
+        }
+    }
+}
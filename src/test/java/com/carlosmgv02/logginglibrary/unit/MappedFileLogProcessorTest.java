@@ -0,0 +1,271 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.MappedFileLogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.MappedFileProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.file.BinaryLogReader;
+import com.carlosmgv02.logginglibrary.infrastructure.file.MappedSegmentFile;
+import com.carlosmgv02.logginglibrary.infrastructure.file.SegmentIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedFileLogProcessorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @TempDir
+    Path logDirectory;
+    private MappedFileLogProcessor processor;
+
+    @AfterEach
+    void tearDown() {
+        if (processor != null) {
+            processor.shutdown(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void shouldWriteEntriesAsJsonLines() throws Exception {
+        processor = startProcessor(properties(false));
+
+        for (int i = 0; i < 100; i++) {
+            processor.process(entry("message " + i));
+        }
+        processor.shutdown(Duration.ofSeconds(5));
+
+        List<String> lines = readAllLines();
+        assertThat(lines).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(objectMapper.readTree(lines.get(i)).get("message").asText()).isEqualTo("message " + i);
+        }
+        assertThat(processor.getWrittenCount()).isEqualTo(100L);
+        assertThat(processor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void shouldRotateFullSegmentsAndCompressThem() throws Exception {
+        MappedFileProperties properties = properties(true);
+        properties.setSegmentSize(4096);
+        processor = startProcessor(properties);
+
+        for (int i = 0; i < 500; i++) {
+            processor.process(entry("message " + i));
+        }
+        processor.shutdown(Duration.ofSeconds(5));
+
+        List<Path> files = listFiles();
+        assertThat(files.size()).isGreaterThan(1);
+        for (Path file : files) {
+            assertThat(file.getFileName().toString()).endsWith(".log.gz");
+            assertThat(Files.size(file)).isPositive();
+        }
+
+        List<String> lines = readAllLines();
+        assertThat(lines).hasSize(500);
+        assertThat(objectMapper.readTree(lines.get(499)).get("message").asText()).isEqualTo("message 499");
+    }
+
+    @Test
+    void shouldDeleteOldestSegmentsBeyondMaxFiles() throws Exception {
+        MappedFileProperties properties = properties(true);
+        properties.setSegmentSize(1024);
+        properties.setMaxFiles(3);
+        processor = startProcessor(properties);
+
+        for (int i = 0; i < 500; i++) {
+            processor.process(entry("message " + i));
+        }
+        processor.shutdown(Duration.ofSeconds(5));
+
+        List<Path> files = listFiles();
+        assertThat(files).hasSize(3);
+        for (Path file : files) {
+            assertThat(Files.exists(SegmentIndex.pathFor(file))).isTrue();
+        }
+        try (Stream<Path> all = Files.list(logDirectory)) {
+            assertThat(all.count()).isEqualTo(6L);
+        }
+        List<String> lines = readAllLines();
+        assertThat(objectMapper.readTree(lines.get(lines.size() - 1)).get("message").asText()).isEqualTo("message 499");
+    }
+
+    @Test
+    void shouldWriteBinarySegmentsReadableAcrossRotation() throws Exception {
+        MappedFileProperties properties = properties(true);
+        properties.setFormat(MappedFileProperties.Format.BINARY);
+        properties.setSegmentSize(2048);
+        properties.setBlockEntries(50);
+        processor = startProcessor(properties);
+
+        for (int i = 0; i < 1000; i++) {
+            processor.process(entry("message " + i));
+        }
+        processor.shutdown(Duration.ofSeconds(5));
+
+        List<Path> files = listFiles();
+        assertThat(files.size()).isGreaterThan(1);
+        List<LogEntry> entries = new ArrayList<>();
+        for (Path file : files) {
+            assertThat(file.getFileName().toString()).endsWith(".lgb");
+            try (BinaryLogReader reader = new BinaryLogReader(Files.newInputStream(file))) {
+                reader.forEachRemaining(entries::add);
+            }
+        }
+        assertThat(entries).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(entries.get(i).getMessage()).isEqualTo("message " + i);
+        }
+        assertThat(processor.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void shouldReadBlocksWrittenAfterAnOversizedOneWasDropped() throws Exception {
+        MappedFileProperties properties = properties(false);
+        properties.setFormat(MappedFileProperties.Format.BINARY);
+        properties.setSegmentSize(2048);
+        properties.setBlockEntries(1);
+        processor = startProcessor(properties);
+
+        Instant start = Instant.parse("2024-05-01T10:15:30Z");
+        processor.process(entry(incompressible(16 * 1024)).toBuilder()
+                .logger("com.example.Dropped")
+                .timestamp(start.plusSeconds(3600))
+                .metadata(Map.of("droppedKey", "value"))
+                .build());
+        for (int i = 0; i < 3; i++) {
+            processor.process(entry("message " + i).toBuilder()
+                    .logger("com.example.Dropped")
+                    .timestamp(start.plusMillis(i))
+                    .metadata(Map.of("droppedKey", "value " + i))
+                    .build());
+        }
+        processor.shutdown(Duration.ofSeconds(5));
+
+        List<LogEntry> entries = new ArrayList<>();
+        for (Path file : listFiles()) {
+            try (BinaryLogReader reader = new BinaryLogReader(Files.newInputStream(file))) {
+                reader.forEachRemaining(entries::add);
+            }
+        }
+        assertThat(processor.getDroppedCount()).isEqualTo(1L);
+        assertThat(entries).hasSize(3);
+        for (int i = 0; i < 3; i++) {
+            assertThat(entries.get(i).getMessage()).isEqualTo("message " + i);
+            assertThat(entries.get(i).getLogger()).isEqualTo("com.example.Dropped");
+            assertThat(entries.get(i).getTimestamp()).isEqualTo(start.plusMillis(i));
+            assertThat(entries.get(i).getMetadata().get("droppedKey")).isEqualTo("value " + i);
+        }
+    }
+
+    @Test
+    void shouldTrimAndArchiveSegmentsLeftByACrash() throws Exception {
+        Path leftover = logDirectory.resolve("application-2024-05-01.0000.log");
+        MappedSegmentFile segment = MappedSegmentFile.create(leftover, 4096);
+        byte[] line = "{\"message\":\"before crash\"}\n".getBytes(StandardCharsets.UTF_8);
+        segment.write(line, line.length);
+        // The mapping is left as is, like after a crash: the file stays at its pre-allocated size
+        assertThat(Files.size(leftover)).isEqualTo(4096L);
+
+        MappedSegmentFile.trim(leftover);
+        assertThat(Files.size(leftover)).isEqualTo((long) line.length);
+
+        processor = startProcessor(properties(true));
+        processor.shutdown(Duration.ofSeconds(5));
+
+        assertThat(Files.exists(leftover)).isFalse();
+        assertThat(readAllLines()).containsExactly("{\"message\":\"before crash\"}");
+    }
+
+    @Test
+    void shouldLeaveOtherFilesSharingTheBaseNameAlone() throws Exception {
+        Path appenderLog = logDirectory.resolve("application-api.log");
+        Path appenderArchive = logDirectory.resolve("application-api.2024-05-01.0.log.gz");
+        Files.writeString(appenderLog, "written by a logback appender\n");
+        Files.writeString(appenderArchive, "rolled by a logback appender\n");
+        MappedFileProperties properties = properties(true);
+        properties.setSegmentSize(1024);
+        properties.setMaxFiles(1);
+
+        processor = startProcessor(properties);
+        for (int i = 0; i < 100; i++) {
+            processor.process(entry("message " + i));
+        }
+        processor.shutdown(Duration.ofSeconds(5));
+
+        assertThat(Files.readString(appenderLog)).isEqualTo("written by a logback appender\n");
+        assertThat(Files.readString(appenderArchive)).isEqualTo("rolled by a logback appender\n");
+        assertThat(Files.exists(logDirectory.resolve("application-api.log.gz"))).isFalse();
+    }
+
+    private MappedFileProperties properties(boolean compress) {
+        MappedFileProperties properties = new MappedFileProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(logDirectory.toString());
+        properties.setSegmentSize(1024 * 1024);
+        properties.setCompress(compress);
+        return properties;
+    }
+
+    private static MappedFileLogProcessor startProcessor(MappedFileProperties properties) {
+        MappedFileLogProcessor fileProcessor = new MappedFileLogProcessor(properties);
+        fileProcessor.start();
+        return fileProcessor;
+    }
+
+    /** Segment files, without their index sidecars. */
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(logDirectory)) {
+            return files.filter(path -> !path.getFileName().toString().endsWith(".idx")).sorted().toList();
+        }
+    }
+
+    private List<String> readAllLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Path file : listFiles()) {
+            InputStream in = Files.newInputStream(file);
+            if (file.getFileName().toString().endsWith(".gz")) {
+                in = new GZIPInputStream(in);
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                reader.lines().forEach(lines::add);
+            }
+        }
+        return lines;
+    }
+
+    private static String incompressible(int length) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('!' + random.nextInt(94)));
+        }
+        return text.toString();
+    }
+
+    private static LogEntry entry(String message) {
+        return LogEntry.builder()
+                .message(message)
+                .level(LogLevel.INFO)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.domain.model.MessageTemplate;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageTemplateTest {
+
+    @Test
+    void shouldFillPlaceholdersInOrder() {
+        assertThat(MessageTemplate.render("{} paid {} EUR", new Object[]{"alice", 12.5}))
+                .isEqualTo("alice paid 12.5 EUR");
+    }
+
+    @Test
+    void shouldKeepSurplusPlaceholdersAndIgnoreSurplusArguments() {
+        assertThat(MessageTemplate.render("{} and {}", new Object[]{"one"})).isEqualTo("one and {}");
+        assertThat(MessageTemplate.render("only {}", new Object[]{"one", "two"})).isEqualTo("only one");
+    }
+
+    @Test
+    void shouldHonourEscapedPlaceholders() {
+        assertThat(MessageTemplate.render("literal \\{} then {}", new Object[]{"value"}))
+                .isEqualTo("literal {} then value");
+        assertThat(MessageTemplate.render("path C:\\\\{}", new Object[]{"dir"}))
+                .isEqualTo("path C:\\dir");
+    }
+
+    @Test
+    void shouldRenderNullsAndArrays() {
+        assertThat(MessageTemplate.render("{} {} {}", new Object[]{null, new int[]{1, 2}, new Object[]{"a", new String[]{"b"}}}))
+                .isEqualTo("null [1, 2] [a, [b]]");
+    }
+
+    @Test
+    void shouldNotFailOnBrokenToString() {
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("broken");
+            }
+        };
+
+        assertThat(MessageTemplate.render("value: {}", new Object[]{broken})).isEqualTo("value: [FAILED toString()]");
+    }
+
+    @Test
+    void shouldDetectTrailingThrowable() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        assertThat(MessageTemplate.trailingThrowable(new Object[]{"id", failure})).isSameAs(failure);
+        assertThat(MessageTemplate.trailingThrowable(new Object[]{failure, "id"})).isNull();
+        assertThat(MessageTemplate.trailingThrowable(null)).isNull();
+    }
+}
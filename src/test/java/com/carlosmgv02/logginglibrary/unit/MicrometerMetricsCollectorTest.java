@@ -0,0 +1,114 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.model.ProcessingStage;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.MicrometerMetricsCollector;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerMetricsCollectorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MicrometerMetricsCollector metricsCollector;
+
+    @BeforeEach
+    void setUp() {
+        LoggingProperties properties = new LoggingProperties();
+        properties.setMetricsMaxServiceTags(2);
+        meterRegistry = new SimpleMeterRegistry();
+        metricsCollector = new MicrometerMetricsCollector(meterRegistry, properties);
+        metricsCollector.init();
+    }
+
+    @Test
+    void shouldCountEntriesPerLevelAndService() {
+        metricsCollector.incrementLogCount(LogLevel.INFO, "orders");
+        metricsCollector.incrementLogCount(LogLevel.INFO, "orders");
+        metricsCollector.incrementLogCount(LogLevel.ERROR, "orders");
+
+        assertThat(entryCount("INFO", "orders")).isEqualTo(2.0);
+        assertThat(entryCount("ERROR", "orders")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldTagMissingServiceAsUnknown() {
+        metricsCollector.incrementLogCount(LogLevel.WARN, null);
+
+        assertThat(entryCount("WARN", "unknown")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldFoldServicesBeyondCapIntoOverflowTag() {
+        metricsCollector.incrementLogCount(LogLevel.INFO, "orders");
+        metricsCollector.incrementLogCount(LogLevel.INFO, "payments");
+        metricsCollector.incrementLogCount(LogLevel.INFO, "shipping");
+        metricsCollector.incrementLogCount(LogLevel.INFO, "billing");
+
+        assertThat(entryCount("INFO", "payments")).isEqualTo(1.0);
+        assertThat(entryCount("INFO", "other")).isEqualTo(2.0);
+        assertThat(meterRegistry.find("logging.entries").tag("service", "shipping").counter()).isNull();
+    }
+
+    @Test
+    void shouldCountDroppedEntriesPerLevel() {
+        metricsCollector.incrementDroppedCount(LogLevel.DEBUG);
+
+        assertThat(meterRegistry.get("logging.dropped").tag("level", "DEBUG").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldCountSuppressedEntriesPerReasonAndLevel() {
+        metricsCollector.incrementSuppressedCount("sampled", LogLevel.DEBUG);
+        metricsCollector.incrementSuppressedCount("sampled", LogLevel.DEBUG);
+
+        assertThat(meterRegistry.get("logging.suppressed")
+                .tag("reason", "sampled")
+                .tag("level", "DEBUG")
+                .counter()
+                .count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldRecordProcessingTimeInNanoseconds() {
+        metricsCollector.recordLogProcessingTimeNanos(1_500);
+
+        assertThat(meterRegistry.get("logging.processing.time").timer().totalTime(TimeUnit.NANOSECONDS))
+                .isEqualTo(1_500.0);
+    }
+
+    @Test
+    void shouldRecordStageTimesPerStageAndProcessor() {
+        metricsCollector.recordStageTime(ProcessingStage.FILTERS, null, 2_000);
+        metricsCollector.recordStageTime(ProcessingStage.PROCESSOR, "Slf4jLogProcessor", 3_000);
+        metricsCollector.recordStageTime(ProcessingStage.PROCESSOR, "Slf4jLogProcessor", 5_000);
+
+        assertThat(meterRegistry.get("logging.stage.time").tag("stage", "filters").timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("logging.stage.time")
+                .tag("stage", "processor")
+                .tag("processor", "Slf4jLogProcessor")
+                .timer()
+                .totalTime(TimeUnit.NANOSECONDS)).isEqualTo(8_000.0);
+    }
+
+    @Test
+    void shouldPublishConsumerLagAsGauge() {
+        metricsCollector.registerConsumerLag("Slf4jLogProcessor", () -> 7L);
+
+        assertThat(meterRegistry.get("logging.dispatcher.lag").tag("consumer", "Slf4jLogProcessor").gauge().value())
+                .isEqualTo(7.0);
+    }
+
+    private double entryCount(String level, String service) {
+        return meterRegistry.get("logging.entries")
+                .tag("level", level)
+                .tag("service", service)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,157 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.application.service.OffloadedLogProcessor;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties.OverflowPolicy;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties.ProcessorExecution;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffloadedLogProcessorTest {
+
+    private OffloadedLogProcessor offloaded;
+
+    @AfterEach
+    void tearDown() {
+        if (offloaded != null) {
+            offloaded.shutdown(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void shouldProcessEntriesOffTheCallingThread() {
+        BlockingProcessor processor = new BlockingProcessor(new CountDownLatch(0));
+        offloaded = offload(processor, 4, OverflowPolicy.BLOCK, new AtomicInteger());
+
+        offloaded.process(entry("message"));
+        offloaded.shutdown(Duration.ofSeconds(5));
+
+        assertThat(processor.messages).containsExactly("message");
+        assertThat(processor.threads).hasSize(1);
+        assertThat(processor.threads.get(0)).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void shouldDropEntriesOnceTheConcurrencyLimitIsReached() {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingProcessor processor = new BlockingProcessor(release);
+        AtomicInteger dropped = new AtomicInteger();
+        offloaded = offload(processor, 2, OverflowPolicy.DROP_NEWEST, dropped);
+
+        for (int i = 0; i < 5; i++) {
+            offloaded.process(entry("message " + i));
+        }
+        release.countDown();
+        offloaded.shutdown(Duration.ofSeconds(5));
+
+        assertThat(dropped.get()).isEqualTo(3);
+        assertThat(processor.messages).hasSize(2);
+        assertThat(processor.maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldBlockTheCallerUntilASlotIsFree() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingProcessor processor = new BlockingProcessor(release);
+        AtomicInteger dropped = new AtomicInteger();
+        offloaded = offload(processor, 1, OverflowPolicy.BLOCK, dropped);
+
+        offloaded.process(entry("first"));
+        CountDownLatch secondSubmitted = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            offloaded.process(entry("second"));
+            secondSubmitted.countDown();
+        });
+        producer.start();
+
+        assertThat(secondSubmitted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        release.countDown();
+        assertThat(secondSubmitted.await(5, TimeUnit.SECONDS)).isTrue();
+        offloaded.shutdown(Duration.ofSeconds(5));
+
+        assertThat(dropped.get()).isZero();
+        assertThat(processor.messages).containsExactly("first", "second");
+    }
+
+    @Test
+    void shouldUnwrapToTheDelegate() {
+        BlockingProcessor processor = new BlockingProcessor(new CountDownLatch(0));
+        offloaded = offload(processor, 1, OverflowPolicy.BLOCK, new AtomicInteger());
+
+        assertThat(OffloadedLogProcessor.unwrap(offloaded)).isSameAs(processor);
+        assertThat(OffloadedLogProcessor.unwrap(processor)).isSameAs(processor);
+    }
+
+    @Test
+    void shouldMatchProcessorPropertiesIgnoringCaseAndDashes() {
+        LoggingProperties properties = new LoggingProperties();
+        LoggingProperties.ProcessorProperties httpSink = new LoggingProperties.ProcessorProperties();
+        httpSink.setExecution(ProcessorExecution.VIRTUAL_THREADS);
+        httpSink.setMaxConcurrency(8);
+        properties.getProcessors().put("http-sink-processor", httpSink);
+
+        assertThat(properties.getProcessorProperties("HttpSinkProcessor").getExecution())
+                .isEqualTo(ProcessorExecution.VIRTUAL_THREADS);
+        assertThat(properties.getProcessorProperties("HttpSinkProcessor").getMaxConcurrency()).isEqualTo(8);
+        assertThat(properties.getProcessorProperties("Slf4jLogProcessor").getExecution())
+                .isEqualTo(ProcessorExecution.INLINE);
+    }
+
+    private static OffloadedLogProcessor offload(LogProcessor processor,
+                                                 int maxConcurrency,
+                                                 OverflowPolicy overflowPolicy,
+                                                 AtomicInteger dropped) {
+        return new OffloadedLogProcessor(processor, maxConcurrency, overflowPolicy,
+                (delegate, logEntry) -> delegate.process(logEntry),
+                logEntry -> dropped.incrementAndGet());
+    }
+
+    private static LogEntry entry(String message) {
+        return LogEntry.builder()
+                .message(message)
+                .level(LogLevel.INFO)
+                .build();
+    }
+
+    private static class BlockingProcessor implements LogProcessor {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        private final CountDownLatch release;
+
+        BlockingProcessor(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void process(LogEntry logEntry) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            threads.add(Thread.currentThread());
+            messages.add(logEntry.getMessage());
+            inFlight.decrementAndGet();
+        }
+
+        @Override
+        public boolean isEnabled(LogEntry logEntry) {
+            return true;
+        }
+    }
+}
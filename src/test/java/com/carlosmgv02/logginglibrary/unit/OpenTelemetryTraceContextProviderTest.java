@@ -0,0 +1,57 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.domain.model.TraceContext;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.OpenTelemetryTraceContextProvider;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenTelemetryTraceContextProviderTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    private final OpenTelemetryTraceContextProvider provider = new OpenTelemetryTraceContextProvider();
+
+    @Test
+    void shouldReturnNoSnapshotWithoutSpan() {
+        assertThat(provider.getCurrentTraceContext()).isNull();
+        assertThat(provider.getCurrentTraceId()).isEmpty();
+    }
+
+    @Test
+    void shouldSnapshotIdsAndSampledFlagOfCurrentSpan() {
+        try (Scope ignored = span("00f067aa0ba902b7", TraceFlags.getDefault()).makeCurrent()) {
+            TraceContext traceContext = provider.getCurrentTraceContext();
+
+            assertThat(traceContext.getTraceId()).isEqualTo(TRACE_ID);
+            assertThat(traceContext.getSpanId()).isEqualTo("00f067aa0ba902b7");
+            assertThat(traceContext.isSampled()).isFalse();
+            assertThat(provider.getCurrentSpanIdOrNull()).isEqualTo("00f067aa0ba902b7");
+        }
+    }
+
+    @Test
+    void shouldReuseSnapshotWhileSameSpanIsCurrent() {
+        Span parent = span("00f067aa0ba902b7", TraceFlags.getSampled());
+        try (Scope ignored = parent.makeCurrent()) {
+            TraceContext first = provider.getCurrentTraceContext();
+            assertThat(provider.getCurrentTraceContext()).isSameAs(first);
+
+            try (Scope child = span("b7ad6b7169203331", TraceFlags.getSampled()).makeCurrent()) {
+                assertThat(provider.getCurrentTraceContext().getSpanId()).isEqualTo("b7ad6b7169203331");
+            }
+            assertThat(provider.getCurrentTraceContext().getSpanId()).isEqualTo("00f067aa0ba902b7");
+            assertThat(provider.getCurrentTraceContext().isSampled()).isTrue();
+        }
+        assertThat(provider.getCurrentTraceContext()).isNull();
+    }
+
+    private static Span span(String spanId, TraceFlags traceFlags) {
+        return Span.wrap(SpanContext.create(TRACE_ID, spanId, traceFlags, TraceState.getDefault()));
+    }
+}
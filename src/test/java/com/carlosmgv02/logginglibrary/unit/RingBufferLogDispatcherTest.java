@@ -0,0 +1,251 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.application.service.RingBufferLogDispatcher;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties.OverflowPolicy;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties.WaitStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferLogDispatcherTest {
+
+    private RingBufferLogDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void shouldDeliverEveryEntryToEveryProcessorInOrder() {
+        CapturingProcessor first = new CapturingProcessor();
+        CapturingProcessor second = new CapturingProcessor();
+        dispatcher = start(64, OverflowPolicy.BLOCK, UnaryOperator.identity(), List.of(first, second), new AtomicInteger());
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(dispatcher.submit(entry("message " + i))).isTrue();
+        }
+        dispatcher.shutdown(Duration.ofSeconds(5));
+
+        assertThat(first.messages).hasSize(500);
+        assertThat(first.messages.get(0)).isEqualTo("message 0");
+        assertThat(first.messages.get(499)).isEqualTo("message 499");
+        assertThat(second.messages).isEqualTo(first.messages);
+    }
+
+    @Test
+    void shouldAcceptEntriesFromConcurrentProducers() throws InterruptedException {
+        CapturingProcessor processor = new CapturingProcessor();
+        dispatcher = start(128, OverflowPolicy.BLOCK, UnaryOperator.identity(), List.of(processor), new AtomicInteger());
+
+        int producers = 4;
+        int perProducer = 1000;
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    dispatcher.submit(entry(producer + ":" + i));
+                }
+                done.countDown();
+            }).start();
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        dispatcher.shutdown(Duration.ofSeconds(5));
+
+        assertThat(processor.messages).hasSize(producers * perProducer);
+        assertThat(processor.messages.stream().distinct().count()).isEqualTo((long) producers * perProducer);
+    }
+
+    @Test
+    void shouldApplyFiltersBeforeProcessorsAndSkipDiscardedEntries() {
+        CapturingProcessor processor = new CapturingProcessor();
+        UnaryOperator<LogEntry> filterStage = logEntry -> logEntry.getMessage().startsWith("drop")
+                ? null
+                : logEntry.toBuilder().message(logEntry.getMessage().toUpperCase()).build();
+        dispatcher = start(16, OverflowPolicy.BLOCK, filterStage, List.of(processor), new AtomicInteger());
+
+        dispatcher.submit(entry("keep"));
+        dispatcher.submit(entry("drop me"));
+        dispatcher.submit(entry("also keep"));
+        dispatcher.shutdown(Duration.ofSeconds(5));
+
+        assertThat(processor.messages).containsExactly("KEEP", "ALSO KEEP");
+    }
+
+    @Test
+    void shouldNotLetSlowProcessorHoldBackFastOne() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingProcessor slow = new CapturingProcessor() {
+            @Override
+            public void process(LogEntry logEntry) {
+                awaitQuietly(release);
+                super.process(logEntry);
+            }
+        };
+        CapturingProcessor fast = new CapturingProcessor();
+        dispatcher = start(64, OverflowPolicy.BLOCK, UnaryOperator.identity(), List.of(slow, fast), new AtomicInteger());
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.submit(entry("message " + i));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (fast.messages.size() < 10 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(fast.messages).hasSize(10);
+        assertThat(slow.messages).isEmpty();
+        assertThat(dispatcher.getConsumerLag().get(slow.getClass().getName()).getAsLong()).isEqualTo(10L);
+        assertThat(dispatcher.getConsumerLag().get("CapturingProcessor").getAsLong()).isEqualTo(0L);
+
+        release.countDown();
+    }
+
+    @Test
+    void shouldDropNewestWhenRingIsFull() {
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingProcessor blocked = new CapturingProcessor() {
+            @Override
+            public void process(LogEntry logEntry) {
+                awaitQuietly(release);
+                super.process(logEntry);
+            }
+        };
+        AtomicInteger dropped = new AtomicInteger();
+        dispatcher = start(4, OverflowPolicy.DROP_NEWEST, UnaryOperator.identity(), List.of(blocked), dropped);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(dispatcher.submit(entry("message " + i))).isTrue();
+        }
+        release.countDown();
+        dispatcher.shutdown(Duration.ofSeconds(5));
+
+        assertThat(dropped.get()).isEqualTo(10 - blocked.messages.size());
+        assertThat(blocked.messages).contains("message 0", "message 1", "message 2", "message 3");
+    }
+
+    @Test
+    void shouldHandEntriesBackWhenNotRunning() {
+        dispatcher = new RingBufferLogDispatcher(8, WaitStrategy.PARK, OverflowPolicy.BLOCK, UnaryOperator.identity(),
+                List.of(), (processor, logEntry) -> processor.process(logEntry), logEntry -> { });
+
+        assertThat(dispatcher.submit(entry("not started"))).isFalse();
+    }
+
+    @Test
+    void shouldExposeLagPerConsumer() {
+        dispatcher = start(8, OverflowPolicy.BLOCK, UnaryOperator.identity(),
+                List.of(new CapturingProcessor(), new CapturingProcessor()), new AtomicInteger());
+
+        assertThat(dispatcher.getConsumerLag()).containsOnlyKeys("filters", "CapturingProcessor", "CapturingProcessor-2");
+    }
+
+    @Test
+    void shouldNotLoseEntriesSubmittedWhileShuttingDown() throws InterruptedException {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            CapturingProcessor processor = new CapturingProcessor();
+            AtomicInteger dropped = new AtomicInteger();
+            RingBufferLogDispatcher racing = start(1024, OverflowPolicy.BLOCK, UnaryOperator.identity(),
+                    List.of(processor), dropped);
+            List<String> handedBack = new CopyOnWriteArrayList<>();
+            CountDownLatch started = new CountDownLatch(1);
+            Thread producer = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 2000; i++) {
+                    String message = "message " + i;
+                    if (!racing.submit(entry(message))) {
+                        handedBack.add(message);
+                    }
+                }
+            });
+            producer.start();
+            started.await();
+            racing.shutdown(Duration.ofSeconds(5));
+            producer.join();
+
+            assertThat(processor.messages.size() + dropped.get() + handedBack.size()).isEqualTo(2000);
+            assertThat(racing.getPendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void shouldReleaseEntriesOnceEveryProcessorHandledThem() throws InterruptedException {
+        CapturingProcessor first = new CapturingProcessor();
+        CapturingProcessor second = new CapturingProcessor();
+        dispatcher = start(64, OverflowPolicy.BLOCK, UnaryOperator.identity(), List.of(first, second), new AtomicInteger());
+
+        LogEntry logEntry = entry("held");
+        WeakReference<LogEntry> reference = new WeakReference<>(logEntry);
+        dispatcher.submit(logEntry);
+        logEntry = null;
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (reference.get() != null && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(first.messages).containsExactly("held");
+        assertThat(second.messages).containsExactly("held");
+        assertThat(reference.get()).isNull();
+    }
+
+    private RingBufferLogDispatcher start(int bufferSize,
+                                          OverflowPolicy overflowPolicy,
+                                          UnaryOperator<LogEntry> filterStage,
+                                          List<LogProcessor> processors,
+                                          AtomicInteger dropped) {
+        RingBufferLogDispatcher ringBuffer = new RingBufferLogDispatcher(bufferSize, WaitStrategy.YIELD, overflowPolicy,
+                filterStage, processors, (processor, logEntry) -> processor.process(logEntry),
+                logEntry -> dropped.incrementAndGet());
+        ringBuffer.start();
+        return ringBuffer;
+    }
+
+    private static LogEntry entry(String message) {
+        return LogEntry.builder()
+                .message(message)
+                .level(LogLevel.INFO)
+                .build();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class CapturingProcessor implements LogProcessor {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void process(LogEntry logEntry) {
+            messages.add(logEntry.getMessage());
+        }
+
+        @Override
+        public boolean isEnabled(LogEntry logEntry) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.application.service.LoggingApplicationService;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.domain.port.LogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.OpenTelemetryTraceContextProvider;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.SamplingLogFilter;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.SamplingProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingLogFilterTest {
+
+    private static final String LOGGER = "com.example.OrderService";
+
+    private final List<LogEntry> processed = new ArrayList<>();
+    private SamplingProperties properties;
+    private LoggingApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SamplingProperties();
+        properties.setEnabled(true);
+
+        LoggingProperties loggingProperties = new LoggingProperties();
+        loggingProperties.setMetricsEnabled(false);
+        loggingProperties.setTraceEnabled(false);
+        LogProcessor capturingProcessor = new LogProcessor() {
+            @Override
+            public void process(LogEntry logEntry) {
+                processed.add(logEntry.copy());
+            }
+
+            @Override
+            public boolean isEnabled(LogEntry logEntry) {
+                return true;
+            }
+        };
+        service = new LoggingApplicationService(
+                List.of(capturingProcessor),
+                List.of(),
+                new OpenTelemetryTraceContextProvider(),
+                null,
+                loggingProperties);
+    }
+
+    @Test
+    void shouldAlwaysKeepWarningsAndErrors() {
+        properties.setDefaultRate(0.0);
+        SamplingLogFilter filter = newFilter();
+
+        assertThat(filter.shouldFilter(entry(LogLevel.WARN, null))).isFalse();
+        assertThat(filter.shouldFilter(entry(LogLevel.ERROR, null))).isFalse();
+        assertThat(filter.shouldFilter(entry(LogLevel.INFO, null))).isTrue();
+        assertThat(filter.filter(entry(LogLevel.INFO, null))).isNull();
+    }
+
+    @Test
+    void shouldPassEverythingWhenDisabled() {
+        properties.setEnabled(false);
+        properties.setDefaultRate(0.0);
+
+        assertThat(newFilter().shouldFilter(entry(LogLevel.DEBUG, null))).isFalse();
+    }
+
+    @Test
+    void shouldApplyFirstMatchingRule() {
+        properties.setRules(List.of(
+                rule("com.example.OrderService", LogLevel.DEBUG, 0.0),
+                rule("com.example", null, 1.0)));
+        SamplingLogFilter filter = newFilter();
+
+        assertThat(filter.filter(entry(LogLevel.DEBUG, null))).isNull();
+        assertThat(filter.filter(entry(LogLevel.INFO, null))).isNotNull();
+    }
+
+    @Test
+    void shouldLimitEachKeyToItsBurst() {
+        SamplingProperties.Rule rule = rule(LOGGER, null, 1.0);
+        rule.setMaxPerSecond(0.001);
+        rule.setBurst(5);
+        properties.setRules(List.of(rule));
+        SamplingLogFilter filter = newFilter();
+
+        int kept = 0;
+        for (int i = 0; i < 50; i++) {
+            if (filter.filter(entry(LogLevel.INFO, null)) != null) {
+                kept++;
+            }
+        }
+        assertThat(kept).isEqualTo(5);
+
+        // Another template has a bucket of its own
+        LogEntry other = LogEntry.builder()
+                .messageTemplate("Order {} shipped")
+                .arguments(new Object[]{42})
+                .level(LogLevel.INFO)
+                .logger(LOGGER)
+                .build();
+        assertThat(filter.filter(other)).isNotNull();
+    }
+
+    @Test
+    void shouldKeepEveryEntryOfAKeptTrace() {
+        SamplingProperties.Rule rule = rule(LOGGER, null, 1.0);
+        rule.setMaxPerSecond(0.001);
+        rule.setBurst(1);
+        properties.setRules(List.of(rule));
+        SamplingLogFilter filter = newFilter();
+
+        assertThat(filter.filter(entry(LogLevel.INFO, "trace-1"))).isNotNull();
+        for (int i = 0; i < 10; i++) {
+            assertThat(filter.filter(entry(LogLevel.INFO, "trace-1"))).isNotNull();
+        }
+        assertThat(filter.filter(entry(LogLevel.INFO, "trace-2"))).isNull();
+    }
+
+    @Test
+    void shouldTakeTheSameDecisionForEveryEntryOfATrace() {
+        properties.setDefaultRate(0.5);
+        properties.setTraceRetention(Duration.ZERO);
+        SamplingLogFilter filter = newFilter();
+
+        int kept = 0;
+        for (int trace = 0; trace < 1000; trace++) {
+            boolean first = filter.filter(entry(LogLevel.DEBUG, "trace-" + trace)) != null;
+            for (int i = 0; i < 3; i++) {
+                assertThat(filter.filter(entry(LogLevel.DEBUG, "trace-" + trace)) != null).isEqualTo(first);
+            }
+            kept += first ? 1 : 0;
+        }
+        assertThat(kept).isBetween(400, 600);
+    }
+
+    @Test
+    void shouldLogOneSummaryPerKeyWithSampledOutCount() {
+        properties.setRules(List.of(rule(LOGGER, LogLevel.DEBUG, 0.0)));
+        SamplingLogFilter filter = newFilter();
+        for (int i = 0; i < 7; i++) {
+            filter.filter(entry(LogLevel.DEBUG, null));
+        }
+
+        filter.emitSummaries();
+        filter.emitSummaries();
+
+        assertThat(processed).hasSize(1);
+        LogEntry summary = processed.get(0);
+        assertThat(summary.getLogger()).isEqualTo(LOGGER);
+        assertThat(summary.getLevel()).isEqualTo(LogLevel.INFO);
+        assertThat(summary.getMessage()).isEqualTo("Sampled out 7 DEBUG entries");
+        assertThat(summary.getMetadata().get("sampledOut")).isEqualTo(7L);
+        assertThat(summary.getMetadata().get("sampledTemplate")).isEqualTo("Order {} paid");
+        assertThat(filter.shouldFilter(summary)).isFalse();
+    }
+
+    private SamplingLogFilter newFilter() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("loggingService", service));
+        return new SamplingLogFilter(properties, beanFactory.getBeanProvider(LoggingApplicationService.class));
+    }
+
+    private static SamplingProperties.Rule rule(String logger, LogLevel level, double rate) {
+        SamplingProperties.Rule rule = new SamplingProperties.Rule();
+        rule.setLogger(logger);
+        rule.setLevel(level);
+        rule.setRate(rate);
+        return rule;
+    }
+
+    private static LogEntry entry(LogLevel level, String traceId) {
+        return LogEntry.builder()
+                .messageTemplate("Order {} paid")
+                .arguments(new Object[]{42})
+                .level(level)
+                .logger(LOGGER)
+                .traceId(traceId)
+                .build();
+    }
+}
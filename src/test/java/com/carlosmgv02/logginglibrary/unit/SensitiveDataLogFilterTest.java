@@ -8,6 +8,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -42,6 +44,22 @@ class SensitiveDataLogFilterTest {
         assertThat(filtered.getMessage()).isEqualTo("User login with ***REDACTED***");
     }
 
+    @Test
+    void shouldRedactRenderedMessageTemplate() {
+        LogEntry logEntry = LogEntry.builder()
+                .messageTemplate("User {} login with password={}")
+                .arguments(new Object[]{"alice", "secret123"})
+                .level(LogLevel.INFO)
+                .build();
+
+        boolean shouldFilter = filter.shouldFilter(logEntry);
+        LogEntry filtered = filter.filter(logEntry);
+
+        assertThat(shouldFilter).isTrue();
+        assertThat(filtered.getMessage()).isEqualTo("User alice login with ***REDACTED***");
+        assertThat(filtered.getArguments()).isNull();
+    }
+
     @Test
     void shouldFilterTokenFromMessage() {
         LogEntry logEntry = LogEntry.builder()
@@ -110,4 +128,185 @@ class SensitiveDataLogFilterTest {
         assertThat(shouldFilter).isFalse();
         assertThat(filtered).isEqualTo(logEntry);
     }
+
+    @Test
+    void shouldRedactEveryMatchInMessage() {
+        LogEntry logEntry = LogEntry.builder()
+                .message("password=secret123 and token: abc123 for card 4532123456789012")
+                .level(LogLevel.INFO)
+                .build();
+
+        LogEntry filtered = filter.filter(logEntry);
+
+        assertThat(filtered.getMessage())
+                .isEqualTo("***REDACTED*** and ***REDACTED*** for card ***REDACTED***");
+    }
+
+    @Test
+    void shouldReturnSameEntryWhenNothingToRedact() {
+        LogEntry logEntry = LogEntry.builder()
+                .message("Normal log message without sensitive data")
+                .level(LogLevel.INFO)
+                .build();
+
+        LogEntry filtered = filter.filter(logEntry);
+
+        assertThat(filtered).isSameAs(logEntry);
+    }
+
+    @Test
+    void shouldRecompilePatternsWhenPropertiesChange() {
+        LogEntry logEntry = LogEntry.builder()
+                .message("Connecting with apikey=abc123")
+                .level(LogLevel.INFO)
+                .build();
+
+        assertThat(filter.shouldFilter(logEntry)).isFalse();
+
+        properties.setPatterns(List.of("(?i)apikey[\\s]*[:=][\\s]*\\S+"));
+
+        assertThat(filter.shouldFilter(logEntry)).isTrue();
+        assertThat(filter.filter(logEntry).getMessage()).isEqualTo("Connecting with ***REDACTED***");
+    }
+
+    @Test
+    void shouldIgnoreInvalidPatterns() {
+        properties.setPatterns(List.of("(unclosed", "(?i)password[\\s]*[:=][\\s]*\\S+"));
+
+        LogEntry logEntry = LogEntry.builder()
+                .message("User login with password=secret123")
+                .level(LogLevel.INFO)
+                .build();
+
+        assertThat(filter.shouldFilter(logEntry)).isTrue();
+        assertThat(filter.filter(logEntry).getMessage()).isEqualTo("User login with ***REDACTED***");
+    }
+
+    @Test
+    void shouldKeepPatternsWithGroupReferencesOutOfCombinedScan() {
+        properties.setPatterns(List.of(
+                "(?<key>secret)=\\S+",
+                "(?<key>token)=\\S+",
+                "(['\"])pin\\1",
+                "password=\\S+"));
+        filter = new SensitiveDataLogFilter(properties);
+
+        LogEntry logEntry = LogEntry.builder()
+                .message("secret=a token=b 'pin' \"pin' password=c")
+                .level(LogLevel.INFO)
+                .build();
+
+        assertThat(filter.shouldFilter(logEntry)).isTrue();
+        assertThat(filter.filter(logEntry).getMessage())
+                .isEqualTo("***REDACTED*** ***REDACTED*** ***REDACTED*** \"pin' ***REDACTED***");
+    }
+
+    @Test
+    void shouldRedactMetadataValues() {
+        Map<String, Object> metadata = Map.of(
+                "request", "POST /login password=secret123",
+                "userId", "user123"
+        );
+        LogEntry logEntry = LogEntry.builder()
+                .message("Login attempt")
+                .level(LogLevel.INFO)
+                .metadata(metadata)
+                .build();
+
+        boolean shouldFilter = filter.shouldFilter(logEntry);
+        LogEntry filtered = filter.filter(logEntry);
+
+        assertThat(shouldFilter).isTrue();
+        assertThat(filtered.getMessage()).isSameAs(logEntry.getMessage());
+        assertThat(filtered.getMetadata()).containsEntry("request", "POST /login ***REDACTED***");
+        assertThat(filtered.getMetadata()).containsEntry("userId", "user123");
+    }
+
+    @Test
+    void shouldAlwaysMaskConfiguredMetadataKeys() {
+        LogEntry logEntry = LogEntry.builder()
+                .message("Outgoing call")
+                .level(LogLevel.INFO)
+                .metadata(Map.of("Authorization", "Bearer eyJhbGciOi", "attempt", 2))
+                .build();
+
+        boolean shouldFilter = filter.shouldFilter(logEntry);
+        LogEntry filtered = filter.filter(logEntry);
+
+        assertThat(shouldFilter).isTrue();
+        assertThat(filtered.getMetadata()).containsEntry("Authorization", "***REDACTED***");
+        assertThat(filtered.getMetadata()).containsEntry("attempt", 2);
+    }
+
+    @Test
+    void shouldRenderEachMetadataValueOnceWhenApplied() {
+        AtomicInteger renders = new AtomicInteger();
+        Object request = new Object() {
+            @Override
+            public String toString() {
+                renders.incrementAndGet();
+                return "POST /login password=secret123";
+            }
+        };
+        LogEntry logEntry = LogEntry.builder()
+                .message("Login attempt")
+                .level(LogLevel.INFO)
+                .metadata(Map.of("request", request))
+                .build();
+
+        LogEntry filtered = filter.apply(logEntry);
+
+        assertThat(filtered.getMetadata()).containsEntry("request", "POST /login ***REDACTED***");
+        assertThat(renders.get()).isEqualTo(1);
+        assertThat(filter.apply(LogEntry.builder().message("Normal message").level(LogLevel.INFO).build()).getMessage())
+                .isEqualTo("Normal message");
+    }
+
+    @Test
+    void shouldKeepMetadataMapWhenNothingToRedact() {
+        Map<String, Object> metadata = Map.of("userId", "user123", "duration", 1250L);
+        LogEntry logEntry = LogEntry.builder()
+                .message("User login with password=secret123")
+                .level(LogLevel.INFO)
+                .metadata(metadata)
+                .build();
+
+        LogEntry filtered = filter.filter(logEntry);
+
+        assertThat(filtered.getMessage()).isEqualTo("User login with ***REDACTED***");
+        assertThat(filtered.getMetadata()).isSameAs(metadata);
+    }
+
+    @Test
+    void shouldRedactThrowableMessagesAndKeepStackTrace() {
+        IllegalStateException cause = new IllegalStateException("Rejected token: abc123def456");
+        RuntimeException exception = new RuntimeException("Login failed", cause);
+        LogEntry logEntry = LogEntry.builder()
+                .message("Login failed")
+                .level(LogLevel.ERROR)
+                .throwable(exception)
+                .build();
+
+        boolean shouldFilter = filter.shouldFilter(logEntry);
+        Throwable filtered = filter.filter(logEntry).getThrowable();
+
+        assertThat(shouldFilter).isTrue();
+        assertThat(filtered.toString()).isEqualTo("java.lang.RuntimeException: Login failed");
+        assertThat(filtered.getStackTrace()).isEqualTo(exception.getStackTrace());
+        assertThat(filtered.getCause().toString()).isEqualTo("java.lang.IllegalStateException: Rejected ***REDACTED***");
+    }
+
+    @Test
+    void shouldKeepThrowableWhenNothingToRedact() {
+        RuntimeException exception = new RuntimeException("Connection reset");
+        LogEntry logEntry = LogEntry.builder()
+                .message("User login with password=secret123")
+                .level(LogLevel.ERROR)
+                .throwable(exception)
+                .build();
+
+        LogEntry filtered = filter.filter(logEntry);
+
+        assertThat(filtered.getThrowable()).isSameAs(exception);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.SensitiveDataProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.redaction.SensitiveDataPrefilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SensitiveDataPrefilterTest {
+
+    private final SensitiveDataPrefilter prefilter =
+            SensitiveDataPrefilter.derive(new SensitiveDataProperties().getPatterns());
+
+    @Test
+    void shouldDeriveAnchorsFromDefaultPatterns() {
+        assertThat(prefilter.isPassThrough()).isFalse();
+    }
+
+    @Test
+    void shouldAcceptMessagesWithKeywordsInAnyCase() {
+        assertThat(prefilter.isCandidate("User login with PASSWORD=secret123")).isTrue();
+        assertThat(prefilter.isCandidate("Bearer Authorization: abc")).isTrue();
+        assertThat(prefilter.isCandidate("refresh-token: abc")).isTrue();
+    }
+
+    @Test
+    void shouldAcceptMessagesWithLongEnoughDigitRuns() {
+        assertThat(prefilter.isCandidate("Processing card 4532123456789012")).isTrue();
+        assertThat(prefilter.isCandidate("SSN 123-45-6789")).isTrue();
+    }
+
+    @Test
+    void shouldRejectMessagesWithoutCandidates() {
+        assertThat(prefilter.isCandidate("Order shipped to warehouse 3 after 12 ms")).isFalse();
+        assertThat(prefilter.isCandidate("Normal log message without sensitive data")).isFalse();
+        assertThat(prefilter.isCandidate("")).isFalse();
+    }
+
+    @Test
+    void shouldPassEverythingWhenAPatternHasNoAnchor() {
+        SensitiveDataPrefilter passThrough = SensitiveDataPrefilter.derive(List.of(
+                "(?i)password[\\s]*[:=][\\s]*\\S+",
+                "[a-z]+@[a-z]+\\.com"
+        ));
+
+        assertThat(passThrough.isPassThrough()).isTrue();
+        assertThat(passThrough.isCandidate("Normal log message")).isTrue();
+    }
+
+    @Test
+    void shouldNotTrustTopLevelAlternation() {
+        SensitiveDataPrefilter alternation = SensitiveDataPrefilter.derive(List.of("password=\\S+|pwd=\\S+"));
+
+        assertThat(alternation.isPassThrough()).isTrue();
+    }
+
+    @Test
+    void shouldDropOptionalTrailingLiteral() {
+        SensitiveDataPrefilter optional = SensitiveDataPrefilter.derive(List.of("(?i)secrets?=\\S+"));
+
+        assertThat(optional.isCandidate("secret=abc")).isTrue();
+        assertThat(optional.isCandidate("SeCrEt=abc")).isTrue();
+        assertThat(optional.isCandidate("secre=abc")).isFalse();
+    }
+}
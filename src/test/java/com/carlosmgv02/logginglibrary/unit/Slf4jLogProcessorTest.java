@@ -0,0 +1,177 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.read.ListAppender;
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.Slf4jLogProcessor;
+import com.carlosmgv02.logginglibrary.infrastructure.redaction.RedactedThrowable;
+import net.logstash.logback.argument.StructuredArgument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Slf4jLogProcessorTest {
+
+    private static final String LOGGER = "com.example.Slf4jLogProcessorTest";
+
+    private final Slf4jLogProcessor processor = new Slf4jLogProcessor();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(LOGGER);
+        appender.start();
+        logger.addAppender(appender);
+        MDC.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        MDC.clear();
+    }
+
+    @Test
+    void shouldPassMetadataAsStructuredArgumentsWithoutTouchingMdc() {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("orderId", 42L);
+        metadata.put("customer", "c-7");
+        processor.process(entry("Order {} created", LogLevel.INFO, metadata, null));
+
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getFormattedMessage()).isEqualTo("Order {} created");
+        assertThat(event.getMDCPropertyMap().containsKey("orderId")).isFalse();
+        assertThat(event.getMDCPropertyMap().get("traceId")).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        Object[] arguments = event.getArgumentArray();
+        assertThat(arguments[1]).isInstanceOf(StructuredArgument.class);
+        assertThat(arguments[1].toString()).isEqualTo("orderId=42");
+        assertThat(arguments[2].toString()).isEqualTo("customer=c-7");
+    }
+
+    @Test
+    void shouldNotLeakMetadataOrIdsIntoNextEntry() {
+        processor.process(entry("first", LogLevel.INFO, Map.of("orderId", "42"), null));
+        processor.process(LogEntry.builder().message("second").level(LogLevel.INFO).logger(LOGGER).build());
+
+        ILoggingEvent second = appender.list.get(1);
+        assertThat(second.getMDCPropertyMap().containsKey("orderId")).isFalse();
+        assertThat(second.getMDCPropertyMap().containsKey("traceId")).isFalse();
+        assertThat(second.getArgumentArray()).isNull();
+        assertThat(MDC.getCopyOfContextMap() == null || MDC.getCopyOfContextMap().isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldRestoreMdcValuesSetByApplication() {
+        MDC.put("traceId", "0af7651916cd43dd8448eb211c80319c");
+        MDC.put("requestPath", "/orders");
+
+        processor.process(entry("message", LogLevel.WARN, Map.of("orderId", "42"), null));
+
+        assertThat(appender.list.get(0).getMDCPropertyMap().get("traceId")).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(appender.list.get(0).getMDCPropertyMap().get("requestPath")).isEqualTo("/orders");
+        assertThat(MDC.get("traceId")).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+        assertThat(MDC.get("spanId")).isNull();
+    }
+
+    @Test
+    void shouldKeepThrowableWhenPassingMetadata() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        processor.process(entry("Payment failed", LogLevel.ERROR, Map.of("orderId", "42"), failure));
+
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getFormattedMessage()).isEqualTo("Payment failed");
+        assertThat(event.getThrowableProxy().getMessage()).isEqualTo("boom");
+    }
+
+    @Test
+    void shouldReportOriginalClassOfRedactedThrowables() {
+        IllegalStateException failure = new IllegalStateException("token=secret",
+                new IOException("connect failed for token=secret"));
+        failure.addSuppressed(new IllegalArgumentException("close failed for token=secret"));
+        Throwable redacted = RedactedThrowable.redact(failure, message -> message.replace("secret", "***"));
+        processor.process(entry("Payment failed", LogLevel.ERROR, Map.of(), redacted));
+
+        IThrowableProxy proxy = appender.list.get(0).getThrowableProxy();
+        assertThat(proxy.getClassName()).isEqualTo("java.lang.IllegalStateException");
+        assertThat(proxy.getMessage()).isEqualTo("token=***");
+        assertThat(proxy.getCause().getClassName()).isEqualTo("java.io.IOException");
+        assertThat(proxy.getSuppressed()[0].getClassName()).isEqualTo("java.lang.IllegalArgumentException");
+        String printed = ThrowableProxyUtil.asString(proxy);
+        assertThat(printed).doesNotContain(RedactedThrowable.class.getName());
+        assertThat(printed).doesNotContain("secret");
+    }
+
+    @Test
+    void shouldEmitEventWithEntryTimestampWithoutWritingThreadMdc() {
+        Instant timestamp = Instant.parse("2024-05-01T10:00:00.123Z");
+        processor.process(entry("Order created", LogLevel.INFO, Map.of("orderId", "42"), null).toBuilder()
+                .timestamp(timestamp)
+                .serviceName("orders")
+                .build());
+
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getTimeStamp()).isEqualTo(timestamp.toEpochMilli());
+        assertThat(event.getFormattedMessage()).isEqualTo("Order created");
+        assertThat(event.getArgumentArray()[0].toString()).isEqualTo("orderId=42");
+        assertThat(event.getMDCPropertyMap().get("serviceName")).isEqualTo("orders");
+        assertThat(event.getMDCPropertyMap().get("spanId")).isEqualTo("00f067aa0ba902b7");
+        assertThat(MDC.get("serviceName")).isNull();
+    }
+
+    @Test
+    void shouldUseMdcAndThreadNameCapturedWhereEntryWasLogged() {
+        MDC.put("requestPath", "/drainer");
+        processor.process(entry("Order created", LogLevel.INFO, Map.of(), null).toBuilder()
+                .contextMap(Map.of("requestPath", "/orders"))
+                .threadName("http-nio-8080-exec-1")
+                .build());
+
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getThreadName()).isEqualTo("http-nio-8080-exec-1");
+        assertThat(event.getMDCPropertyMap().get("requestPath")).isEqualTo("/orders");
+        assertThat(event.getMDCPropertyMap().get("traceId")).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(MDC.get("requestPath")).isEqualTo("/drainer");
+        assertThat(Thread.currentThread().getName()).isNotEqualTo("http-nio-8080-exec-1");
+    }
+
+    @Test
+    void shouldRespectLogbackLevelOfLogger() {
+        logger.setLevel(Level.WARN);
+        try {
+            processor.process(entry("ignored", LogLevel.INFO, Map.of(), null));
+            processor.process(entry("kept", LogLevel.ERROR, Map.of(), null));
+        } finally {
+            logger.setLevel(null);
+        }
+
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getLevel()).isEqualTo(Level.ERROR);
+    }
+
+    private static LogEntry entry(String message, LogLevel level, Map<String, Object> metadata, Throwable throwable) {
+        return LogEntry.builder()
+                .message(message)
+                .level(level)
+                .logger(LOGGER)
+                .traceId("4bf92f3577b34da6a3ce929d0e0e4736")
+                .spanId("00f067aa0ba902b7")
+                .metadata(metadata)
+                .throwable(throwable)
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.infrastructure.logstash.SpillJournal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpillJournalTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    private SpillJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void shouldReadRecordsInAppendOrderAcrossSegments() throws IOException {
+        journal = new SpillJournal(directory, SEGMENT_SIZE, 1024 * 1024);
+        for (int i = 0; i < 50; i++) {
+            append("record " + i);
+        }
+
+        assertThat(segmentFiles()).isGreaterThan(1L);
+        assertThat(journal.getPendingCount()).isEqualTo(50L);
+        assertThat(readAll()).hasSize(50);
+        journal.rollback();
+        assertThat(readAll().get(49)).isEqualTo("record 49");
+    }
+
+    @Test
+    void shouldDeleteReadSegmentsOnCommit() throws IOException {
+        journal = new SpillJournal(directory, SEGMENT_SIZE, 1024 * 1024);
+        for (int i = 0; i < 50; i++) {
+            append("record " + i);
+        }
+
+        readAll();
+        journal.commit();
+
+        assertThat(journal.isEmpty()).isTrue();
+        assertThat(segmentFiles()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldReadAgainAfterRollback() throws IOException {
+        journal = new SpillJournal(directory, SEGMENT_SIZE, 1024 * 1024);
+        append("first");
+        append("second");
+        append("third");
+
+        journal.advance();
+        journal.commit();
+        journal.advance();
+        journal.rollback();
+
+        assertThat(readAll()).containsExactly("second", "third");
+        assertThat(journal.getPendingCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldResumeFromLastCommitAfterReopening() throws IOException {
+        journal = new SpillJournal(directory, SEGMENT_SIZE, 1024 * 1024);
+        for (int i = 0; i < 20; i++) {
+            append("record " + i);
+        }
+        for (int i = 0; i < 12; i++) {
+            journal.advance();
+        }
+        journal.commit();
+        journal.close();
+
+        journal = new SpillJournal(directory, SEGMENT_SIZE, 1024 * 1024);
+        append("record 20");
+
+        assertThat(journal.getPendingCount()).isEqualTo(9L);
+        List<String> remaining = readAll();
+        assertThat(remaining.get(0)).isEqualTo("record 12");
+        assertThat(remaining.get(remaining.size() - 1)).isEqualTo("record 20");
+    }
+
+    @Test
+    void shouldEvictOldestSegmentWhenFull() throws IOException {
+        journal = new SpillJournal(directory, SEGMENT_SIZE, 2 * SEGMENT_SIZE);
+        for (int i = 0; i < 100; i++) {
+            append("record " + i);
+        }
+
+        List<String> remaining = readAll();
+        assertThat(segmentFiles()).isEqualTo(2L);
+        assertThat(journal.getEvictedCount()).isEqualTo(100L - remaining.size());
+        assertThat(remaining.get(remaining.size() - 1)).isEqualTo("record 99");
+        assertThat(remaining.get(0)).isNotEqualTo("record 0");
+    }
+
+    @Test
+    void shouldRejectRecordsLargerThanASegment() throws IOException {
+        journal = new SpillJournal(directory, SEGMENT_SIZE, 1024 * 1024);
+        byte[] record = new byte[SEGMENT_SIZE];
+
+        assertThat(journal.append(record, record.length)).isFalse();
+        assertThat(journal.isEmpty()).isTrue();
+    }
+
+    private void append(String record) throws IOException {
+        byte[] bytes = record.getBytes(StandardCharsets.UTF_8);
+        assertThat(journal.append(bytes, bytes.length)).isTrue();
+    }
+
+    private List<String> readAll() {
+        List<String> records = new ArrayList<>();
+        ByteBuffer record;
+        while ((record = journal.peek()) != null) {
+            records.add(StandardCharsets.UTF_8.decode(record).toString());
+            journal.advance();
+        }
+        return records;
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
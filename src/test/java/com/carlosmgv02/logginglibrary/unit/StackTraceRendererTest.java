@@ -0,0 +1,108 @@
+package com.carlosmgv02.logginglibrary.unit;
+
+import com.carlosmgv02.logginglibrary.domain.model.LogEntry;
+import com.carlosmgv02.logginglibrary.domain.model.LogLevel;
+import com.carlosmgv02.logginglibrary.infrastructure.adapter.ThrowableFingerprintFilter;
+import com.carlosmgv02.logginglibrary.infrastructure.config.LoggingProperties;
+import com.carlosmgv02.logginglibrary.infrastructure.file.RecordedThrowable;
+import com.carlosmgv02.logginglibrary.infrastructure.redaction.RedactedThrowable;
+import com.carlosmgv02.logginglibrary.infrastructure.stacktrace.StackTraceRenderer;
+import com.carlosmgv02.logginglibrary.infrastructure.stacktrace.ThrowableFingerprinter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StackTraceRendererTest {
+
+    private final StackTraceRenderer renderer = new StackTraceRenderer(16);
+
+    @Test
+    void shouldRenderLikePrintStackTrace() {
+        IllegalStateException failure = new IllegalStateException("payment failed", failCall("connection reset"));
+        failure.addSuppressed(new IOException("close failed"));
+
+        assertThat(renderer.render(failure)).isEqualTo(printed(failure));
+        // Rendered again from the cached frames, with the same text
+        assertThat(renderer.render(failure)).isEqualTo(printed(failure));
+    }
+
+    @Test
+    void shouldRenderNewMessagesWithCachedFrames() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            RuntimeException failure = failCall("attempt " + attempt);
+            String rendered = renderer.render(failure);
+
+            assertThat(rendered).isEqualTo(printed(failure));
+            assertThat(rendered).startsWith("java.io.UncheckedIOException: java.io.IOException: attempt " + attempt);
+        }
+    }
+
+    @Test
+    void shouldRenderRedactedAndRecordedThrowables() {
+        Throwable redacted = RedactedThrowable.redact(failCall("token=secret"), message -> message.replace("secret", "***"));
+        String recorded = "java.lang.IllegalStateException: boom\n\tat com.example.Service.run(Service.java:10)\n";
+
+        assertThat(renderer.render(redacted)).isEqualTo(printed(redacted));
+        assertThat(renderer.render(redacted)).doesNotContain("secret");
+        assertThat(renderer.render(new RecordedThrowable(recorded))).isEqualTo(recorded);
+    }
+
+    @Test
+    void shouldGiveSameFingerprintToSameErrorWithDifferentMessages() {
+        String first = ThrowableFingerprinter.fingerprint(failCall("timeout after 30s"));
+        String second = ThrowableFingerprinter.fingerprint(failCall("timeout after 31s"));
+
+        assertThat(first).hasSize(16);
+        assertThat(first).isEqualTo(second);
+        assertThat(ThrowableFingerprinter.fingerprint(new IllegalStateException("timeout after 30s")))
+                .isNotEqualTo(first);
+        assertThat(ThrowableFingerprinter.fingerprint(
+                RedactedThrowable.redact(failCall("token=secret"), message -> message.replace("secret", "***"))))
+                .isEqualTo(first);
+    }
+
+    @Test
+    void shouldAddFingerprintToEntriesWithThrowable() {
+        LoggingProperties properties = new LoggingProperties();
+        ThrowableFingerprintFilter filter = new ThrowableFingerprintFilter(properties);
+        RuntimeException failure = failCall("reset");
+        LogEntry entry = LogEntry.builder()
+                .message("Payment failed")
+                .level(LogLevel.ERROR)
+                .throwable(failure)
+                .metadata(Map.of("orderId", "42"))
+                .build();
+
+        // Opt-in
+        assertThat(filter.shouldFilter(entry)).isFalse();
+        properties.setErrorFingerprint(true);
+        assertThat(filter.shouldFilter(entry)).isTrue();
+        LogEntry fingerprinted = filter.filter(entry);
+
+        assertThat(fingerprinted.getMetadata().get("errorFingerprint")).isEqualTo(ThrowableFingerprinter.fingerprint(failure));
+        assertThat(fingerprinted.getMetadata().get("orderId")).isEqualTo("42");
+        assertThat(fingerprinted.getMessage()).isEqualTo("Payment failed");
+        assertThat(filter.shouldFilter(fingerprinted)).isFalse();
+        assertThat(filter.shouldFilter(LogEntry.builder().message("ok").level(LogLevel.INFO).build())).isFalse();
+    }
+
+    private static RuntimeException failCall(String message) {
+        try {
+            throw new IOException(message);
+        } catch (IOException e) {
+            return new UncheckedIOException(e);
+        }
+    }
+
+    private static String printed(Throwable throwable) {
+        StringWriter out = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(out));
+        return out.toString();
+    }
+}